@@ -0,0 +1,586 @@
+package com.vbolide.array;
+
+import java.util.Arrays;
+
+/**
+ * Immutable membership structure built once from an array by {@code ArrayUtil.buildIndex(..)}, for arrays that are queried
+ * over and over again.
+ * <p>
+ * The layout is chosen by the shape of the distinct values, see {@linkplain Strategy}. Lookups never box, instances are
+ * thread safe and, unlike a {@linkplain java.util.HashSet}, store the values in flat primitive arrays.
+ *
+ * @author Vamshi Byagari
+ */
+public abstract class ArrayIndex {
+
+	/**
+	 * above this many distinct values an {@linkplain Strategy#HASH} index is preferred over {@linkplain Strategy#SORTED_ARRAY}.
+	 */
+	static final int SORTED_ARRAY_LIMIT = 128;
+
+	/**
+	 * Layout of an {@linkplain ArrayIndex}.
+     * <ul>
+     * <li>{@linkplain #BITSET}<br></li>
+     * <li>{@linkplain #SORTED_ARRAY}<br></li>
+     * <li>{@linkplain #HASH}<br></li>
+     * </ul>
+	 * @author Vamshi Byagari
+	 */
+	public enum Strategy{
+		/**
+		 * one bit per value between the minimum and the maximum, chosen when that range is at most 64 times the distinct values. O(1) lookups.
+		 */
+		BITSET,
+
+		/**
+		 * distinct values in ascending order searched with a branch-free binary search, chosen for few values spread over a wide range. O(log n) lookups.
+		 */
+		SORTED_ARRAY,
+
+		/**
+		 * open addressing hash table with linear probing at a load factor of at most 0.5. O(1) lookups.
+		 */
+		HASH
+	}
+
+	ArrayIndex() {}
+
+	/**
+	 * @return layout of this index.
+	 */
+	public abstract Strategy getStrategy();
+
+	/**
+	 * @return number of distinct values in this index.
+	 */
+	public abstract int size();
+
+
+	/**
+	 * {@linkplain ArrayIndex} of {@code byte}, {@code short}, {@code char} and {@code int} arrays.
+	 * @author Vamshi Byagari
+	 */
+	public abstract static class OfInt extends ArrayIndex {
+
+		OfInt() {}
+
+		/**
+		 * @param value value to look up.
+		 * @return <b>true</b> if the value is in the index, <b>false</b> otherwise.
+		 */
+		public abstract boolean contains(int value);
+	}
+
+	/**
+	 * {@linkplain ArrayIndex} of {@code long} arrays.
+	 * @author Vamshi Byagari
+	 */
+	public abstract static class OfLong extends ArrayIndex {
+
+		OfLong() {}
+
+		/**
+		 * @param value value to look up.
+		 * @return <b>true</b> if the value is in the index, <b>false</b> otherwise.
+		 */
+		public abstract boolean contains(long value);
+	}
+
+	/**
+	 * {@linkplain ArrayIndex} of {@code float} arrays, with the semantics of {@code ==}: {@code NaN} is never contained and both zeros are equal.
+	 * @author Vamshi Byagari
+	 */
+	public static final class OfFloat extends ArrayIndex {
+
+		private final OfInt bits;
+
+		OfFloat(final OfInt bits) {
+			this.bits = bits;
+		}
+
+		/**
+		 * @param value value to look up.
+		 * @return <b>true</b> if the value is in the index, <b>false</b> otherwise.
+		 */
+		public boolean contains(final float value) {
+			return value == value && bits.contains(key(value));
+		}
+
+		@Override
+		public Strategy getStrategy() {
+			return bits.getStrategy();
+		}
+
+		@Override
+		public int size() {
+			return bits.size();
+		}
+
+		static int key(final float value) {
+			return value == 0 ? 0 : Float.floatToRawIntBits(value);
+		}
+	}
+
+	/**
+	 * {@linkplain ArrayIndex} of {@code double} arrays, with the semantics of {@code ==}: {@code NaN} is never contained and both zeros are equal.
+	 * @author Vamshi Byagari
+	 */
+	public static final class OfDouble extends ArrayIndex {
+
+		private final OfLong bits;
+
+		OfDouble(final OfLong bits) {
+			this.bits = bits;
+		}
+
+		/**
+		 * @param value value to look up.
+		 * @return <b>true</b> if the value is in the index, <b>false</b> otherwise.
+		 */
+		public boolean contains(final double value) {
+			return value == value && bits.contains(key(value));
+		}
+
+		@Override
+		public Strategy getStrategy() {
+			return bits.getStrategy();
+		}
+
+		@Override
+		public int size() {
+			return bits.size();
+		}
+
+		static long key(final double value) {
+			return value == 0 ? 0 : Double.doubleToRawLongBits(value);
+		}
+	}
+
+	/**
+	 * {@linkplain Strategy#HASH} {@linkplain ArrayIndex} of {@linkplain String} arrays, looked up by the characters of any {@linkplain CharSequence}.
+	 * @author Vamshi Byagari
+	 */
+	public static final class OfString extends ArrayIndex {
+
+		private final String[] keys;
+		private final int[] hashes;
+		private final int mask;
+		private final int shift;
+		private final int size;
+
+		OfString(final String[] values) {
+			String[] distinct = Arrays.stream(values).filter(value -> value != null).distinct().toArray(String[]::new);
+			int capacity = tableSize(distinct.length);
+			this.keys = new String[capacity];
+			this.hashes = new int[capacity];
+			this.mask = capacity - 1;
+			this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+			this.size = distinct.length;
+			for (String value : distinct) {
+				int hash = value.hashCode();
+				int slot = slot(hash);
+				while (keys[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = value;
+				hashes[slot] = hash;
+			}
+		}
+
+		/**
+		 * @param value characters to look up.
+		 * @return <b>true</b> if a value with the same characters is in the index, <b>false</b> otherwise.
+		 */
+		public boolean contains(final CharSequence value) {
+			if(value == null) {
+				return false;
+			}
+			int hash;
+			if(value instanceof String) {
+				hash = value.hashCode();
+			}else {
+				hash = 0;
+				for (int i = 0, length = value.length(); i < length; i++) {
+					hash = 31 * hash + value.charAt(i);
+				}
+			}
+			for (int slot = slot(hash); keys[slot] != null; slot = (slot + 1) & mask) {
+				if(hashes[slot] == hash && contentEquals(keys[slot], value)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public Strategy getStrategy() {
+			return Strategy.HASH;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		private int slot(final int hash) {
+			return (hash * 0x9E3779B9) >>> shift;
+		}
+
+		private static boolean contentEquals(final String key, final CharSequence value) {
+			if(value instanceof String) {
+				return key.equals(value);
+			}
+			int length = key.length();
+			if(length != value.length()) {
+				return false;
+			}
+			for (int i = 0; i < length; i++) {
+				if(key.charAt(i) != value.charAt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+
+	/**
+	 * builds the index of the distinct values, the input array is sorted in place.
+	 */
+	static OfInt ofInts(final int[] values) {
+		int[] distinct = distinct(values);
+		int size = distinct.length;
+		if(size > 0) {
+			long range = (long) distinct[size - 1] - distinct[0] + 1;
+			if(range <= 64L * size) {
+				return new IntBitSet(distinct, range);
+			}
+		}
+		if(size <= SORTED_ARRAY_LIMIT) {
+			return new IntSortedArray(distinct);
+		}
+		return new IntHash(distinct);
+	}
+
+	/**
+	 * builds the index of the distinct values, the input array is sorted in place.
+	 */
+	static OfLong ofLongs(final long[] values) {
+		long[] distinct = distinct(values);
+		int size = distinct.length;
+		if(size > 0) {
+			long range = distinct[size - 1] - distinct[0] + 1;
+			// range <= 0 means the subtraction overflowed
+			if(range > 0 && range <= 64L * size) {
+				return new LongBitSet(distinct, range);
+			}
+		}
+		if(size <= SORTED_ARRAY_LIMIT) {
+			return new LongSortedArray(distinct);
+		}
+		return new LongHash(distinct);
+	}
+
+	private static int[] distinct(final int[] values) {
+		Arrays.sort(values);
+		int size = 0;
+		for (int i = 0; i < values.length; i++) {
+			if(size == 0 || values[size - 1] != values[i]) {
+				values[size++] = values[i];
+			}
+		}
+		return Arrays.copyOf(values, size);
+	}
+
+	private static long[] distinct(final long[] values) {
+		Arrays.sort(values);
+		int size = 0;
+		for (int i = 0; i < values.length; i++) {
+			if(size == 0 || values[size - 1] != values[i]) {
+				values[size++] = values[i];
+			}
+		}
+		return Arrays.copyOf(values, size);
+	}
+
+	/**
+	 * @return power of two table length keeping the load factor at most 0.5.
+	 */
+	private static int tableSize(final int size) {
+		return Math.max(Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1, 2);
+	}
+
+
+	private static final class IntBitSet extends OfInt {
+
+		private final int min;
+		private final long range;
+		private final long[] words;
+		private final int size;
+
+		IntBitSet(final int[] distinct, final long range) {
+			this.min = distinct[0];
+			this.range = range;
+			this.words = new long[(int) ((range + 63) >>> 6)];
+			this.size = distinct.length;
+			for (int value : distinct) {
+				long offset = (long) value - min;
+				words[(int) (offset >>> 6)] |= 1L << offset;
+			}
+		}
+
+		@Override
+		public boolean contains(final int value) {
+			long offset = (long) value - min;
+			return offset >= 0 && offset < range && (words[(int) (offset >>> 6)] & (1L << offset)) != 0;
+		}
+
+		@Override
+		public Strategy getStrategy() {
+			return Strategy.BITSET;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	private static final class IntSortedArray extends OfInt {
+
+		private final int[] values;
+
+		IntSortedArray(final int[] distinct) {
+			this.values = distinct;
+		}
+
+		@Override
+		public boolean contains(final int value) {
+			int[] sorted = values;
+			int length = sorted.length;
+			if(length == 0) {
+				return false;
+			}
+			// the candidate is the last element <= value, the ternary compiles to a conditional move
+			int base = 0;
+			while (length > 1) {
+				int half = length >>> 1;
+				base = sorted[base + half] <= value ? base + half : base;
+				length -= half;
+			}
+			return sorted[base] == value;
+		}
+
+		@Override
+		public Strategy getStrategy() {
+			return Strategy.SORTED_ARRAY;
+		}
+
+		@Override
+		public int size() {
+			return values.length;
+		}
+	}
+
+	private static final class IntHash extends OfInt {
+
+		/**
+		 * 0 marks an empty slot, whether 0 itself is contained is kept aside.
+		 */
+		private final int[] table;
+		private final int shift;
+		private final boolean containsZero;
+		private final int size;
+
+		IntHash(final int[] distinct) {
+			int capacity = tableSize(distinct.length);
+			this.table = new int[capacity];
+			this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(capacity);
+			this.size = distinct.length;
+			boolean zero = false;
+			int mask = capacity - 1;
+			for (int value : distinct) {
+				if(value == 0) {
+					zero = true;
+					continue;
+				}
+				int slot = slot(value);
+				while (table[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				table[slot] = value;
+			}
+			this.containsZero = zero;
+		}
+
+		@Override
+		public boolean contains(final int value) {
+			if(value == 0) {
+				return containsZero;
+			}
+			int mask = table.length - 1;
+			for (int slot = slot(value); ; slot = (slot + 1) & mask) {
+				int key = table[slot];
+				if(key == value) {
+					return true;
+				}
+				if(key == 0) {
+					return false;
+				}
+			}
+		}
+
+		/**
+		 * fibonacci hashing, the upper bits of the product are the best mixed ones.
+		 */
+		private int slot(final int value) {
+			return (value * 0x9E3779B9) >>> shift;
+		}
+
+		@Override
+		public Strategy getStrategy() {
+			return Strategy.HASH;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	private static final class LongBitSet extends OfLong {
+
+		private final long min;
+		private final long range;
+		private final long[] words;
+		private final int size;
+
+		LongBitSet(final long[] distinct, final long range) {
+			this.min = distinct[0];
+			this.range = range;
+			this.words = new long[(int) ((range + 63) >>> 6)];
+			this.size = distinct.length;
+			for (long value : distinct) {
+				long offset = value - min;
+				words[(int) (offset >>> 6)] |= 1L << offset;
+			}
+		}
+
+		@Override
+		public boolean contains(final long value) {
+			long offset = value - min;
+			// unsigned comparison also rejects values whose subtraction overflowed
+			return Long.compareUnsigned(offset, range) < 0 && (words[(int) (offset >>> 6)] & (1L << offset)) != 0;
+		}
+
+		@Override
+		public Strategy getStrategy() {
+			return Strategy.BITSET;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	private static final class LongSortedArray extends OfLong {
+
+		private final long[] values;
+
+		LongSortedArray(final long[] distinct) {
+			this.values = distinct;
+		}
+
+		@Override
+		public boolean contains(final long value) {
+			long[] sorted = values;
+			int length = sorted.length;
+			if(length == 0) {
+				return false;
+			}
+			int base = 0;
+			while (length > 1) {
+				int half = length >>> 1;
+				base = sorted[base + half] <= value ? base + half : base;
+				length -= half;
+			}
+			return sorted[base] == value;
+		}
+
+		@Override
+		public Strategy getStrategy() {
+			return Strategy.SORTED_ARRAY;
+		}
+
+		@Override
+		public int size() {
+			return values.length;
+		}
+	}
+
+	private static final class LongHash extends OfLong {
+
+		/**
+		 * 0 marks an empty slot, whether 0 itself is contained is kept aside.
+		 */
+		private final long[] table;
+		private final int shift;
+		private final boolean containsZero;
+		private final int size;
+
+		LongHash(final long[] distinct) {
+			int capacity = tableSize(distinct.length);
+			this.table = new long[capacity];
+			this.shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+			this.size = distinct.length;
+			boolean zero = false;
+			int mask = capacity - 1;
+			for (long value : distinct) {
+				if(value == 0) {
+					zero = true;
+					continue;
+				}
+				int slot = slot(value);
+				while (table[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				table[slot] = value;
+			}
+			this.containsZero = zero;
+		}
+
+		@Override
+		public boolean contains(final long value) {
+			if(value == 0) {
+				return containsZero;
+			}
+			int mask = table.length - 1;
+			for (int slot = slot(value); ; slot = (slot + 1) & mask) {
+				long key = table[slot];
+				if(key == value) {
+					return true;
+				}
+				if(key == 0) {
+					return false;
+				}
+			}
+		}
+
+		private int slot(final long value) {
+			return (int) ((value * 0x9E3779B97F4A7C15L) >>> shift);
+		}
+
+		@Override
+		public Strategy getStrategy() {
+			return Strategy.HASH;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+}
@@ -0,0 +1,533 @@
+package com.vbolide.array;
+
+import java.util.Arrays;
+
+/**
+ * Kind of an array object, with length, element access, copy and comparison operations for arrays of that kind.
+ * <p>
+ * {@linkplain #of(Object)} classifies an array by its runtime class once, the result is cached per {@linkplain Class}
+ * through a {@linkplain ClassValue}, so later lookups cost a single map probe instead of a chain of {@code instanceof}
+ * checks. Each constant implements the operations with a cast to its own array type, which the JIT compiles to the same code
+ * as direct array access once a call site only sees one kind.
+ * <ul>
+ * <li>{@linkplain #BOOLEAN}<br></li>
+ * <li>{@linkplain #BYTE}<br></li>
+ * <li>{@linkplain #SHORT}<br></li>
+ * <li>{@linkplain #CHAR}<br></li>
+ * <li>{@linkplain #INT}<br></li>
+ * <li>{@linkplain #LONG}<br></li>
+ * <li>{@linkplain #FLOAT}<br></li>
+ * <li>{@linkplain #DOUBLE}<br></li>
+ * <li>{@linkplain #OBJECT}<br></li>
+ * <li>{@linkplain #NONE}<br></li>
+ * </ul>
+ *
+ * @author Vamshi Byagari
+ */
+public enum ArrayKind {
+
+	/**
+	 * <b>boolean[]</b>
+	 */
+	BOOLEAN("boolean[]") {
+		@Override
+		public int length(final Object array) {
+			return ((boolean[]) array).length;
+		}
+
+		@Override
+		public Object get(final Object array, final int index) {
+			return ((boolean[]) array)[index];
+		}
+
+		@Override
+		public void set(final Object array, final int index, final Object value) {
+			((boolean[]) array)[index] = (Boolean) value;
+		}
+
+		@Override
+		public Object copyOf(final Object array, final int length) {
+			return Arrays.copyOf((boolean[]) array, length);
+		}
+
+		@Override
+		public boolean contentEquals(final Object first, final Object second) {
+			return second instanceof boolean[] && Arrays.equals((boolean[]) first, (boolean[]) second);
+		}
+
+		@Override
+		public int contentHashCode(final Object array) {
+			return Arrays.hashCode((boolean[]) array);
+		}
+
+		@Override
+		public String contentToString(final Object array) {
+			return Arrays.toString((boolean[]) array);
+		}
+	},
+
+	/**
+	 * <b>byte[]</b>
+	 */
+	BYTE("byte[]") {
+		@Override
+		public int length(final Object array) {
+			return ((byte[]) array).length;
+		}
+
+		@Override
+		public Object get(final Object array, final int index) {
+			return ((byte[]) array)[index];
+		}
+
+		@Override
+		public void set(final Object array, final int index, final Object value) {
+			((byte[]) array)[index] = (Byte) value;
+		}
+
+		@Override
+		public Object copyOf(final Object array, final int length) {
+			return Arrays.copyOf((byte[]) array, length);
+		}
+
+		@Override
+		public boolean contentEquals(final Object first, final Object second) {
+			return second instanceof byte[] && Arrays.equals((byte[]) first, (byte[]) second);
+		}
+
+		@Override
+		public int contentHashCode(final Object array) {
+			return Arrays.hashCode((byte[]) array);
+		}
+
+		@Override
+		public String contentToString(final Object array) {
+			return Arrays.toString((byte[]) array);
+		}
+	},
+
+	/**
+	 * <b>short[]</b>
+	 */
+	SHORT("short[]") {
+		@Override
+		public int length(final Object array) {
+			return ((short[]) array).length;
+		}
+
+		@Override
+		public Object get(final Object array, final int index) {
+			return ((short[]) array)[index];
+		}
+
+		@Override
+		public void set(final Object array, final int index, final Object value) {
+			((short[]) array)[index] = (Short) value;
+		}
+
+		@Override
+		public Object copyOf(final Object array, final int length) {
+			return Arrays.copyOf((short[]) array, length);
+		}
+
+		@Override
+		public boolean contentEquals(final Object first, final Object second) {
+			return second instanceof short[] && Arrays.equals((short[]) first, (short[]) second);
+		}
+
+		@Override
+		public int contentHashCode(final Object array) {
+			return Arrays.hashCode((short[]) array);
+		}
+
+		@Override
+		public String contentToString(final Object array) {
+			return Arrays.toString((short[]) array);
+		}
+	},
+
+	/**
+	 * <b>char[]</b>
+	 */
+	CHAR("char[]") {
+		@Override
+		public int length(final Object array) {
+			return ((char[]) array).length;
+		}
+
+		@Override
+		public Object get(final Object array, final int index) {
+			return ((char[]) array)[index];
+		}
+
+		@Override
+		public void set(final Object array, final int index, final Object value) {
+			((char[]) array)[index] = (Character) value;
+		}
+
+		@Override
+		public Object copyOf(final Object array, final int length) {
+			return Arrays.copyOf((char[]) array, length);
+		}
+
+		@Override
+		public boolean contentEquals(final Object first, final Object second) {
+			return second instanceof char[] && Arrays.equals((char[]) first, (char[]) second);
+		}
+
+		@Override
+		public int contentHashCode(final Object array) {
+			return Arrays.hashCode((char[]) array);
+		}
+
+		@Override
+		public String contentToString(final Object array) {
+			return Arrays.toString((char[]) array);
+		}
+	},
+
+	/**
+	 * <b>int[]</b>
+	 */
+	INT("int[]") {
+		@Override
+		public int length(final Object array) {
+			return ((int[]) array).length;
+		}
+
+		@Override
+		public Object get(final Object array, final int index) {
+			return ((int[]) array)[index];
+		}
+
+		@Override
+		public void set(final Object array, final int index, final Object value) {
+			((int[]) array)[index] = (Integer) value;
+		}
+
+		@Override
+		public Object copyOf(final Object array, final int length) {
+			return Arrays.copyOf((int[]) array, length);
+		}
+
+		@Override
+		public boolean contentEquals(final Object first, final Object second) {
+			return second instanceof int[] && Arrays.equals((int[]) first, (int[]) second);
+		}
+
+		@Override
+		public int contentHashCode(final Object array) {
+			return Arrays.hashCode((int[]) array);
+		}
+
+		@Override
+		public String contentToString(final Object array) {
+			return Arrays.toString((int[]) array);
+		}
+	},
+
+	/**
+	 * <b>long[]</b>
+	 */
+	LONG("long[]") {
+		@Override
+		public int length(final Object array) {
+			return ((long[]) array).length;
+		}
+
+		@Override
+		public Object get(final Object array, final int index) {
+			return ((long[]) array)[index];
+		}
+
+		@Override
+		public void set(final Object array, final int index, final Object value) {
+			((long[]) array)[index] = (Long) value;
+		}
+
+		@Override
+		public Object copyOf(final Object array, final int length) {
+			return Arrays.copyOf((long[]) array, length);
+		}
+
+		@Override
+		public boolean contentEquals(final Object first, final Object second) {
+			return second instanceof long[] && Arrays.equals((long[]) first, (long[]) second);
+		}
+
+		@Override
+		public int contentHashCode(final Object array) {
+			return Arrays.hashCode((long[]) array);
+		}
+
+		@Override
+		public String contentToString(final Object array) {
+			return Arrays.toString((long[]) array);
+		}
+	},
+
+	/**
+	 * <b>float[]</b>
+	 */
+	FLOAT("float[]") {
+		@Override
+		public int length(final Object array) {
+			return ((float[]) array).length;
+		}
+
+		@Override
+		public Object get(final Object array, final int index) {
+			return ((float[]) array)[index];
+		}
+
+		@Override
+		public void set(final Object array, final int index, final Object value) {
+			((float[]) array)[index] = (Float) value;
+		}
+
+		@Override
+		public Object copyOf(final Object array, final int length) {
+			return Arrays.copyOf((float[]) array, length);
+		}
+
+		@Override
+		public boolean contentEquals(final Object first, final Object second) {
+			return second instanceof float[] && Arrays.equals((float[]) first, (float[]) second);
+		}
+
+		@Override
+		public int contentHashCode(final Object array) {
+			return Arrays.hashCode((float[]) array);
+		}
+
+		@Override
+		public String contentToString(final Object array) {
+			return Arrays.toString((float[]) array);
+		}
+	},
+
+	/**
+	 * <b>double[]</b>
+	 */
+	DOUBLE("double[]") {
+		@Override
+		public int length(final Object array) {
+			return ((double[]) array).length;
+		}
+
+		@Override
+		public Object get(final Object array, final int index) {
+			return ((double[]) array)[index];
+		}
+
+		@Override
+		public void set(final Object array, final int index, final Object value) {
+			((double[]) array)[index] = (Double) value;
+		}
+
+		@Override
+		public Object copyOf(final Object array, final int length) {
+			return Arrays.copyOf((double[]) array, length);
+		}
+
+		@Override
+		public boolean contentEquals(final Object first, final Object second) {
+			return second instanceof double[] && Arrays.equals((double[]) first, (double[]) second);
+		}
+
+		@Override
+		public int contentHashCode(final Object array) {
+			return Arrays.hashCode((double[]) array);
+		}
+
+		@Override
+		public String contentToString(final Object array) {
+			return Arrays.toString((double[]) array);
+		}
+	},
+
+	/**
+	 * <b>Object[]</b>, any array of references such as {@code String[]} or {@code int[][]}, compared element by element with {@linkplain Object#equals(Object)}.
+	 */
+	OBJECT("Object[]") {
+		@Override
+		public int length(final Object array) {
+			return ((Object[]) array).length;
+		}
+
+		@Override
+		public Object get(final Object array, final int index) {
+			return ((Object[]) array)[index];
+		}
+
+		@Override
+		public void set(final Object array, final int index, final Object value) {
+			((Object[]) array)[index] = value;
+		}
+
+		@Override
+		public Object copyOf(final Object array, final int length) {
+			return Arrays.copyOf((Object[]) array, length);
+		}
+
+		@Override
+		public boolean contentEquals(final Object first, final Object second) {
+			return second instanceof Object[] && Arrays.equals((Object[]) first, (Object[]) second);
+		}
+
+		@Override
+		public int contentHashCode(final Object array) {
+			return Arrays.hashCode((Object[]) array);
+		}
+
+		@Override
+		public String contentToString(final Object array) {
+			return Arrays.toString((Object[]) array);
+		}
+	},
+
+	/**
+	 * not an array ({@code null} or any other object), treated as an empty array: its length is 0 and it holds no elements.
+	 */
+	NONE("") {
+		@Override
+		public int length(final Object array) {
+			return 0;
+		}
+
+		@Override
+		public Object get(final Object array, final int index) {
+			throw new ArrayIndexOutOfBoundsException(index);
+		}
+
+		@Override
+		public void set(final Object array, final int index, final Object value) {
+			throw new ArrayIndexOutOfBoundsException(index);
+		}
+
+		@Override
+		public Object copyOf(final Object array, final int length) {
+			throw new IllegalArgumentException("not an array");
+		}
+
+		@Override
+		public boolean contentEquals(final Object first, final Object second) {
+			return first == null ? second == null : first.equals(second);
+		}
+
+		@Override
+		public int contentHashCode(final Object array) {
+			return array == null ? 0 : array.hashCode();
+		}
+
+		@Override
+		public String contentToString(final Object array) {
+			return String.valueOf(array);
+		}
+	};
+
+	private static final ClassValue<ArrayKind> KINDS = new ClassValue<ArrayKind>() {
+		@Override
+		protected ArrayKind computeValue(final Class<?> type) {
+			Class<?> component = type.getComponentType();
+			if(component == null) {
+				return NONE;
+			}
+			if(!component.isPrimitive()) {
+				return OBJECT;
+			}
+			if(component == boolean.class) {
+				return BOOLEAN;
+			}
+			if(component == byte.class) {
+				return BYTE;
+			}
+			if(component == short.class) {
+				return SHORT;
+			}
+			if(component == char.class) {
+				return CHAR;
+			}
+			if(component == int.class) {
+				return INT;
+			}
+			if(component == long.class) {
+				return LONG;
+			}
+			if(component == float.class) {
+				return FLOAT;
+			}
+			return DOUBLE;
+		}
+	};
+
+	public final String label;
+
+	private ArrayKind(final String label) {
+		this.label = label;
+	}
+
+
+	/**
+	 * @param array any object.
+	 * @return kind of the array, {@linkplain #NONE} for {@code null} and objects that are not arrays.
+	 */
+	public static ArrayKind of(final Object array) {
+		return array == null ? NONE : KINDS.get(array.getClass());
+	}
+
+	/**
+	 * @param type any class.
+	 * @return kind of arrays of the class, {@linkplain #NONE} for classes that are not array classes.
+	 */
+	public static ArrayKind of(final Class<?> type) {
+		return type == null ? NONE : KINDS.get(type);
+	}
+
+	/**
+	 * @param array array of this kind.
+	 * @return number of elements.
+	 */
+	public abstract int length(Object array);
+
+	/**
+	 * @param array array of this kind.
+	 * @param index position of the element.
+	 * @return element at the index, boxed for primitive arrays.
+	 */
+	public abstract Object get(Object array, int index);
+
+	/**
+	 * @param array array of this kind.
+	 * @param index position of the element.
+	 * @param value new element, unboxed for primitive arrays.
+	 */
+	public abstract void set(Object array, int index, Object value);
+
+	/**
+	 * @param array array of this kind.
+	 * @param length length of the copy, elements beyond the array length are the default value.
+	 * @return copy of the array of the same runtime type.
+	 */
+	public abstract Object copyOf(Object array, int length);
+
+	/**
+	 * @param first array of this kind.
+	 * @param second any object.
+	 * @return <b>true</b> if second is an array of this kind with equal elements, like {@linkplain Arrays#equals(int[], int[])}, <b>false</b> otherwise.
+	 */
+	public abstract boolean contentEquals(Object first, Object second);
+
+	/**
+	 * @param array array of this kind.
+	 * @return hash of the elements, like {@linkplain Arrays#hashCode(int[])}.
+	 */
+	public abstract int contentHashCode(Object array);
+
+	/**
+	 * @param array array of this kind.
+	 * @return elements in brackets, like {@linkplain Arrays#toString(int[])}.
+	 */
+	public abstract String contentToString(Object array);
+
+}
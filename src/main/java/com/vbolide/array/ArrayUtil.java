@@ -1,6 +1,13 @@
 package com.vbolide.array;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.PatternSyntaxException;
+
 import com.vbolide.exception.InvalidParameterException;
+import com.vbolide.result.Result;
 import com.vbolide.validation.ValidationUtil;
 
 /**
@@ -10,37 +17,112 @@ import com.vbolide.validation.ValidationUtil;
  */
 public class ArrayUtil {
 
+	/**
+	 * above this many item and element comparisons the batch lookups sort (or hash) the array once instead of scanning it per item.
+	 */
+	private static final long BATCH_SCAN_LIMIT = 1 << 12;
+
 	private ArrayUtil() { }
 
 
 	/**
-	 * size of primitives data type arrays if non null else zero.
+	 * size of arrays if non null else zero, the array type is classified once per class through {@linkplain ArrayKind}.
 	 * 
-	 * @param obj array of primitives data type like {@code byte}, {@code short}, {@code char}, {@code int}, {@code long}, {@code float}, {@code double} and {@code String}
-	 * @return size of array
+	 * @param obj array of any type, e.g. of primitives data type like {@code boolean}, {@code byte}, {@code short}, {@code char}, {@code int}, {@code long}, {@code float}, {@code double} or objects like {@code String}
+	 * @return size of array, zero for {@code null} and objects that are not arrays
 	 */
 	public static int size(final Object obj) {
-		if(obj == null)
-			return 0;
-
-		if(obj instanceof byte[])
-			return ((byte[])obj).length;
-		if(obj instanceof short[])
-			return ((short[])obj).length;
-		if(obj instanceof char[])
-			return ((char[])obj).length;
-		if(obj instanceof int[])
-			return ((int[])obj).length;
-		if(obj instanceof long[])
-			return ((long[])obj).length;
-		if(obj instanceof float[])
-			return ((float[])obj).length;
-		if(obj instanceof double[])
-			return ((double[])obj).length;
-		if(obj instanceof String[])
-			return ((String[])obj).length;
-
-		return 0;
+		return ArrayKind.of(obj).length(obj);
+	}
+
+	/**
+	 * size of <b>boolean</b> array if non null else zero, resolved at compile time without any type check.
+	 * 
+	 * @param array array of <b>boolean</b>.
+	 * @return size of array
+	 */
+	public static int size(final boolean[] array) {
+		return array == null ? 0 : array.length;
+	}
+
+	/**
+	 * size of <b>byte</b> array if non null else zero, resolved at compile time without any type check.
+	 * 
+	 * @param array array of <b>byte</b>.
+	 * @return size of array
+	 */
+	public static int size(final byte[] array) {
+		return array == null ? 0 : array.length;
+	}
+
+	/**
+	 * size of <b>short</b> array if non null else zero, resolved at compile time without any type check.
+	 * 
+	 * @param array array of <b>short</b>.
+	 * @return size of array
+	 */
+	public static int size(final short[] array) {
+		return array == null ? 0 : array.length;
+	}
+
+	/**
+	 * size of <b>char</b> array if non null else zero, resolved at compile time without any type check.
+	 * 
+	 * @param array array of <b>char</b>.
+	 * @return size of array
+	 */
+	public static int size(final char[] array) {
+		return array == null ? 0 : array.length;
+	}
+
+	/**
+	 * size of <b>int</b> array if non null else zero, resolved at compile time without any type check.
+	 * 
+	 * @param array array of <b>int</b>.
+	 * @return size of array
+	 */
+	public static int size(final int[] array) {
+		return array == null ? 0 : array.length;
+	}
+
+	/**
+	 * size of <b>long</b> array if non null else zero, resolved at compile time without any type check.
+	 * 
+	 * @param array array of <b>long</b>.
+	 * @return size of array
+	 */
+	public static int size(final long[] array) {
+		return array == null ? 0 : array.length;
+	}
+
+	/**
+	 * size of <b>float</b> array if non null else zero, resolved at compile time without any type check.
+	 * 
+	 * @param array array of <b>float</b>.
+	 * @return size of array
+	 */
+	public static int size(final float[] array) {
+		return array == null ? 0 : array.length;
+	}
+
+	/**
+	 * size of <b>double</b> array if non null else zero, resolved at compile time without any type check.
+	 * 
+	 * @param array array of <b>double</b>.
+	 * @return size of array
+	 */
+	public static int size(final double[] array) {
+		return array == null ? 0 : array.length;
+	}
+
+	/**
+	 * size of <b>Object</b> array if non null else zero, resolved at compile time without any type check.
+	 * 
+	 * @param array array of <b>Object</b>.
+	 * @return size of array
+	 */
+	public static int size(final Object[] array) {
+		return array == null ? 0 : array.length;
 	}
 
 	/**
@@ -56,113 +138,65 @@ public class ArrayUtil {
 			throw new InvalidParameterException("parameter item and/or array invalid");
 		}
 		if(item instanceof Byte) {
-			byte byteItem = (byte) item;
 			if(arrayObject instanceof byte[]) {
-				byte[] byteArray = (byte[]) arrayObject;
-				for (byte b : byteArray) {
-					if(b == byteItem) {
-						return true;
-					}
-				}
-				return false;
+				byte[] array = (byte[]) arrayObject;
+				return contains((byte) item, array, 0, array.length);
 			}else {
 				throw new InvalidParameterException("item and array are not compatible types");
 			}
 		}
 		if(item instanceof Short) {
-			short shortItem = (short) item;
 			if(arrayObject instanceof short[]) {
-				short[] shortArray = (short[]) arrayObject;
-				for (short s : shortArray) {
-					if(s == shortItem) {
-						return true;
-					}
-				}
-				return false;
+				short[] array = (short[]) arrayObject;
+				return contains((short) item, array, 0, array.length);
 			}else {
 				throw new InvalidParameterException("item and array are not compatible types");
 			}
 		}
 		if(item instanceof Character) {
-			char charItem = (char) item;
 			if(arrayObject instanceof char[]) {
-				char[] charArray = (char[]) arrayObject;
-				for (char c : charArray) {
-					if(c == charItem) {
-						return true;
-					}
-				}
-				return false;
+				char[] array = (char[]) arrayObject;
+				return contains((char) item, array, 0, array.length);
 			}else {
 				throw new InvalidParameterException("item and array are not compatible types");
 			}
 		}
 		if(item instanceof Integer) {
-			int intItem = (int) item;
 			if(arrayObject instanceof int[]) {
-				int[] intArray = (int[]) arrayObject;
-				for (int i : intArray) {
-					if(i == intItem) {
-						return true;
-					}
-				}
-				return false;
+				int[] array = (int[]) arrayObject;
+				return contains((int) item, array, 0, array.length);
 			}else {
 				throw new InvalidParameterException("item and array are not compatible types");
 			}
 		}
 		if(item instanceof Long) {
-			long longItem = (long) item;
 			if(arrayObject instanceof long[]) {
-				long[] longArray = (long[]) arrayObject;
-				for (long b : longArray) {
-					if(b == longItem) {
-						return true;
-					}
-				}
-				return false;
+				long[] array = (long[]) arrayObject;
+				return contains((long) item, array, 0, array.length);
 			}else {
 				throw new InvalidParameterException("item and array are not compatible types");
 			}
 		}
 		if(item instanceof Float) {
-			float floatItem = (float) item;
 			if(arrayObject instanceof float[]) {
-				float[] floatArray = (float[]) arrayObject;
-				for (float b : floatArray) {
-					if(b == floatItem) {
-						return true;
-					}
-				}
-				return false;
+				float[] array = (float[]) arrayObject;
+				return contains((float) item, array, 0, array.length);
 			}else {
 				throw new InvalidParameterException("item and array are not compatible types");
 			}
 		}
 		if(item instanceof Double) {
-			double doubleItem = (double) item;
 			if(arrayObject instanceof double[]) {
-				double[] doubleArray = (double[]) arrayObject;
-				for (double b : doubleArray) {
-					if(b == doubleItem) {
-						return true;
-					}
-				}
-				return false;
+				double[] array = (double[]) arrayObject;
+				return contains((double) item, array, 0, array.length);
 			}else {
 				throw new InvalidParameterException("item and array are not compatible types");
 			}
 		}
 		if(item instanceof String) {
-			String stringItem = (String) item;
 			if(arrayObject instanceof String[]) {
-				String[] stringArray = (String[]) arrayObject;
-				for (String s : stringArray) {
-					if(s.equals(stringItem)) {
-						return true;
-					}
-				}
-				return false;
+				String[] array = (String[]) arrayObject;
+				return contains((String) item, array, 0, array.length);
 			}else {
 				throw new InvalidParameterException("item and array are not compatible types");
 			}
@@ -170,6 +204,839 @@ public class ArrayUtil {
 		return false;
 	}
 
+	/*
+	 * type specialized membership search, no boxing and no type dispatch per call.
+	 */
+
+	/**
+	 * checks whether the <b>byte</b> item is available in the array.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static boolean hasItem(final byte item, final byte[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return contains(item, array, 0, array.length);
+	}
+
+	/**
+	 * checks whether the <b>byte</b> item is available in the range of the array.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @param from index of the first element searched (inclusive).
+	 * @param to index of the last element searched (exclusive).
+	 * @return <ul><li><b>true</b> if item exists in the range</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static boolean hasItem(final byte item, final byte[] array, final int from, final int to) throws InvalidParameterException{
+		checkRange(array == null ? -1 : array.length, from, to);
+		return contains(item, array, from, to);
+	}
+
+	/**
+	 * checks for every <b>byte</b> item whether it is available in the array.
+	 * 
+	 * @param items items to find in array.
+	 * @param array array from which items to find.
+	 * @return {@linkplain BitSet} in which bit <b>i</b> is set if <b>items[i]</b> exists.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BitSet hasItems(final byte[] items, final byte[] array) throws InvalidParameterException{
+		if(items == null || array == null) {
+			throw new InvalidParameterException("parameter items and/or array invalid");
+		}
+		BitSet result = new BitSet(items.length);
+		if((long) items.length * array.length <= BATCH_SCAN_LIMIT) {
+			for (int i = 0; i < items.length; i++) {
+				if(contains(items[i], array, 0, array.length)) {
+					result.set(i);
+				}
+			}
+		}else {
+			byte[] sorted = array.clone();
+			Arrays.sort(sorted);
+			for (int i = 0; i < items.length; i++) {
+				if(Arrays.binarySearch(sorted, items[i]) >= 0) {
+					result.set(i);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * checks whether the <b>short</b> item is available in the array.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static boolean hasItem(final short item, final short[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return contains(item, array, 0, array.length);
+	}
+
+	/**
+	 * checks whether the <b>short</b> item is available in the range of the array.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @param from index of the first element searched (inclusive).
+	 * @param to index of the last element searched (exclusive).
+	 * @return <ul><li><b>true</b> if item exists in the range</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static boolean hasItem(final short item, final short[] array, final int from, final int to) throws InvalidParameterException{
+		checkRange(array == null ? -1 : array.length, from, to);
+		return contains(item, array, from, to);
+	}
+
+	/**
+	 * checks for every <b>short</b> item whether it is available in the array.
+	 * 
+	 * @param items items to find in array.
+	 * @param array array from which items to find.
+	 * @return {@linkplain BitSet} in which bit <b>i</b> is set if <b>items[i]</b> exists.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BitSet hasItems(final short[] items, final short[] array) throws InvalidParameterException{
+		if(items == null || array == null) {
+			throw new InvalidParameterException("parameter items and/or array invalid");
+		}
+		BitSet result = new BitSet(items.length);
+		if((long) items.length * array.length <= BATCH_SCAN_LIMIT) {
+			for (int i = 0; i < items.length; i++) {
+				if(contains(items[i], array, 0, array.length)) {
+					result.set(i);
+				}
+			}
+		}else {
+			short[] sorted = array.clone();
+			Arrays.sort(sorted);
+			for (int i = 0; i < items.length; i++) {
+				if(Arrays.binarySearch(sorted, items[i]) >= 0) {
+					result.set(i);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * checks whether the <b>char</b> item is available in the array.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static boolean hasItem(final char item, final char[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return contains(item, array, 0, array.length);
+	}
+
+	/**
+	 * checks whether the <b>char</b> item is available in the range of the array.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @param from index of the first element searched (inclusive).
+	 * @param to index of the last element searched (exclusive).
+	 * @return <ul><li><b>true</b> if item exists in the range</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static boolean hasItem(final char item, final char[] array, final int from, final int to) throws InvalidParameterException{
+		checkRange(array == null ? -1 : array.length, from, to);
+		return contains(item, array, from, to);
+	}
+
+	/**
+	 * checks for every <b>char</b> item whether it is available in the array.
+	 * 
+	 * @param items items to find in array.
+	 * @param array array from which items to find.
+	 * @return {@linkplain BitSet} in which bit <b>i</b> is set if <b>items[i]</b> exists.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BitSet hasItems(final char[] items, final char[] array) throws InvalidParameterException{
+		if(items == null || array == null) {
+			throw new InvalidParameterException("parameter items and/or array invalid");
+		}
+		BitSet result = new BitSet(items.length);
+		if((long) items.length * array.length <= BATCH_SCAN_LIMIT) {
+			for (int i = 0; i < items.length; i++) {
+				if(contains(items[i], array, 0, array.length)) {
+					result.set(i);
+				}
+			}
+		}else {
+			char[] sorted = array.clone();
+			Arrays.sort(sorted);
+			for (int i = 0; i < items.length; i++) {
+				if(Arrays.binarySearch(sorted, items[i]) >= 0) {
+					result.set(i);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * checks whether the <b>int</b> item is available in the array.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static boolean hasItem(final int item, final int[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return contains(item, array, 0, array.length);
+	}
+
+	/**
+	 * checks whether the <b>int</b> item is available in the range of the array.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @param from index of the first element searched (inclusive).
+	 * @param to index of the last element searched (exclusive).
+	 * @return <ul><li><b>true</b> if item exists in the range</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static boolean hasItem(final int item, final int[] array, final int from, final int to) throws InvalidParameterException{
+		checkRange(array == null ? -1 : array.length, from, to);
+		return contains(item, array, from, to);
+	}
+
+	/**
+	 * checks for every <b>int</b> item whether it is available in the array.
+	 * 
+	 * @param items items to find in array.
+	 * @param array array from which items to find.
+	 * @return {@linkplain BitSet} in which bit <b>i</b> is set if <b>items[i]</b> exists.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BitSet hasItems(final int[] items, final int[] array) throws InvalidParameterException{
+		if(items == null || array == null) {
+			throw new InvalidParameterException("parameter items and/or array invalid");
+		}
+		BitSet result = new BitSet(items.length);
+		if((long) items.length * array.length <= BATCH_SCAN_LIMIT) {
+			for (int i = 0; i < items.length; i++) {
+				if(contains(items[i], array, 0, array.length)) {
+					result.set(i);
+				}
+			}
+		}else {
+			int[] sorted = array.clone();
+			Arrays.sort(sorted);
+			for (int i = 0; i < items.length; i++) {
+				if(Arrays.binarySearch(sorted, items[i]) >= 0) {
+					result.set(i);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * checks whether the <b>long</b> item is available in the array.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static boolean hasItem(final long item, final long[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return contains(item, array, 0, array.length);
+	}
+
+	/**
+	 * checks whether the <b>long</b> item is available in the range of the array.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @param from index of the first element searched (inclusive).
+	 * @param to index of the last element searched (exclusive).
+	 * @return <ul><li><b>true</b> if item exists in the range</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static boolean hasItem(final long item, final long[] array, final int from, final int to) throws InvalidParameterException{
+		checkRange(array == null ? -1 : array.length, from, to);
+		return contains(item, array, from, to);
+	}
+
+	/**
+	 * checks for every <b>long</b> item whether it is available in the array.
+	 * 
+	 * @param items items to find in array.
+	 * @param array array from which items to find.
+	 * @return {@linkplain BitSet} in which bit <b>i</b> is set if <b>items[i]</b> exists.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BitSet hasItems(final long[] items, final long[] array) throws InvalidParameterException{
+		if(items == null || array == null) {
+			throw new InvalidParameterException("parameter items and/or array invalid");
+		}
+		BitSet result = new BitSet(items.length);
+		if((long) items.length * array.length <= BATCH_SCAN_LIMIT) {
+			for (int i = 0; i < items.length; i++) {
+				if(contains(items[i], array, 0, array.length)) {
+					result.set(i);
+				}
+			}
+		}else {
+			long[] sorted = array.clone();
+			Arrays.sort(sorted);
+			for (int i = 0; i < items.length; i++) {
+				if(Arrays.binarySearch(sorted, items[i]) >= 0) {
+					result.set(i);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * checks whether the <b>float</b> item is available in the array.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static boolean hasItem(final float item, final float[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return contains(item, array, 0, array.length);
+	}
+
+	/**
+	 * checks whether the <b>float</b> item is available in the range of the array.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @param from index of the first element searched (inclusive).
+	 * @param to index of the last element searched (exclusive).
+	 * @return <ul><li><b>true</b> if item exists in the range</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static boolean hasItem(final float item, final float[] array, final int from, final int to) throws InvalidParameterException{
+		checkRange(array == null ? -1 : array.length, from, to);
+		return contains(item, array, from, to);
+	}
+
+	/**
+	 * checks for every <b>float</b> item whether it is available in the array.
+	 * 
+	 * @param items items to find in array.
+	 * @param array array from which items to find.
+	 * @return {@linkplain BitSet} in which bit <b>i</b> is set if <b>items[i]</b> exists.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BitSet hasItems(final float[] items, final float[] array) throws InvalidParameterException{
+		if(items == null || array == null) {
+			throw new InvalidParameterException("parameter items and/or array invalid");
+		}
+		BitSet result = new BitSet(items.length);
+		if((long) items.length * array.length <= BATCH_SCAN_LIMIT) {
+			for (int i = 0; i < items.length; i++) {
+				if(contains(items[i], array, 0, array.length)) {
+					result.set(i);
+				}
+			}
+		}else {
+			// == semantics: NaN is never found and both zeros are equal, while Arrays.sort orders -0.0 before 0.0
+			float[] sorted = array.clone();
+			for (int i = 0; i < sorted.length; i++) {
+				if(sorted[i] == 0) {
+					sorted[i] = 0;
+				}
+			}
+			Arrays.sort(sorted);
+			for (int i = 0; i < items.length; i++) {
+				float key = items[i] == 0 ? 0 : items[i];
+				if(key == key && Arrays.binarySearch(sorted, key) >= 0) {
+					result.set(i);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * checks whether the <b>double</b> item is available in the array.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static boolean hasItem(final double item, final double[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return contains(item, array, 0, array.length);
+	}
+
+	/**
+	 * checks whether the <b>double</b> item is available in the range of the array.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @param from index of the first element searched (inclusive).
+	 * @param to index of the last element searched (exclusive).
+	 * @return <ul><li><b>true</b> if item exists in the range</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static boolean hasItem(final double item, final double[] array, final int from, final int to) throws InvalidParameterException{
+		checkRange(array == null ? -1 : array.length, from, to);
+		return contains(item, array, from, to);
+	}
+
+	/**
+	 * checks for every <b>double</b> item whether it is available in the array.
+	 * 
+	 * @param items items to find in array.
+	 * @param array array from which items to find.
+	 * @return {@linkplain BitSet} in which bit <b>i</b> is set if <b>items[i]</b> exists.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BitSet hasItems(final double[] items, final double[] array) throws InvalidParameterException{
+		if(items == null || array == null) {
+			throw new InvalidParameterException("parameter items and/or array invalid");
+		}
+		BitSet result = new BitSet(items.length);
+		if((long) items.length * array.length <= BATCH_SCAN_LIMIT) {
+			for (int i = 0; i < items.length; i++) {
+				if(contains(items[i], array, 0, array.length)) {
+					result.set(i);
+				}
+			}
+		}else {
+			// == semantics: NaN is never found and both zeros are equal, while Arrays.sort orders -0.0 before 0.0
+			double[] sorted = array.clone();
+			for (int i = 0; i < sorted.length; i++) {
+				if(sorted[i] == 0) {
+					sorted[i] = 0;
+				}
+			}
+			Arrays.sort(sorted);
+			for (int i = 0; i < items.length; i++) {
+				double key = items[i] == 0 ? 0 : items[i];
+				if(key == key && Arrays.binarySearch(sorted, key) >= 0) {
+					result.set(i);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * checks whether the {@linkplain String} item is available in the array, {@code null} elements are skipped.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static boolean hasItem(final String item, final String[] array) throws InvalidParameterException{
+		if(item == null || array == null) {
+			throw new InvalidParameterException("parameter item and/or array invalid");
+		}
+		return contains(item, array, 0, array.length);
+	}
+
+	/**
+	 * checks whether the {@linkplain String} item is available in the range of the array, {@code null} elements are skipped.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @param from index of the first element searched (inclusive).
+	 * @param to index of the last element searched (exclusive).
+	 * @return <ul><li><b>true</b> if item exists in the range</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static boolean hasItem(final String item, final String[] array, final int from, final int to) throws InvalidParameterException{
+		if(item == null) {
+			throw new InvalidParameterException("parameter item invalid");
+		}
+		checkRange(array == null ? -1 : array.length, from, to);
+		return contains(item, array, from, to);
+	}
+
+	/**
+	 * checks for every {@linkplain String} item whether it is available in the array.
+	 * 
+	 * @param items items to find in array, {@code null} items are never found.
+	 * @param array array from which items to find.
+	 * @return {@linkplain BitSet} in which bit <b>i</b> is set if <b>items[i]</b> exists.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BitSet hasItems(final String[] items, final String[] array) throws InvalidParameterException{
+		if(items == null || array == null) {
+			throw new InvalidParameterException("parameter items and/or array invalid");
+		}
+		BitSet result = new BitSet(items.length);
+		if((long) items.length * array.length <= BATCH_SCAN_LIMIT) {
+			for (int i = 0; i < items.length; i++) {
+				if(items[i] != null && contains(items[i], array, 0, array.length)) {
+					result.set(i);
+				}
+			}
+		}else {
+			Set<String> lookup = new HashSet<>(Arrays.asList(array));
+			for (int i = 0; i < items.length; i++) {
+				if(items[i] != null && lookup.contains(items[i])) {
+					result.set(i);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * checks whether an element with the same characters as the item is available in the array, {@code null} elements are skipped.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static boolean hasItem(final CharSequence item, final CharSequence[] array) throws InvalidParameterException{
+		if(item == null || array == null) {
+			throw new InvalidParameterException("parameter item and/or array invalid");
+		}
+		return contains(item, array, 0, array.length);
+	}
+
+	/**
+	 * checks whether an element with the same characters as the item is available in the range of the array, {@code null} elements are skipped.
+	 * 
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @param from index of the first element searched (inclusive).
+	 * @param to index of the last element searched (exclusive).
+	 * @return <ul><li><b>true</b> if item exists in the range</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static boolean hasItem(final CharSequence item, final CharSequence[] array, final int from, final int to) throws InvalidParameterException{
+		if(item == null) {
+			throw new InvalidParameterException("parameter item invalid");
+		}
+		checkRange(array == null ? -1 : array.length, from, to);
+		return contains(item, array, from, to);
+	}
+
+
+	/**
+	 * validates that [from, to) is a range of an array of the length, a negative length stands for a {@code null} array.
+	 */
+	static void checkRange(final int length, final int from, final int to) throws InvalidParameterException{
+		if(length < 0) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		if(from < 0 || to > length || from > to) {
+			throw new InvalidParameterException("parameter from and/or to out of range");
+		}
+	}
+
+	private static boolean contains(final byte item, final byte[] array, final int from, final int to) {
+		int i = from;
+		for (int last = to - 4; i <= last; i += 4) {
+			if((array[i] == item) | (array[i + 1] == item) | (array[i + 2] == item) | (array[i + 3] == item)) {
+				return true;
+			}
+		}
+		for (; i < to; i++) {
+			if(array[i] == item) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean contains(final short item, final short[] array, final int from, final int to) {
+		int i = from;
+		for (int last = to - 4; i <= last; i += 4) {
+			if((array[i] == item) | (array[i + 1] == item) | (array[i + 2] == item) | (array[i + 3] == item)) {
+				return true;
+			}
+		}
+		for (; i < to; i++) {
+			if(array[i] == item) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean contains(final char item, final char[] array, final int from, final int to) {
+		int i = from;
+		for (int last = to - 4; i <= last; i += 4) {
+			if((array[i] == item) | (array[i + 1] == item) | (array[i + 2] == item) | (array[i + 3] == item)) {
+				return true;
+			}
+		}
+		for (; i < to; i++) {
+			if(array[i] == item) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean contains(final int item, final int[] array, final int from, final int to) {
+		int i = from;
+		for (int last = to - 4; i <= last; i += 4) {
+			if((array[i] == item) | (array[i + 1] == item) | (array[i + 2] == item) | (array[i + 3] == item)) {
+				return true;
+			}
+		}
+		for (; i < to; i++) {
+			if(array[i] == item) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean contains(final long item, final long[] array, final int from, final int to) {
+		int i = from;
+		for (int last = to - 4; i <= last; i += 4) {
+			if((array[i] == item) | (array[i + 1] == item) | (array[i + 2] == item) | (array[i + 3] == item)) {
+				return true;
+			}
+		}
+		for (; i < to; i++) {
+			if(array[i] == item) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean contains(final float item, final float[] array, final int from, final int to) {
+		int i = from;
+		for (int last = to - 4; i <= last; i += 4) {
+			if((array[i] == item) | (array[i + 1] == item) | (array[i + 2] == item) | (array[i + 3] == item)) {
+				return true;
+			}
+		}
+		for (; i < to; i++) {
+			if(array[i] == item) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean contains(final double item, final double[] array, final int from, final int to) {
+		int i = from;
+		for (int last = to - 4; i <= last; i += 4) {
+			if((array[i] == item) | (array[i + 1] == item) | (array[i + 2] == item) | (array[i + 3] == item)) {
+				return true;
+			}
+		}
+		for (; i < to; i++) {
+			if(array[i] == item) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean contains(final String item, final String[] array, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if(item.equals(array[i])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean contains(final CharSequence item, final CharSequence[] array, final int from, final int to) {
+		int length = item.length();
+		for (int i = from; i < to; i++) {
+			CharSequence element = array[i];
+			if(element != null && element.length() == length && contentEquals(item, element, length)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean contentEquals(final CharSequence first, final CharSequence second, final int length) {
+		if(first instanceof String && second instanceof String) {
+			return first.equals(second);
+		}
+		for (int i = 0; i < length; i++) {
+			if(first.charAt(i) != second.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * prebuilt membership indexes for arrays queried many times.
+	 */
+
+	/**
+	 * builds an immutable {@linkplain ArrayIndex} of the <b>byte</b> array for repeated membership queries, the array itself is not modified.
+	 * 
+	 * @param array values of the index.
+	 * @return {@linkplain ArrayIndex.OfInt} with a layout chosen by the shape of the values.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static ArrayIndex.OfInt buildIndex(final byte[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		int[] values = new int[array.length];
+		for (int i = 0; i < array.length; i++) {
+			values[i] = array[i];
+		}
+		return ArrayIndex.ofInts(values);
+	}
+
+	/**
+	 * builds an immutable {@linkplain ArrayIndex} of the <b>short</b> array for repeated membership queries, the array itself is not modified.
+	 * 
+	 * @param array values of the index.
+	 * @return {@linkplain ArrayIndex.OfInt} with a layout chosen by the shape of the values.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static ArrayIndex.OfInt buildIndex(final short[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		int[] values = new int[array.length];
+		for (int i = 0; i < array.length; i++) {
+			values[i] = array[i];
+		}
+		return ArrayIndex.ofInts(values);
+	}
+
+	/**
+	 * builds an immutable {@linkplain ArrayIndex} of the <b>char</b> array for repeated membership queries, the array itself is not modified.
+	 * 
+	 * @param array values of the index.
+	 * @return {@linkplain ArrayIndex.OfInt} with a layout chosen by the shape of the values.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static ArrayIndex.OfInt buildIndex(final char[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		int[] values = new int[array.length];
+		for (int i = 0; i < array.length; i++) {
+			values[i] = array[i];
+		}
+		return ArrayIndex.ofInts(values);
+	}
+
+	/**
+	 * builds an immutable {@linkplain ArrayIndex} of the <b>int</b> array for repeated membership queries, the array itself is not modified.
+	 * 
+	 * @param array values of the index.
+	 * @return {@linkplain ArrayIndex.OfInt} with a layout chosen by the shape of the values.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static ArrayIndex.OfInt buildIndex(final int[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return ArrayIndex.ofInts(array.clone());
+	}
+
+	/**
+	 * builds an immutable {@linkplain ArrayIndex} of the <b>long</b> array for repeated membership queries, the array itself is not modified.
+	 * 
+	 * @param array values of the index.
+	 * @return {@linkplain ArrayIndex.OfLong} with a layout chosen by the shape of the values.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static ArrayIndex.OfLong buildIndex(final long[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return ArrayIndex.ofLongs(array.clone());
+	}
+
+	/**
+	 * builds an immutable {@linkplain ArrayIndex} of the <b>float</b> array for repeated membership queries, the array itself is not modified.
+	 * 
+	 * @param array values of the index.
+	 * @return {@linkplain ArrayIndex.OfFloat} with a layout chosen by the shape of the values.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static ArrayIndex.OfFloat buildIndex(final float[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		int[] keys = new int[array.length];
+		int size = 0;
+		for (float value : array) {
+			if(value == value) {
+				keys[size++] = ArrayIndex.OfFloat.key(value);
+			}
+		}
+		return new ArrayIndex.OfFloat(ArrayIndex.ofInts(Arrays.copyOf(keys, size)));
+	}
+
+	/**
+	 * builds an immutable {@linkplain ArrayIndex} of the <b>double</b> array for repeated membership queries, the array itself is not modified.
+	 * 
+	 * @param array values of the index.
+	 * @return {@linkplain ArrayIndex.OfDouble} with a layout chosen by the shape of the values.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static ArrayIndex.OfDouble buildIndex(final double[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		long[] keys = new long[array.length];
+		int size = 0;
+		for (double value : array) {
+			if(value == value) {
+				keys[size++] = ArrayIndex.OfDouble.key(value);
+			}
+		}
+		return new ArrayIndex.OfDouble(ArrayIndex.ofLongs(Arrays.copyOf(keys, size)));
+	}
+
+	/**
+	 * builds an immutable {@linkplain ArrayIndex} of the {@linkplain String} array ({@code null} elements are skipped) for repeated membership queries, the array itself is not modified.
+	 * 
+	 * @param array values of the index.
+	 * @return {@linkplain ArrayIndex.OfString} with a layout chosen by the shape of the values.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static ArrayIndex.OfString buildIndex(final String[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return new ArrayIndex.OfString(array);
+	}
+
 	/**
 	 * Delimiters that are most commonly used to append strings, 
 	 * used as a parameter for {@linkplain ArrayUtil#arrayFromParameterSeperatedString(ArrayDelimeter, String)} and
@@ -259,37 +1126,23 @@ public class ArrayUtil {
 	 * @param inputs variable arguments of {@code String}.
 	 * @return {@linkplain String} formed by appending parameter to in-between each string in array.
 	 * @throws InvalidParameterException input parameters are invalid.
+	 * @see DelimitedJoiner
 	 */
 	public static String parameterSeperatedStringFromArray(final ArrayDelimeter arrayDelimeter, final String... inputs) throws InvalidParameterException{
-		if(arrayDelimeter != null && size(inputs) > 0) {
-			StringBuilder result = new StringBuilder();
-			for (String input : inputs) {
-				if(result.length() == 0) {
-					result.append(input);
-				}else {
-					result.append(arrayDelimeter.label);
-					result.append(input);
-				}
-			}
-			return result.toString();
-		}else {
-			throw new InvalidParameterException("invalid parameters provided");
-		}
+		return tryParameterSeperatedStringFromArray(arrayDelimeter, inputs).orElseThrow();
 	}
 
 	/**
-	 * forms a {@code String} array from {@code String} by using {@linkplain String#split(String)} with provided parameter. 
-	 * @param parameter used to split string.
+	 * forms a {@code String} array from {@code String} by splitting on the literal delimiter, with the semantics of {@linkplain String#split(String)}
+	 * (trailing empty strings removed) but without regular expressions.
+	 * @param arrayDelimeter used to split string.
 	 * @param input source string.
 	 * @return an array of {@code String} which is splitted using the parameter provided.
 	 * @throws InvalidParameterException input parameters are invalid.
+	 * @see DelimitedSplitter
 	 */
 	public static String[] arrayFromParameterSeperatedString(final ArrayDelimeter arrayDelimeter, final String input) throws InvalidParameterException{
-		if(arrayDelimeter != null &&  ValidationUtil.isValidString(input)) {
-			return input.split(arrayDelimeter.label);
-		}else {
-			throw new InvalidParameterException("invalid parameters provided");
-		}
+		return tryArrayFromParameterSeperatedString(arrayDelimeter, input).orElseThrow();
 	}
 
 	/**
@@ -298,22 +1151,10 @@ public class ArrayUtil {
 	 * @param inputs variable arguments of {@code String}.
 	 * @return {@linkplain String} formed by appending parameter to in-between each string in array.
 	 * @throws InvalidParameterException input parameters are invalid.
+	 * @see DelimitedJoiner
 	 */
 	public static String parameterSeperatedStringFromArray(final String parameter, final String... inputs) throws InvalidParameterException{
-		if(ValidationUtil.isValidString(parameter) && size(inputs) > 0) {
-			StringBuilder result = new StringBuilder();
-			for (String input : inputs) {
-				if(result.length() == 0) {
-					result.append(input);
-				}else {
-					result.append(parameter);
-					result.append(input);
-				}
-			}
-			return result.toString();
-		}else {
-			throw new InvalidParameterException("invalid parameters provided");
-		}
+		return tryParameterSeperatedStringFromArray(parameter, inputs).orElseThrow();
 	}
 
 	/**
@@ -321,13 +1162,77 @@ public class ArrayUtil {
 	 * @param parameter used to split string.
 	 * @param input source string.
 	 * @return an array of {@code String} which is splitted using the parameter provided.
-	 * @throws InvalidParameterException input parameters are invalid.
+	 * @throws InvalidParameterException input parameters are invalid, also for a parameter that is not a valid regular expression.
 	 */
 	public static String[] arrayFromParameterSeperatedString(final String parameter, final String input) throws InvalidParameterException{
-		if(ValidationUtil.isValidString(parameter, input)) {
-			return input.split(parameter);
-		}else {
-			throw new InvalidParameterException("invalid parameters provided");
+		return tryArrayFromParameterSeperatedString(parameter, input).orElseThrow();
+	}
+
+
+	/**
+	 * {@linkplain #parameterSeperatedStringFromArray(ArrayDelimeter, String...)} that returns an error instead of throwing.
+	 * @param arrayDelimeter used to join strings.
+	 * @param inputs variable arguments of {@code String}.
+	 * @return joined {@linkplain String}, or the error of invalid input parameters.
+	 */
+	public static Result<String> tryParameterSeperatedStringFromArray(final ArrayDelimeter arrayDelimeter, final String... inputs) {
+		if(arrayDelimeter != null && size(inputs) > 0) {
+			try {
+				return Result.ok(DelimitedJoiner.join(arrayDelimeter.label, inputs));
+			}catch (InvalidParameterException e) {
+				// only for a result longer than the maximum array size
+				return Result.error(e.getMessage());
+			}
+		}
+		return Result.error("invalid parameters provided");
+	}
+
+	/**
+	 * {@linkplain #arrayFromParameterSeperatedString(ArrayDelimeter, String)} that returns an error instead of throwing.
+	 * @param arrayDelimeter used to split string.
+	 * @param input source string.
+	 * @return split strings, or the error of invalid input parameters.
+	 */
+	public static Result<String[]> tryArrayFromParameterSeperatedString(final ArrayDelimeter arrayDelimeter, final String input) {
+		if(arrayDelimeter != null && ValidationUtil.hasText(input)) {
+			return Result.ok(DelimitedSplitter.fields(input, arrayDelimeter.label));
+		}
+		return Result.error("invalid parameters provided");
+	}
+
+	/**
+	 * {@linkplain #parameterSeperatedStringFromArray(String, String...)} that returns an error instead of throwing.
+	 * @param parameter used to join strings.
+	 * @param inputs variable arguments of {@code String}.
+	 * @return joined {@linkplain String}, or the error of invalid input parameters.
+	 */
+	public static Result<String> tryParameterSeperatedStringFromArray(final String parameter, final String... inputs) {
+		if(ValidationUtil.hasText(parameter) && size(inputs) > 0) {
+			try {
+				return Result.ok(DelimitedJoiner.join(parameter, inputs));
+			}catch (InvalidParameterException e) {
+				// only for a result longer than the maximum array size
+				return Result.error(e.getMessage());
+			}
+		}
+		return Result.error("invalid parameters provided");
+	}
+
+	/**
+	 * {@linkplain #arrayFromParameterSeperatedString(String, String)} that returns an error instead of throwing, also for a
+	 * parameter that is not a valid regular expression.
+	 * @param parameter used to split string.
+	 * @param input source string.
+	 * @return split strings, or the error of invalid input parameters.
+	 */
+	public static Result<String[]> tryArrayFromParameterSeperatedString(final String parameter, final String input) {
+		if(!ValidationUtil.isValidString(parameter, input)) {
+			return Result.error("invalid parameters provided");
+		}
+		try {
+			return Result.ok(input.split(parameter));
+		}catch (PatternSyntaxException e) {
+			return Result.error("invalid parameters provided, " + e.getDescription());
 		}
 	}
 
@@ -0,0 +1,324 @@
+package com.vbolide.array;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import com.vbolide.exception.InvalidParameterException;
+import com.vbolide.string.AsciiUtil;
+
+/**
+ * Long indexed array of <b>byte</b> values outside the Java heap, for datasets beyond the 2^31 elements of a Java array.
+ * <p>
+ * Values are stored in direct or memory-mapped {@linkplain java.nio.ByteBuffer} segments of one GiB, so they
+ * add no garbage collection work. A mapped array is backed by a file of {@linkplain #length()} bytes without a
+ * header: {@linkplain #save(Path)} writes that format and {@linkplain #map(Path)} maps it again, e.g. at the next startup.
+ * Searches scan eight bytes at a time, searches and reductions of large arrays run on all cores through {@linkplain ParallelArrayUtil}. Concurrent reads are
+ * safe, concurrent writes to the same element are not synchronized.
+ *
+ * @author Vamshi Byagari
+ */
+public class BigByteArray implements Closeable {
+
+	/**
+	 * largest supported number of elements.
+	 */
+	public static final long MAX_LENGTH = Long.MAX_VALUE;
+
+	private static final int FILL_CHUNK = 1 << 16;
+
+	private final SegmentedBuffer buffer;
+	private final long length;
+
+	BigByteArray(final SegmentedBuffer buffer) {
+		this.buffer = buffer;
+		this.length = buffer.size();
+	}
+
+	/**
+	 * allocates a zeroed array in direct memory, which is released when the array is garbage collected.
+	 * @param length number of elements.
+	 * @return {@linkplain BigByteArray} instance.
+	 * @throws InvalidParameterException input parameter invalid
+	 */
+	public static BigByteArray init(final long length) throws InvalidParameterException{
+		if(length < 0 || length > MAX_LENGTH) {
+			throw new InvalidParameterException("input parameter length invalid");
+		}
+		return new BigByteArray(SegmentedBuffer.allocate(length));
+	}
+
+	/**
+	 * maps an existing file, e.g. written by {@linkplain #save(Path)}, changes are written back to it.
+	 * @param file file of <b>byte</b> values.
+	 * @return {@linkplain BigByteArray} instance of the file size elements.
+	 * @throws InvalidParameterException input parameter is null
+	 * @throws IOException if the file can not be mapped.
+	 */
+	public static BigByteArray map(final Path file) throws InvalidParameterException, IOException{
+		if(file == null) {
+			throw new InvalidParameterException("input parameter file is null");
+		}
+		return new BigByteArray(SegmentedBuffer.map(file, Files.size(file)));
+	}
+
+	/**
+	 * maps the first length elements of a file, which is created or extended with zeros as needed; changes are written back to it.
+	 * @param file file of <b>byte</b> values.
+	 * @param length number of elements.
+	 * @return {@linkplain BigByteArray} instance.
+	 * @throws InvalidParameterException input parameters are invalid
+	 * @throws IOException if the file can not be mapped.
+	 */
+	public static BigByteArray map(final Path file, final long length) throws InvalidParameterException, IOException{
+		if(file == null || length < 0 || length > MAX_LENGTH) {
+			throw new InvalidParameterException("input parameter file and/or length invalid");
+		}
+		return new BigByteArray(SegmentedBuffer.map(file, length));
+	}
+
+
+	/**
+	 * @return number of elements.
+	 */
+	public long length() {
+		return length;
+	}
+
+	/**
+	 * @return <b>true</b> if the array is backed by a memory-mapped file, <b>false</b> for direct memory.
+	 */
+	public boolean isMapped() {
+		return buffer.isMapped();
+	}
+
+	/**
+	 * @param index position of the element.
+	 * @return value of the element.
+	 */
+	public byte get(final long index) {
+		checkIndex(index);
+		return buffer.get(index);
+	}
+
+	/**
+	 * @param index position of the element.
+	 * @param value new value of the element.
+	 */
+	public void set(final long index, final byte value) {
+		checkIndex(index);
+		buffer.put(index, value);
+	}
+
+	/**
+	 * sets every element to the value.
+	 * @param value new value of the elements.
+	 */
+	public void fill(final byte value) {
+		fillRange(0, length, value);
+	}
+
+	/**
+	 * sets the elements of the range to the value.
+	 * @param from index of the first element (inclusive).
+	 * @param to index of the last element (exclusive).
+	 * @param value new value of the elements.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public void fill(final long from, final long to, final byte value) throws InvalidParameterException{
+		checkRange(from, to);
+		fillRange(from, to, value);
+	}
+
+	/**
+	 * copies elements like {@linkplain System#arraycopy(Object, int, Object, int, int)}, the ranges may overlap within the same array.
+	 * @param from index of the first source element.
+	 * @param target array receiving the elements, may be this array.
+	 * @param to index of the first target element.
+	 * @param count number of elements.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public void copy(final long from, final BigByteArray target, final long to, final long count) throws InvalidParameterException{
+		if(target == null || count < 0) {
+			throw new InvalidParameterException("input parameter target and/or count invalid");
+		}
+		checkRange(from, from + count);
+		target.checkRange(to, to + count);
+		buffer.copy(from, target.buffer, to, count);
+	}
+
+	/**
+	 * copies elements of a Java array into this array.
+	 * @param source array holding the elements.
+	 * @param sourceIndex index of the first source element.
+	 * @param index index of the first element to write.
+	 * @param count number of elements.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public void copyFrom(final byte[] source, final int sourceIndex, final long index, final int count) throws InvalidParameterException{
+		ArrayUtil.checkRange(source == null ? -1 : source.length, sourceIndex, count < 0 ? -1 : sourceIndex + count);
+		checkRange(index, index + count);
+		buffer.write(index, source, sourceIndex, count);
+	}
+
+	/**
+	 * copies elements of this array into a Java array.
+	 * @param index index of the first element to read.
+	 * @param destination array receiving the elements.
+	 * @param destinationIndex index of the first destination element.
+	 * @param count number of elements.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public void copyTo(final long index, final byte[] destination, final int destinationIndex, final int count) throws InvalidParameterException{
+		ArrayUtil.checkRange(destination == null ? -1 : destination.length, destinationIndex, count < 0 ? -1 : destinationIndex + count);
+		checkRange(index, index + count);
+		buffer.read(index, destination, destinationIndex, count);
+	}
+
+	/**
+	 * @param value value to find.
+	 * @return <b>true</b> if any element equals the value, <b>false</b> otherwise.
+	 */
+	public boolean contains(final byte value) {
+		return ParallelArrayUtil.search(length, true, (from, to) -> find(value, from, to)) >= 0;
+	}
+
+	/**
+	 * @param value value to find.
+	 * @return index of the first element equal to the value, -1 if there is none.
+	 */
+	public long indexOf(final byte value) {
+		return ParallelArrayUtil.search(length, false, (from, to) -> find(value, from, to));
+	}
+
+	/**
+	 * @param value value to count.
+	 * @return number of elements equal to the value.
+	 */
+	public long count(final byte value) {
+		return ParallelArrayUtil.reduce(length, Long::sum, (from, to) -> {
+			long count = 0;
+			for (long offset = from; offset < to; offset++) {
+				if(buffer.get(offset) == value) {
+					count++;
+				}
+			}
+			return count;
+		});
+	}
+
+	/**
+	 * @return smallest element.
+	 * @throws InvalidParameterException array is empty
+	 */
+	public byte min() throws InvalidParameterException{
+		if(length == 0) {
+			throw new InvalidParameterException("array is empty");
+		}
+		return (byte) ParallelArrayUtil.reduce(length, Math::min, (from, to) -> {
+			int min = buffer.get(from);
+			for (long offset = from + 1; offset < to; offset++) {
+				min = Math.min(min, buffer.get(offset));
+			}
+			return min;
+		});
+	}
+
+	/**
+	 * @return largest element.
+	 * @throws InvalidParameterException array is empty
+	 */
+	public byte max() throws InvalidParameterException{
+		if(length == 0) {
+			throw new InvalidParameterException("array is empty");
+		}
+		return (byte) ParallelArrayUtil.reduce(length, Math::max, (from, to) -> {
+			int max = buffer.get(from);
+			for (long offset = from + 1; offset < to; offset++) {
+				max = Math.max(max, buffer.get(offset));
+			}
+			return max;
+		});
+	}
+
+	/**
+	 * @return sum of the elements, wrapping around on <b>long</b> overflow like {@code +}.
+	 */
+	public long sum() {
+		return ParallelArrayUtil.reduce(length, Long::sum, (from, to) -> {
+			long sum = 0;
+			for (long offset = from; offset < to; offset++) {
+				sum += buffer.get(offset);
+			}
+			return sum;
+		});
+	}
+
+	/**
+	 * writes the elements to a file that {@linkplain #map(Path)} can map again, replacing its content.
+	 * @param file target file, must not be the file this array is mapped from.
+	 * @throws InvalidParameterException input parameter is null
+	 * @throws IOException if the file can not be written.
+	 */
+	public void save(final Path file) throws InvalidParameterException, IOException{
+		if(file == null) {
+			throw new InvalidParameterException("input parameter file is null");
+		}
+		buffer.save(file);
+	}
+
+	/**
+	 * writes the changes of a mapped array to its file, does nothing for direct memory.
+	 */
+	public void force() {
+		buffer.force();
+	}
+
+	/**
+	 * forces the changes of a mapped array to its file and closes it, the mapping itself is released by the garbage collector.
+	 */
+	@Override
+	public void close() throws IOException {
+		buffer.close();
+	}
+
+
+	/**
+	 * scans segment by segment eight bytes at a time with {@linkplain AsciiUtil#indexOf(java.nio.ByteBuffer, int, int, byte)}.
+	 */
+	private long find(final byte value, final long from, final long to) {
+		for (long offset = from; offset < to;) {
+			int start = (int) (offset & SegmentedBuffer.SEGMENT_MASK);
+			int run = SegmentedBuffer.run(offset, to - offset);
+			int index = AsciiUtil.indexOf(buffer.segment(offset), start, start + run, value);
+			if(index >= 0) {
+				return offset + index - start;
+			}
+			offset += run;
+		}
+		return -1;
+	}
+
+	private void fillRange(final long from, final long to, final byte value) {
+		byte[] pattern = new byte[(int) Math.min(to - from, FILL_CHUNK)];
+		Arrays.fill(pattern, value);
+		for (long offset = from; offset < to; offset += pattern.length) {
+			buffer.write(offset, pattern, 0, (int) Math.min(pattern.length, to - offset));
+		}
+	}
+
+	private void checkIndex(final long index) {
+		if(index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("index " + index + " of length " + length);
+		}
+	}
+
+	private void checkRange(final long from, final long to) throws InvalidParameterException{
+		if(from < 0 || to > length || from > to) {
+			throw new InvalidParameterException("range [" + from + ", " + to + ") invalid for length " + length);
+		}
+	}
+
+}
@@ -0,0 +1,327 @@
+package com.vbolide.array;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.vbolide.exception.InvalidParameterException;
+
+/**
+ * Long indexed array of <b>int</b> values outside the Java heap, for datasets beyond the 2^31 elements of a Java array.
+ * <p>
+ * Values are stored little-endian in direct or memory-mapped {@linkplain java.nio.ByteBuffer} segments of one GiB, so they
+ * add no garbage collection work. A mapped array is backed by a file of {@linkplain #length()} * 4 bytes without a
+ * header: {@linkplain #save(Path)} writes that format and {@linkplain #map(Path)} maps it again, e.g. at the next startup.
+ * Searches and reductions of large arrays run on all cores through {@linkplain ParallelArrayUtil}. Concurrent reads are
+ * safe, concurrent writes to the same element are not synchronized.
+ *
+ * @author Vamshi Byagari
+ */
+public class BigIntArray implements Closeable {
+
+	/**
+	 * largest supported number of elements.
+	 */
+	public static final long MAX_LENGTH = Long.MAX_VALUE >> 2;
+
+	private final SegmentedBuffer buffer;
+	private final long length;
+
+	BigIntArray(final SegmentedBuffer buffer) {
+		this.buffer = buffer;
+		this.length = buffer.size() >> 2;
+	}
+
+	/**
+	 * allocates a zeroed array in direct memory, which is released when the array is garbage collected.
+	 * @param length number of elements.
+	 * @return {@linkplain BigIntArray} instance.
+	 * @throws InvalidParameterException input parameter invalid
+	 */
+	public static BigIntArray init(final long length) throws InvalidParameterException{
+		if(length < 0 || length > MAX_LENGTH) {
+			throw new InvalidParameterException("input parameter length invalid");
+		}
+		return new BigIntArray(SegmentedBuffer.allocate(length << 2));
+	}
+
+	/**
+	 * maps an existing file, e.g. written by {@linkplain #save(Path)}, changes are written back to it.
+	 * @param file file of little-endian <b>int</b> values.
+	 * @return {@linkplain BigIntArray} instance of the file size / 4 elements.
+	 * @throws InvalidParameterException input parameter invalid or file size is not a multiple of 4
+	 * @throws IOException if the file can not be mapped.
+	 */
+	public static BigIntArray map(final Path file) throws InvalidParameterException, IOException{
+		if(file == null) {
+			throw new InvalidParameterException("input parameter file is null");
+		}
+		long size = Files.size(file);
+		if((size & (4 - 1)) != 0) {
+			throw new InvalidParameterException("file size " + size + " is not a multiple of 4");
+		}
+		return new BigIntArray(SegmentedBuffer.map(file, size));
+	}
+
+	/**
+	 * maps the first length elements of a file, which is created or extended with zeros as needed; changes are written back to it.
+	 * @param file file of little-endian <b>int</b> values.
+	 * @param length number of elements.
+	 * @return {@linkplain BigIntArray} instance.
+	 * @throws InvalidParameterException input parameters are invalid
+	 * @throws IOException if the file can not be mapped.
+	 */
+	public static BigIntArray map(final Path file, final long length) throws InvalidParameterException, IOException{
+		if(file == null || length < 0 || length > MAX_LENGTH) {
+			throw new InvalidParameterException("input parameter file and/or length invalid");
+		}
+		return new BigIntArray(SegmentedBuffer.map(file, length << 2));
+	}
+
+
+	/**
+	 * @return number of elements.
+	 */
+	public long length() {
+		return length;
+	}
+
+	/**
+	 * @return <b>true</b> if the array is backed by a memory-mapped file, <b>false</b> for direct memory.
+	 */
+	public boolean isMapped() {
+		return buffer.isMapped();
+	}
+
+	/**
+	 * @param index position of the element.
+	 * @return value of the element.
+	 */
+	public int get(final long index) {
+		checkIndex(index);
+		return buffer.getInt(index << 2);
+	}
+
+	/**
+	 * @param index position of the element.
+	 * @param value new value of the element.
+	 */
+	public void set(final long index, final int value) {
+		checkIndex(index);
+		buffer.putInt(index << 2, value);
+	}
+
+	/**
+	 * sets every element to the value.
+	 * @param value new value of the elements.
+	 */
+	public void fill(final int value) {
+		fillRange(0, length, value);
+	}
+
+	/**
+	 * sets the elements of the range to the value.
+	 * @param from index of the first element (inclusive).
+	 * @param to index of the last element (exclusive).
+	 * @param value new value of the elements.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public void fill(final long from, final long to, final int value) throws InvalidParameterException{
+		checkRange(from, to);
+		fillRange(from, to, value);
+	}
+
+	/**
+	 * copies elements like {@linkplain System#arraycopy(Object, int, Object, int, int)}, the ranges may overlap within the same array.
+	 * @param from index of the first source element.
+	 * @param target array receiving the elements, may be this array.
+	 * @param to index of the first target element.
+	 * @param count number of elements.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public void copy(final long from, final BigIntArray target, final long to, final long count) throws InvalidParameterException{
+		if(target == null || count < 0) {
+			throw new InvalidParameterException("input parameter target and/or count invalid");
+		}
+		checkRange(from, from + count);
+		target.checkRange(to, to + count);
+		buffer.copy(from << 2, target.buffer, to << 2, count << 2);
+	}
+
+	/**
+	 * copies elements of a Java array into this array.
+	 * @param source array holding the elements.
+	 * @param sourceIndex index of the first source element.
+	 * @param index index of the first element to write.
+	 * @param count number of elements.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public void copyFrom(final int[] source, final int sourceIndex, final long index, final int count) throws InvalidParameterException{
+		ArrayUtil.checkRange(source == null ? -1 : source.length, sourceIndex, count < 0 ? -1 : sourceIndex + count);
+		checkRange(index, index + count);
+		int done = 0;
+		while (done < count) {
+			long offset = (index + done) << 2;
+			int chunk = SegmentedBuffer.run(offset, (long) (count - done) << 2) >> 2;
+			buffer.view(offset, chunk << 2).asIntBuffer().put(source, sourceIndex + done, chunk);
+			done += chunk;
+		}
+	}
+
+	/**
+	 * copies elements of this array into a Java array.
+	 * @param index index of the first element to read.
+	 * @param destination array receiving the elements.
+	 * @param destinationIndex index of the first destination element.
+	 * @param count number of elements.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public void copyTo(final long index, final int[] destination, final int destinationIndex, final int count) throws InvalidParameterException{
+		ArrayUtil.checkRange(destination == null ? -1 : destination.length, destinationIndex, count < 0 ? -1 : destinationIndex + count);
+		checkRange(index, index + count);
+		int done = 0;
+		while (done < count) {
+			long offset = (index + done) << 2;
+			int chunk = SegmentedBuffer.run(offset, (long) (count - done) << 2) >> 2;
+			buffer.view(offset, chunk << 2).asIntBuffer().get(destination, destinationIndex + done, chunk);
+			done += chunk;
+		}
+	}
+
+	/**
+	 * @param value value to find.
+	 * @return <b>true</b> if any element equals the value, <b>false</b> otherwise.
+	 */
+	public boolean contains(final int value) {
+		return ParallelArrayUtil.search(length, true, (from, to) -> find(value, from, to)) >= 0;
+	}
+
+	/**
+	 * @param value value to find.
+	 * @return index of the first element equal to the value, -1 if there is none.
+	 */
+	public long indexOf(final int value) {
+		return ParallelArrayUtil.search(length, false, (from, to) -> find(value, from, to));
+	}
+
+	/**
+	 * @param value value to count.
+	 * @return number of elements equal to the value.
+	 */
+	public long count(final int value) {
+		return ParallelArrayUtil.reduce(length, Long::sum, (from, to) -> {
+			long count = 0;
+			for (long offset = from << 2, end = to << 2; offset < end; offset += 4) {
+				if(buffer.getInt(offset) == value) {
+					count++;
+				}
+			}
+			return count;
+		});
+	}
+
+	/**
+	 * @return smallest element.
+	 * @throws InvalidParameterException array is empty
+	 */
+	public int min() throws InvalidParameterException{
+		if(length == 0) {
+			throw new InvalidParameterException("array is empty");
+		}
+		return (int) ParallelArrayUtil.reduce(length, Math::min, (from, to) -> {
+			int min = buffer.getInt(from << 2);
+			for (long offset = (from + 1) << 2, end = to << 2; offset < end; offset += 4) {
+				min = Math.min(min, buffer.getInt(offset));
+			}
+			return min;
+		});
+	}
+
+	/**
+	 * @return largest element.
+	 * @throws InvalidParameterException array is empty
+	 */
+	public int max() throws InvalidParameterException{
+		if(length == 0) {
+			throw new InvalidParameterException("array is empty");
+		}
+		return (int) ParallelArrayUtil.reduce(length, Math::max, (from, to) -> {
+			int max = buffer.getInt(from << 2);
+			for (long offset = (from + 1) << 2, end = to << 2; offset < end; offset += 4) {
+				max = Math.max(max, buffer.getInt(offset));
+			}
+			return max;
+		});
+	}
+
+	/**
+	 * @return sum of the elements, wrapping around on <b>long</b> overflow like {@code +}.
+	 */
+	public long sum() {
+		return ParallelArrayUtil.reduce(length, Long::sum, (from, to) -> {
+			long sum = 0;
+			for (long offset = from << 2, end = to << 2; offset < end; offset += 4) {
+				sum += buffer.getInt(offset);
+			}
+			return sum;
+		});
+	}
+
+	/**
+	 * writes the elements to a file that {@linkplain #map(Path)} can map again, replacing its content.
+	 * @param file target file, must not be the file this array is mapped from.
+	 * @throws InvalidParameterException input parameter is null
+	 * @throws IOException if the file can not be written.
+	 */
+	public void save(final Path file) throws InvalidParameterException, IOException{
+		if(file == null) {
+			throw new InvalidParameterException("input parameter file is null");
+		}
+		buffer.save(file);
+	}
+
+	/**
+	 * writes the changes of a mapped array to its file, does nothing for direct memory.
+	 */
+	public void force() {
+		buffer.force();
+	}
+
+	/**
+	 * forces the changes of a mapped array to its file and closes it, the mapping itself is released by the garbage collector.
+	 */
+	@Override
+	public void close() throws IOException {
+		buffer.close();
+	}
+
+
+	private long find(final int value, final long from, final long to) {
+		for (long index = from; index < to; index++) {
+			if(buffer.getInt(index << 2) == value) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	private void fillRange(final long from, final long to, final int value) {
+		for (long offset = from << 2, end = to << 2; offset < end; offset += 4) {
+			buffer.putInt(offset, value);
+		}
+	}
+
+	private void checkIndex(final long index) {
+		if(index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("index " + index + " of length " + length);
+		}
+	}
+
+	private void checkRange(final long from, final long to) throws InvalidParameterException{
+		if(from < 0 || to > length || from > to) {
+			throw new InvalidParameterException("range [" + from + ", " + to + ") invalid for length " + length);
+		}
+	}
+
+}
@@ -0,0 +1,447 @@
+package com.vbolide.array;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import com.vbolide.exception.InvalidParameterException;
+
+/**
+ * Blocked Bloom filter of strings, a compact prefilter for membership tests against very large {@linkplain String} sets.
+ * <p>
+ * {@linkplain #mightContain(CharSequence)} never returns <b>false</b> for an added value and returns <b>true</b> for other
+ * values with at most about the false positive rate the filter was created for, so only positive answers need to be confirmed
+ * against the full data. All bits of a value lie in one block of 512 bits (a cache line), so a lookup touches one line of
+ * memory. Values are hashed as their UTF-8 bytes without allocating: a {@linkplain CharSequence} and its UTF-8 encoding
+ * hash the same, so a filter built from strings can be queried with raw bytes and vice versa.
+ * <p>
+ * Adding is not thread safe, lookups are once the filter is built.
+ *
+ * @author Vamshi Byagari
+ */
+public class BloomFilter {
+
+	private static final int BLOCK_BITS = 512;
+	private static final int BLOCK_WORDS = BLOCK_BITS / Long.SIZE;
+	private static final int MAX_HASHES = 16;
+	private static final long MAX_BLOCKS = Integer.MAX_VALUE / BLOCK_WORDS;
+
+	private static final int MAGIC = 0x56424246;
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 16;
+	private static final int IO_CHUNK = 1 << 16;
+
+	private static final long SEED = 0x9E3779B97F4A7C15L;
+	private static final long K1 = 0x87C37B91114253D5L;
+	private static final long K2 = 0x4CF5AD432745937FL;
+
+	/**
+	 * odd multiplier deriving the bit positions in the block, every multiplication folds all bits of the hash into the upper 9 bits used.
+	 */
+	private static final long BIT_MULTIPLIER = 0xD6E8FEB86659FD93L;
+
+	private final long[] words;
+	private final int blocks;
+	private final int hashes;
+
+	BloomFilter(final long[] words, final int hashes) {
+		this.words = words;
+		this.blocks = words.length / BLOCK_WORDS;
+		this.hashes = hashes;
+	}
+
+	/**
+	 * creates an empty filter sized for the number of values and false positive rate.
+	 * @param expectedItems number of values that will be added.
+	 * @param falsePositiveRate wanted probability of a false <b>true</b>, in (0, 1).
+	 * @return {@linkplain BloomFilter} instance.
+	 * @throws InvalidParameterException input parameters are invalid or the filter would exceed 16 GiB
+	 */
+	public static BloomFilter create(final long expectedItems, final double falsePositiveRate) throws InvalidParameterException{
+		if(expectedItems < 0 || !(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+			throw new InvalidParameterException("input parameter expectedItems and/or falsePositiveRate invalid");
+		}
+		long items = Math.max(expectedItems, 1);
+		// start from the size of a classic filter, with one hash from rate 0.5 up, and grow by 1/32 steps until the blocked layout reaches the rate
+		double bits = falsePositiveRate < 0.5 ? -items * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)) : -items / Math.log1p(-falsePositiveRate);
+		long blocks = Math.max((long) Math.ceil(bits / BLOCK_BITS), 1);
+		while (true) {
+			if(blocks > MAX_BLOCKS) {
+				throw new InvalidParameterException("filter of " + expectedItems + " items at rate " + falsePositiveRate + " exceeds the maximum size");
+			}
+			double itemsPerBlock = (double) items / blocks;
+			int best = 1;
+			double bestRate = 1;
+			for (int hashes = 1; hashes <= MAX_HASHES; hashes++) {
+				double rate = blockedRate(itemsPerBlock, hashes);
+				if(rate < bestRate) {
+					best = hashes;
+					bestRate = rate;
+				}
+			}
+			if(bestRate <= falsePositiveRate) {
+				return new BloomFilter(new long[(int) blocks * BLOCK_WORDS], best);
+			}
+			blocks += Math.max(blocks >> 5, 1);
+		}
+	}
+
+	/**
+	 * creates a filter of the values, {@code null} elements are skipped.
+	 * @param items values to add.
+	 * @param falsePositiveRate wanted probability of a false <b>true</b>, in (0, 1).
+	 * @return {@linkplain BloomFilter} instance.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BloomFilter of(final String[] items, final double falsePositiveRate) throws InvalidParameterException{
+		if(items == null) {
+			throw new InvalidParameterException("input parameter items is null");
+		}
+		BloomFilter filter = create(items.length, falsePositiveRate);
+		for (String item : items) {
+			if(item != null) {
+				filter.add(hash(item));
+			}
+		}
+		return filter;
+	}
+
+	/**
+	 * creates a filter of the values of the stream, {@code null} elements are skipped. A parallel stream builds one partial
+	 * filter per worker thread and merges them, which needs that much more memory while building.
+	 * @param items values to add, consumed by this call.
+	 * @param expectedItems number of values in the stream.
+	 * @param falsePositiveRate wanted probability of a false <b>true</b>, in (0, 1).
+	 * @return {@linkplain BloomFilter} instance.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BloomFilter of(final Stream<? extends CharSequence> items, final long expectedItems, final double falsePositiveRate) throws InvalidParameterException{
+		if(items == null) {
+			throw new InvalidParameterException("input parameter items is null");
+		}
+		BloomFilter empty = create(expectedItems, falsePositiveRate);
+		int size = empty.words.length;
+		int hashes = empty.hashes;
+		return items.collect(() -> new BloomFilter(new long[size], hashes), (filter, item) -> {
+			if(item != null) {
+				filter.add(hash(item));
+			}
+		}, BloomFilter::merge);
+	}
+
+	/**
+	 * loads a filter written by {@linkplain #save(Path)}.
+	 * @param file file of the filter.
+	 * @return {@linkplain BloomFilter} instance.
+	 * @throws InvalidParameterException input parameter is null
+	 * @throws IOException if the file can not be read or is not a filter.
+	 */
+	public static BloomFilter load(final Path file) throws InvalidParameterException, IOException{
+		if(file == null) {
+			throw new InvalidParameterException("input parameter file is null");
+		}
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			readFully(channel, header);
+			int blocks = header.getInt(8);
+			int hashes = header.getInt(12);
+			if(header.getInt(0) != MAGIC || header.getInt(4) != VERSION || blocks <= 0 || blocks > MAX_BLOCKS || hashes <= 0 || hashes > MAX_HASHES
+					|| channel.size() != HEADER_SIZE + (long) blocks * BLOCK_WORDS * Long.BYTES) {
+				throw new IOException("file " + file + " is not a bloom filter");
+			}
+			long[] words = new long[blocks * BLOCK_WORDS];
+			ByteBuffer chunk = ByteBuffer.allocate(IO_CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+			for (int index = 0; index < words.length;) {
+				((Buffer) chunk).clear();
+				((Buffer) chunk).limit(Math.min(IO_CHUNK, (words.length - index) * Long.BYTES));
+				readFully(channel, chunk);
+				((Buffer) chunk).flip();
+				int count = chunk.remaining() / Long.BYTES;
+				chunk.asLongBuffer().get(words, index, count);
+				index += count;
+			}
+			return new BloomFilter(words, hashes);
+		}
+	}
+
+
+	/**
+	 * adds the value.
+	 * @param item value to add.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public void put(final CharSequence item) throws InvalidParameterException{
+		if(item == null) {
+			throw new InvalidParameterException("input parameter item is null");
+		}
+		add(hash(item));
+	}
+
+	/**
+	 * adds the UTF-8 encoded value.
+	 * @param utf8 array holding the value.
+	 * @param from index of the first byte (inclusive).
+	 * @param to index of the last byte (exclusive).
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public void put(final byte[] utf8, final int from, final int to) throws InvalidParameterException{
+		ArrayUtil.checkRange(utf8 == null ? -1 : utf8.length, from, to);
+		add(hash(utf8, from, to));
+	}
+
+	/**
+	 * @param item value to look up.
+	 * @return <b>false</b> if the value was certainly not added, <b>true</b> if it probably was.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public boolean mightContain(final CharSequence item) throws InvalidParameterException{
+		if(item == null) {
+			throw new InvalidParameterException("input parameter item is null");
+		}
+		return test(hash(item));
+	}
+
+	/**
+	 * @param utf8 array holding the UTF-8 encoded value.
+	 * @param from index of the first byte (inclusive).
+	 * @param to index of the last byte (exclusive).
+	 * @return <b>false</b> if the value was certainly not added, <b>true</b> if it probably was.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public boolean mightContain(final byte[] utf8, final int from, final int to) throws InvalidParameterException{
+		ArrayUtil.checkRange(utf8 == null ? -1 : utf8.length, from, to);
+		return test(hash(utf8, from, to));
+	}
+
+	/**
+	 * @return number of bits of the filter.
+	 */
+	public long bitSize() {
+		return (long) words.length * Long.SIZE;
+	}
+
+	/**
+	 * @return number of bits set per value.
+	 */
+	public int hashCount() {
+		return hashes;
+	}
+
+	/**
+	 * estimates the current false positive rate from the share of set bits, which grows as values are added. The estimate
+	 * treats the bits as one classic filter, the rate of the blocked layout is somewhat higher.
+	 * @return probability of a false <b>true</b> for a value that was not added.
+	 */
+	public double approximateFalsePositiveRate() {
+		long set = 0;
+		for (long word : words) {
+			set += Long.bitCount(word);
+		}
+		return Math.pow((double) set / bitSize(), hashes);
+	}
+
+	/**
+	 * writes the filter to a file of a 16 byte header and the little-endian bit words, replacing its content.
+	 * @param file target file.
+	 * @throws InvalidParameterException input parameter is null
+	 * @throws IOException if the file can not be written.
+	 */
+	public void save(final Path file) throws InvalidParameterException, IOException{
+		if(file == null) {
+			throw new InvalidParameterException("input parameter file is null");
+		}
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(MAGIC).putInt(VERSION).putInt(blocks).putInt(hashes);
+			((Buffer) header).flip();
+			writeFully(channel, header);
+			ByteBuffer chunk = ByteBuffer.allocate(IO_CHUNK).order(ByteOrder.LITTLE_ENDIAN);
+			for (int index = 0; index < words.length;) {
+				int count = Math.min(IO_CHUNK / Long.BYTES, words.length - index);
+				((Buffer) chunk).clear();
+				chunk.asLongBuffer().put(words, index, count);
+				((Buffer) chunk).limit(count * Long.BYTES);
+				writeFully(channel, chunk);
+				index += count;
+			}
+		}
+	}
+
+
+	private void add(final long hash) {
+		int base = block(hash);
+		long bits = hash;
+		for (int i = 0; i < hashes; i++) {
+			bits *= BIT_MULTIPLIER;
+			int bit = (int) (bits >>> 55);
+			words[base + (bit >>> 6)] |= 1L << bit;
+		}
+	}
+
+	private boolean test(final long hash) {
+		int base = block(hash);
+		long bits = hash;
+		for (int i = 0; i < hashes; i++) {
+			bits *= BIT_MULTIPLIER;
+			int bit = (int) (bits >>> 55);
+			if((words[base + (bit >>> 6)] & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return index of the first word of the block, chosen by the upper 32 bits of the hash (multiply-shift range reduction).
+	 */
+	private int block(final long hash) {
+		return (int) (((hash >>> 32) * blocks) >>> 32) * BLOCK_WORDS;
+	}
+
+	private BloomFilter merge(final BloomFilter other) {
+		for (int i = 0; i < words.length; i++) {
+			words[i] |= other.words[i];
+		}
+		return this;
+	}
+
+	/**
+	 * false positive rate of a blocked filter: the number of values in the block of a lookup is Poisson distributed, each
+	 * block behaves like a classic filter of {@linkplain #BLOCK_BITS} bits.
+	 */
+	private static double blockedRate(final double itemsPerBlock, final int hashes) {
+		double deviation = Math.sqrt(itemsPerBlock);
+		int first = (int) Math.max(Math.floor(itemsPerBlock - 20 * deviation - 20), 0);
+		int last = (int) Math.ceil(itemsPerBlock + 20 * deviation + 20);
+		// Poisson probabilities in log space, e^-itemsPerBlock underflows once a block holds more than about 745 values
+		double logItems = Math.log(itemsPerBlock);
+		double logProbability = first == 0 ? -itemsPerBlock : -itemsPerBlock + (first - 1) * logItems - logFactorial(first - 1);
+		double rate = 0;
+		for (int j = first; j <= last; j++) {
+			if(j > 0) {
+				logProbability += logItems - Math.log(j);
+			}
+			rate += Math.exp(logProbability) * Math.pow(1 - Math.pow(1 - 1.0 / BLOCK_BITS, (double) j * hashes), hashes);
+		}
+		return rate;
+	}
+
+	/**
+	 * @return log of n!, summed below 16 and from Stirling's series above, accurate to about 1e-12.
+	 */
+	private static double logFactorial(final int n) {
+		if(n < 16) {
+			double log = 0;
+			for (int i = 2; i <= n; i++) {
+				log += Math.log(i);
+			}
+			return log;
+		}
+		double inverse = 1.0 / n;
+		return n * Math.log(n) - n + 0.5 * Math.log(2 * Math.PI * n) + inverse / 12 - inverse * inverse * inverse / 360;
+	}
+
+	private static void readFully(final FileChannel channel, final ByteBuffer buffer) throws IOException{
+		while (buffer.hasRemaining()) {
+			if(channel.read(buffer) < 0) {
+				throw new IOException("unexpected end of file");
+			}
+		}
+	}
+
+	private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException{
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+
+	/*
+	 * streaming 64-bit hash of UTF-8 bytes: little-endian 8 byte words are mixed in one at a time, the byte length and a
+	 * final avalanche follow. The CharSequence variant encodes to UTF-8 on the fly and feeds the same words.
+	 */
+
+	/**
+	 * @return hash of the UTF-8 encoding of the characters, unpaired surrogates are encoded as {@code '?'} like {@linkplain String#getBytes(java.nio.charset.Charset)}.
+	 */
+	static long hash(final CharSequence input) {
+		long hash = SEED;
+		long word = 0;
+		int shift = 0;
+		long length = 0;
+		for (int i = 0, size = input.length(); i < size; i++) {
+			char c = input.charAt(i);
+			int encoded;
+			int bytes;
+			if(c < 0x80) {
+				encoded = c;
+				bytes = 1;
+			}else if(c < 0x800) {
+				encoded = (0xC0 | (c >> 6)) | (0x80 | (c & 0x3F)) << 8;
+				bytes = 2;
+			}else if(!Character.isSurrogate(c)) {
+				encoded = (0xE0 | (c >> 12)) | (0x80 | ((c >> 6) & 0x3F)) << 8 | (0x80 | (c & 0x3F)) << 16;
+				bytes = 3;
+			}else if(Character.isHighSurrogate(c) && i + 1 < size && Character.isLowSurrogate(input.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, input.charAt(++i));
+				encoded = (0xF0 | (codePoint >> 18)) | (0x80 | ((codePoint >> 12) & 0x3F)) << 8 | (0x80 | ((codePoint >> 6) & 0x3F)) << 16 | (0x80 | (codePoint & 0x3F)) << 24;
+				bytes = 4;
+			}else {
+				encoded = '?';
+				bytes = 1;
+			}
+			length += bytes;
+			for (int k = 0; k < bytes; k++, encoded >>>= 8) {
+				word |= (long) (encoded & 0xFF) << shift;
+				shift += 8;
+				if(shift == Long.SIZE) {
+					hash = round(hash, word);
+					word = 0;
+					shift = 0;
+				}
+			}
+		}
+		if(shift > 0) {
+			hash = round(hash, word);
+		}
+		return finish(hash, length);
+	}
+
+	/**
+	 * @return hash of the bytes, equal to {@linkplain #hash(CharSequence)} of the characters they encode in UTF-8.
+	 */
+	static long hash(final byte[] bytes, final int from, final int to) {
+		long hash = SEED;
+		int i = from;
+		for (int last = to - Long.BYTES; i <= last; i += Long.BYTES) {
+			long word = (bytes[i] & 0xFFL) | (bytes[i + 1] & 0xFFL) << 8 | (bytes[i + 2] & 0xFFL) << 16 | (bytes[i + 3] & 0xFFL) << 24
+					| (bytes[i + 4] & 0xFFL) << 32 | (bytes[i + 5] & 0xFFL) << 40 | (bytes[i + 6] & 0xFFL) << 48 | (bytes[i + 7] & 0xFFL) << 56;
+			hash = round(hash, word);
+		}
+		if(i < to) {
+			long word = 0;
+			for (int shift = 0; i < to; i++, shift += 8) {
+				word |= (bytes[i] & 0xFFL) << shift;
+			}
+			hash = round(hash, word);
+		}
+		return finish(hash, to - from);
+	}
+
+	private static long round(final long hash, final long word) {
+		return Long.rotateLeft(hash ^ Long.rotateLeft(word * K1, 31) * K2, 27) * 5 + 0x52DCE729;
+	}
+
+	private static long finish(final long hash, final long length) {
+		long h = hash ^ length;
+		h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+		h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+		return h ^ (h >>> 33);
+	}
+
+}
@@ -0,0 +1,530 @@
+package com.vbolide.array;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import com.vbolide.array.ArrayUtil.ArrayDelimeter;
+import com.vbolide.exception.InvalidParameterException;
+import com.vbolide.string.AsciiUtil;
+import com.vbolide.string.StringInternPool;
+
+/**
+ * Tokenizer of delimiter separated files that memory-maps the file instead of reading it line by line.
+ * <p>
+ * The file is mapped in line aligned chunks of at most {@linkplain #MAX_CHUNK_SIZE} bytes and every chunk is scanned word at
+ * a time for the delimiter and {@code '\n'} with {@linkplain AsciiUtil#indexOfEither(ByteBuffer, int, int, byte, byte)}.
+ * Every line, including empty ones, is one {@linkplain Record} and every delimiter starts a new field, so trailing empty
+ * fields are kept; a {@code '\r'} before the {@code '\n'} is not part of the last field. Records only hold the positions of
+ * their fields in the mapping, a field is decoded to {@linkplain String}, {@code long} or {@code double} when it is read.
+ * The file is expected to be UTF-8 or another ASCII compatible encoding and must not change while it is tokenized.
+ *
+ * @author Vamshi Byagari
+ */
+public class DelimitedFileTokenizer implements Closeable {
+
+	/**
+	 * largest number of bytes mapped at once.
+	 */
+	public static final int MAX_CHUNK_SIZE = 1 << 30;
+
+	/**
+	 * smallest chunk processed by one task of {@linkplain #forEachRecordParallel(Consumer)}.
+	 */
+	public static final int MIN_PARALLEL_CHUNK_SIZE = 1 << 22;
+
+	private static final byte NEWLINE = '\n';
+	private static final byte CARRIAGE_RETURN = '\r';
+
+	private static final int SCAN_SIZE = 1 << 12;
+
+	private final FileChannel channel;
+	private final byte delimiter;
+	private final long size;
+
+	DelimitedFileTokenizer(final FileChannel channel, final byte delimiter) throws IOException {
+		this.channel = channel;
+		this.delimiter = delimiter;
+		this.size = channel.size();
+	}
+
+	/**
+	 * opens the file for tokenizing, the caller must {@linkplain #close()} the tokenizer.
+	 * @param file path of the delimited file.
+	 * @param arrayDelimeter delimiter between the fields of a line.
+	 * @return {@linkplain DelimitedFileTokenizer} instance.
+	 * @throws InvalidParameterException input parameters are invalid
+	 * @throws IOException if the file can not be opened.
+	 */
+	public static DelimitedFileTokenizer init(final Path file, final ArrayDelimeter arrayDelimeter) throws InvalidParameterException, IOException{
+		if(file == null || arrayDelimeter == null) {
+			throw new InvalidParameterException("input parameter file and/or arrayDelimeter invalid");
+		}
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			return new DelimitedFileTokenizer(channel, (byte) arrayDelimeter.label.charAt(0));
+		}catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+
+	/**
+	 * @return size of the file in bytes when it was opened.
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * visits every record of the file in order on the calling thread.
+	 * @param consumer receives each record, the same instance is reused for the next record.
+	 * @return number of records visited.
+	 * @throws InvalidParameterException input parameter is null
+	 * @throws IOException if the file can not be mapped.
+	 */
+	public long forEachRecord(final Consumer<? super Record> consumer) throws InvalidParameterException, IOException{
+		return forEachRecord(0, size, consumer);
+	}
+
+	/**
+	 * visits every record of a line aligned range of the file in order on the calling thread, ranges are usually taken from {@linkplain #split(int)}.
+	 * @param from file offset of the first record (inclusive), 0 or the offset after a {@code '\n'}.
+	 * @param to file offset after the last record (exclusive), the file size or the offset after a {@code '\n'}.
+	 * @param consumer receives each record, the same instance is reused for the next record.
+	 * @return number of records visited.
+	 * @throws InvalidParameterException input parameters are invalid
+	 * @throws IOException if the file can not be mapped.
+	 */
+	public long forEachRecord(final long from, final long to, final Consumer<? super Record> consumer) throws InvalidParameterException, IOException{
+		if(consumer == null || from < 0 || to > size || from > to) {
+			throw new InvalidParameterException("input parameter from, to and/or consumer invalid");
+		}
+		return visit(from, to, new Record(), consumer);
+	}
+
+	/**
+	 * visits every record of the file on the {@linkplain ForkJoinPool#commonPool()}, line aligned chunks of the file are tokenized concurrently.
+	 * @param consumer receives each record, must be thread safe; records of one chunk arrive in order on one thread, each chunk reuses its own instance.
+	 * @return number of records visited.
+	 * @throws InvalidParameterException input parameter is null
+	 * @throws IOException if the file can not be mapped.
+	 */
+	public long forEachRecordParallel(final Consumer<? super Record> consumer) throws InvalidParameterException, IOException{
+		if(consumer == null) {
+			throw new InvalidParameterException("input parameter consumer invalid");
+		}
+		long[] boundaries = split(ForkJoinPool.getCommonPoolParallelism() * 4);
+		if(boundaries.length <= 2) {
+			return forEachRecord(consumer);
+		}
+		try {
+			return IntStream.range(0, boundaries.length - 1).parallel().mapToLong(chunk -> {
+				try {
+					return visit(boundaries[chunk], boundaries[chunk + 1], new Record(), consumer);
+				}catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}).sum();
+		}catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * splits the file into line aligned ranges of similar size, none smaller than {@linkplain #MIN_PARALLEL_CHUNK_SIZE} unless it is the only one
+	 * and none larger than {@linkplain #MAX_CHUNK_SIZE} unless a single line is.
+	 * @param count wanted number of ranges.
+	 * @return ascending offsets, range i is [offsets[i], offsets[i + 1]); {@code {0}} for an empty file.
+	 * @throws InvalidParameterException input parameter invalid
+	 * @throws IOException if the file can not be read.
+	 */
+	public long[] split(final int count) throws InvalidParameterException, IOException{
+		if(count <= 0) {
+			throw new InvalidParameterException("input parameter count invalid");
+		}
+		long target = Math.min(Math.max((size + count - 1) / count, MIN_PARALLEL_CHUNK_SIZE), MAX_CHUNK_SIZE);
+		long[] boundaries = new long[(int) Math.min((size + target - 1) / target, Integer.MAX_VALUE - 1) + 1];
+		int length = 1;
+		long start = 0;
+		while (start < size) {
+			start = nextLine(Math.min(start + target, size));
+			if(length == boundaries.length) {
+				boundaries = Arrays.copyOf(boundaries, length + 1);
+			}
+			boundaries[length++] = start;
+		}
+		return length == boundaries.length ? boundaries : Arrays.copyOf(boundaries, length);
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+
+	private long visit(final long from, final long to, final Record record, final Consumer<? super Record> consumer) throws IOException{
+		long records = 0;
+		long start = from;
+		while (start < to) {
+			long end = lineBoundary(start, to, MAX_CHUNK_SIZE);
+			records += tokenize(start, end, record, consumer);
+			start = end;
+		}
+		return records;
+	}
+
+	/**
+	 * @return offset after the last {@code '\n'} in [start, start + limit] within to, or the next line start after it when a line is longer than limit.
+	 */
+	private long lineBoundary(final long start, final long to, final int limit) throws IOException{
+		if(to - start <= limit) {
+			return to;
+		}
+		long end = nextLine(start + limit);
+		if(end - start > Integer.MAX_VALUE) {
+			throw new IOException("line at offset " + start + " is longer than " + Integer.MAX_VALUE + " bytes");
+		}
+		return Math.min(end, to);
+	}
+
+	/**
+	 * @return the offset of the line start at or after the position, the file size if no {@code '\n'} follows.
+	 */
+	private long nextLine(final long position) throws IOException{
+		if(position == 0 || position >= size) {
+			return Math.min(position, size);
+		}
+		ByteBuffer scan = ByteBuffer.allocate(SCAN_SIZE);
+		long offset = position - 1;
+		while (offset < size) {
+			((Buffer) scan).clear();
+			int read = channel.read(scan, offset);
+			if(read <= 0) {
+				break;
+			}
+			int index = AsciiUtil.indexOf(scan.array(), 0, read, NEWLINE);
+			if(index >= 0) {
+				return offset + index + 1;
+			}
+			offset += read;
+		}
+		return size;
+	}
+
+	private long tokenize(final long from, final long to, final Record record, final Consumer<? super Record> consumer) throws IOException{
+		if(from == to) {
+			return 0;
+		}
+		MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+		mapping.order(ByteOrder.LITTLE_ENDIAN);
+		record.map(mapping, from);
+		int limit = (int) (to - from);
+		long records = 0;
+		int position = 0;
+		while (position < limit) {
+			record.clear(position);
+			int fieldStart = position;
+			int index;
+			while ((index = AsciiUtil.indexOfEither(mapping, fieldStart, limit, delimiter, NEWLINE)) >= 0 && mapping.get(index) == delimiter) {
+				record.add(fieldStart, index);
+				fieldStart = index + 1;
+			}
+			int lineEnd = index < 0 ? limit : index;
+			int fieldEnd = lineEnd > fieldStart && mapping.get(lineEnd - 1) == CARRIAGE_RETURN ? lineEnd - 1 : lineEnd;
+			record.add(fieldStart, fieldEnd);
+			consumer.accept(record);
+			records++;
+			position = lineEnd + 1;
+		}
+		return records;
+	}
+
+
+	/**
+	 * One line of the file, a view of the mapping that is valid only while the consumer it is passed to runs.
+	 *
+	 * @author Vamshi Byagari
+	 */
+	public static final class Record {
+
+		/**
+		 * significant digits accumulated in a long, 18 nines stay below {@linkplain Long#MAX_VALUE}.
+		 */
+		private static final int MAX_FAST_DIGITS = 18;
+		private static final long MAX_EXACT_MANTISSA = 1L << 53;
+		private static final double[] POWERS_OF_TEN = {
+				1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+				1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+		private ByteBuffer buffer;
+		private long base;
+		private int start;
+
+		/**
+		 * start and end (exclusive) of every field in the mapping, interleaved.
+		 */
+		private int[] bounds = new int[32];
+		private int count;
+
+		private byte[] scratch = new byte[64];
+
+		Record() {}
+
+		void map(final ByteBuffer buffer, final long base) {
+			this.buffer = buffer;
+			this.base = base;
+		}
+
+		void clear(final int start) {
+			this.start = start;
+			this.count = 0;
+		}
+
+		void add(final int from, final int to) {
+			if(count * 2 == bounds.length) {
+				bounds = Arrays.copyOf(bounds, bounds.length * 2);
+			}
+			bounds[count * 2] = from;
+			bounds[count * 2 + 1] = to;
+			count++;
+		}
+
+
+		/**
+		 * @return file offset of the first byte of the record.
+		 */
+		public long getOffset() {
+			return base + start;
+		}
+
+		/**
+		 * @return number of fields, at least 1.
+		 */
+		public int getFieldCount() {
+			return count;
+		}
+
+		/**
+		 * @param field index of the field.
+		 * @return number of bytes of the field.
+		 */
+		public int getFieldLength(final int field) {
+			check(field);
+			return bounds[field * 2 + 1] - bounds[field * 2];
+		}
+
+		/**
+		 * @param field index of the field.
+		 * @return read-only buffer sharing the bytes of the field, valid after the consumer returns as long as the tokenizer is open.
+		 */
+		public ByteBuffer getFieldBuffer(final int field) {
+			check(field);
+			ByteBuffer view = buffer.asReadOnlyBuffer();
+			((Buffer) view).limit(bounds[field * 2 + 1]).position(bounds[field * 2]);
+			return view.slice();
+		}
+
+		/**
+		 * @param field index of the field.
+		 * @param value bytes to compare, e.g. ASCII or UTF-8 encoded text.
+		 * @return <b>true</b> if the field consists of exactly these bytes, <b>false</b> otherwise.
+		 */
+		public boolean fieldEquals(final int field, final byte[] value) {
+			check(field);
+			int from = bounds[field * 2];
+			if(value == null || bounds[field * 2 + 1] - from != value.length) {
+				return false;
+			}
+			for (int i = 0; i < value.length; i++) {
+				if(buffer.get(from + i) != value[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * @param field index of the field.
+		 * @return the field decoded as UTF-8.
+		 */
+		public String getString(final int field) {
+			int length = copy(field);
+			return new String(scratch, 0, length, StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * @param field index of the field.
+		 * @param pool pool of canonical values, a pooled value is returned without allocating.
+		 * @return the field decoded as UTF-8.
+		 * @throws InvalidParameterException input parameter is null
+		 */
+		public String getString(final int field, final StringInternPool pool) throws InvalidParameterException{
+			if(pool == null) {
+				throw new InvalidParameterException("input parameter pool is null");
+			}
+			int length = copy(field);
+			return pool.intern(scratch, 0, length);
+		}
+
+		/**
+		 * parses the field like {@linkplain Long#parseLong(String)} without decoding it to a {@linkplain String}.
+		 * @param field index of the field.
+		 * @return value of the field.
+		 * @throws NumberFormatException if the field is not a decimal {@code long}.
+		 */
+		public long getLong(final int field) {
+			check(field);
+			int i = bounds[field * 2];
+			int end = bounds[field * 2 + 1];
+			boolean negative = false;
+			if(i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+				negative = buffer.get(i++) == '-';
+			}
+			if(i == end) {
+				throw new NumberFormatException("For input string: \"" + getString(field) + "\"");
+			}
+			// accumulated negatively, Long.MIN_VALUE has no positive counterpart
+			long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+			long value = 0;
+			for (; i < end; i++) {
+				int digit = buffer.get(i) - '0';
+				if(digit < 0 || digit > 9 || value < limit / 10 || value * 10 < limit + digit) {
+					throw new NumberFormatException("For input string: \"" + getString(field) + "\"");
+				}
+				value = value * 10 - digit;
+			}
+			return negative ? value : -value;
+		}
+
+		/**
+		 * parses the field like {@linkplain Double#parseDouble(String)}. Plain decimals whose digits form a mantissa below 2^53 and
+		 * whose decimal exponent is within [-22, 22] are converted exactly without decoding the field (Clinger's fast path), every other form is decoded and passed
+		 * to {@linkplain Double#parseDouble(String)}.
+		 * @param field index of the field.
+		 * @return value of the field.
+		 * @throws NumberFormatException if the field is not a number.
+		 */
+		public double getDouble(final int field) {
+			check(field);
+			int i = bounds[field * 2];
+			int end = bounds[field * 2 + 1];
+			boolean negative = false;
+			if(i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+				negative = buffer.get(i++) == '-';
+			}
+			long mantissa = 0;
+			int digits = 0;
+			int exponent = 0;
+			boolean any = false;
+			for (; i < end; i++) {
+				int digit = buffer.get(i) - '0';
+				if(digit < 0 || digit > 9) {
+					break;
+				}
+				any = true;
+				if(mantissa != 0 || digit != 0) {
+					if(++digits > MAX_FAST_DIGITS) {
+						return Double.parseDouble(getString(field));
+					}
+					mantissa = mantissa * 10 + digit;
+				}
+			}
+			if(i < end && buffer.get(i) == '.') {
+				for (i++; i < end; i++) {
+					int digit = buffer.get(i) - '0';
+					if(digit < 0 || digit > 9) {
+						break;
+					}
+					any = true;
+					if(mantissa != 0 || digit != 0) {
+						if(++digits > MAX_FAST_DIGITS) {
+							return Double.parseDouble(getString(field));
+						}
+						mantissa = mantissa * 10 + digit;
+					}
+					exponent--;
+				}
+			}
+			if(any && i < end && (buffer.get(i) == 'e' || buffer.get(i) == 'E')) {
+				int sign = 1;
+				if(++i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+					sign = buffer.get(i++) == '-' ? -1 : 1;
+				}
+				int explicit = 0;
+				int start = i;
+				for (; i < end && explicit < 10000; i++) {
+					int digit = buffer.get(i) - '0';
+					if(digit < 0 || digit > 9) {
+						break;
+					}
+					explicit = explicit * 10 + digit;
+				}
+				if(i == start) {
+					any = false;
+				}
+				exponent += sign * explicit;
+			}
+			if(!any || i != end || mantissa >= MAX_EXACT_MANTISSA || exponent < -22 || exponent > 22) {
+				if(any && i == end && mantissa == 0) {
+					return negative ? -0.0d : 0.0d;
+				}
+				return Double.parseDouble(getString(field));
+			}
+			// both operands are exact doubles, so the one rounding of the division or multiplication is correct
+			double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+			return negative ? -value : value;
+		}
+
+		/**
+		 * @return the record decoded as UTF-8, without the line terminator.
+		 */
+		@Override
+		public String toString() {
+			int end = bounds[count * 2 - 1];
+			byte[] bytes = new byte[end - start];
+			for (int i = 0; i < bytes.length; i++) {
+				bytes[i] = buffer.get(start + i);
+			}
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+
+		private void check(final int field) {
+			if(field < 0 || field >= count) {
+				throw new IndexOutOfBoundsException("field " + field + " of " + count);
+			}
+		}
+
+		/**
+		 * copies the field into the scratch array.
+		 * @return number of bytes copied.
+		 */
+		private int copy(final int field) {
+			check(field);
+			int from = bounds[field * 2];
+			int length = bounds[field * 2 + 1] - from;
+			if(scratch.length < length) {
+				scratch = new byte[Math.max(length, scratch.length * 2)];
+			}
+			for (int i = 0; i < length; i++) {
+				scratch[i] = buffer.get(from + i);
+			}
+			return length;
+		}
+	}
+
+}
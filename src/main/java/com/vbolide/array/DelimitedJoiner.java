@@ -0,0 +1,354 @@
+package com.vbolide.array;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import com.vbolide.array.ArrayUtil.ArrayDelimeter;
+import com.vbolide.exception.InvalidParameterException;
+
+/**
+ * Utility class for joining character sequences with a delimiter.
+ * <p>
+ * Array and {@linkplain Collection} inputs are measured first, so the result is built in a buffer of the exact length
+ * without resizing. The {@linkplain Appendable}, {@linkplain Writer} and {@linkplain OutputStream} variants write every
+ * field as it is visited and never build the joined value, {@linkplain OutputStream}s receive UTF-8 encoded bytes through a
+ * buffer reused per thread. A {@code null} field is written as {@code "null"}, like {@linkplain StringBuilder#append(CharSequence)}.
+ *
+ * @author Vamshi Byagari
+ */
+public class DelimitedJoiner {
+
+	private static final int BUFFER_SIZE = 1 << 13;
+
+	private static final String NULL = "null";
+
+	/**
+	 * encoding buffer of the {@linkplain OutputStream} variants, kept per thread and lent out while a write is running so that
+	 * a stream writing through this class again gets a buffer of its own.
+	 */
+	private static final ThreadLocal<byte[]> SCRATCH = new ThreadLocal<>();
+
+	private DelimitedJoiner() {}
+
+
+	/**
+	 * @param arrayDelimeter delimiter written between the fields.
+	 * @param inputs fields to join.
+	 * @return fields joined with the delimiter.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static String join(final ArrayDelimeter arrayDelimeter, final CharSequence... inputs) throws InvalidParameterException{
+		if(arrayDelimeter == null) {
+			throw new InvalidParameterException("invalid parameters provided");
+		}
+		return join(arrayDelimeter.label, inputs);
+	}
+
+	/**
+	 * @param delimiter delimiter written between the fields.
+	 * @param inputs fields to join.
+	 * @return fields joined with the delimiter, built in a buffer of the exact length.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static String join(final CharSequence delimiter, final CharSequence... inputs) throws InvalidParameterException{
+		if(delimiter == null || inputs == null) {
+			throw new InvalidParameterException("invalid parameters provided");
+		}
+		if(inputs.length == 0) {
+			return "";
+		}
+		long length = (long) delimiter.length() * (inputs.length - 1);
+		for (CharSequence input : inputs) {
+			length += input == null ? NULL.length() : input.length();
+		}
+		StringBuilder result = new StringBuilder(capacity(length));
+		result.append(inputs[0]);
+		for (int i = 1; i < inputs.length; i++) {
+			result.append(delimiter).append(inputs[i]);
+		}
+		return result.toString();
+	}
+
+	/**
+	 * @param delimiter delimiter written between the fields.
+	 * @param inputs fields to join, a {@linkplain Collection} is measured first and joined in a buffer of the exact length.
+	 * @return fields joined with the delimiter.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static String join(final CharSequence delimiter, final Iterable<? extends CharSequence> inputs) throws InvalidParameterException{
+		if(delimiter == null || inputs == null) {
+			throw new InvalidParameterException("invalid parameters provided");
+		}
+		StringBuilder result;
+		if(inputs instanceof Collection) {
+			Collection<? extends CharSequence> collection = (Collection<? extends CharSequence>) inputs;
+			if(collection.isEmpty()) {
+				return "";
+			}
+			long length = (long) delimiter.length() * (collection.size() - 1);
+			for (CharSequence input : collection) {
+				length += input == null ? NULL.length() : input.length();
+			}
+			result = new StringBuilder(capacity(length));
+		}else {
+			result = new StringBuilder();
+		}
+		appendAll(result, delimiter, inputs.iterator());
+		return result.toString();
+	}
+
+	/**
+	 * @param delimiter delimiter written between the fields.
+	 * @param inputs fields to join, consumed by this call.
+	 * @return fields joined with the delimiter.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static String join(final CharSequence delimiter, final Stream<? extends CharSequence> inputs) throws InvalidParameterException{
+		if(delimiter == null || inputs == null) {
+			throw new InvalidParameterException("invalid parameters provided");
+		}
+		StringBuilder result = new StringBuilder();
+		appendAll(result, delimiter, inputs.iterator());
+		return result.toString();
+	}
+
+	/**
+	 * appends the fields joined with the delimiter, no intermediate {@linkplain String} is built.
+	 * @param destination target of the characters.
+	 * @param delimiter delimiter written between the fields.
+	 * @param inputs fields to join.
+	 * @return the destination.
+	 * @throws InvalidParameterException input parameters are invalid
+	 * @throws IOException if the destination fails.
+	 */
+	public static <A extends Appendable> A appendTo(final A destination, final CharSequence delimiter, final CharSequence... inputs) throws InvalidParameterException, IOException{
+		if(destination == null || delimiter == null || inputs == null) {
+			throw new InvalidParameterException("invalid parameters provided");
+		}
+		for (int i = 0; i < inputs.length; i++) {
+			if(i > 0) {
+				destination.append(delimiter);
+			}
+			destination.append(inputs[i]);
+		}
+		return destination;
+	}
+
+	/**
+	 * appends the fields joined with the delimiter, no intermediate {@linkplain String} is built.
+	 * @param destination target of the characters.
+	 * @param delimiter delimiter written between the fields.
+	 * @param inputs fields to join, a {@linkplain Stream} can be passed as {@code stream::iterator}.
+	 * @return the destination.
+	 * @throws InvalidParameterException input parameters are invalid
+	 * @throws IOException if the destination fails.
+	 */
+	public static <A extends Appendable> A appendTo(final A destination, final CharSequence delimiter, final Iterable<? extends CharSequence> inputs) throws InvalidParameterException, IOException{
+		if(destination == null || delimiter == null || inputs == null) {
+			throw new InvalidParameterException("invalid parameters provided");
+		}
+		appendAll(destination, delimiter, inputs.iterator());
+		return destination;
+	}
+
+	/**
+	 * writes the fields joined with the delimiter, {@linkplain String} fields are written without copying them to an array.
+	 * @param writer target of the characters, it is neither flushed nor closed.
+	 * @param delimiter delimiter written between the fields.
+	 * @param inputs fields to join.
+	 * @throws InvalidParameterException input parameters are invalid
+	 * @throws IOException if the writer fails.
+	 */
+	public static void write(final Writer writer, final CharSequence delimiter, final CharSequence... inputs) throws InvalidParameterException, IOException{
+		if(writer == null || delimiter == null || inputs == null) {
+			throw new InvalidParameterException("invalid parameters provided");
+		}
+		String separator = delimiter.toString();
+		for (int i = 0; i < inputs.length; i++) {
+			if(i > 0) {
+				writer.write(separator);
+			}
+			write(writer, inputs[i]);
+		}
+	}
+
+	/**
+	 * writes the fields joined with the delimiter, {@linkplain String} fields are written without copying them to an array.
+	 * @param writer target of the characters, it is neither flushed nor closed.
+	 * @param delimiter delimiter written between the fields.
+	 * @param inputs fields to join, a {@linkplain Stream} can be passed as {@code stream::iterator}.
+	 * @throws InvalidParameterException input parameters are invalid
+	 * @throws IOException if the writer fails.
+	 */
+	public static void write(final Writer writer, final CharSequence delimiter, final Iterable<? extends CharSequence> inputs) throws InvalidParameterException, IOException{
+		if(writer == null || delimiter == null || inputs == null) {
+			throw new InvalidParameterException("invalid parameters provided");
+		}
+		String separator = delimiter.toString();
+		boolean first = true;
+		for (CharSequence input : inputs) {
+			if(!first) {
+				writer.write(separator);
+			}
+			write(writer, input);
+			first = false;
+		}
+	}
+
+	/**
+	 * writes the fields joined with the delimiter as UTF-8, unpaired surrogates are written as {@code '?'}.
+	 * @param output target of the bytes, it is neither flushed nor closed.
+	 * @param delimiter delimiter written between the fields.
+	 * @param inputs fields to join.
+	 * @throws InvalidParameterException input parameters are invalid
+	 * @throws IOException if the stream fails.
+	 */
+	public static void write(final OutputStream output, final CharSequence delimiter, final CharSequence... inputs) throws InvalidParameterException, IOException{
+		if(output == null || delimiter == null || inputs == null) {
+			throw new InvalidParameterException("invalid parameters provided");
+		}
+		Utf8Writer utf8 = new Utf8Writer(output);
+		try {
+			for (int i = 0; i < inputs.length; i++) {
+				if(i > 0) {
+					utf8.write(delimiter);
+				}
+				utf8.write(inputs[i] == null ? NULL : inputs[i]);
+			}
+			utf8.drain();
+		} finally {
+			utf8.release();
+		}
+	}
+
+	/**
+	 * writes the fields joined with the delimiter as UTF-8, unpaired surrogates are written as {@code '?'}.
+	 * @param output target of the bytes, it is neither flushed nor closed.
+	 * @param delimiter delimiter written between the fields.
+	 * @param inputs fields to join, a {@linkplain Stream} can be passed as {@code stream::iterator}.
+	 * @throws InvalidParameterException input parameters are invalid
+	 * @throws IOException if the stream fails.
+	 */
+	public static void write(final OutputStream output, final CharSequence delimiter, final Iterable<? extends CharSequence> inputs) throws InvalidParameterException, IOException{
+		if(output == null || delimiter == null || inputs == null) {
+			throw new InvalidParameterException("invalid parameters provided");
+		}
+		Utf8Writer utf8 = new Utf8Writer(output);
+		try {
+			boolean first = true;
+			for (CharSequence input : inputs) {
+				if(!first) {
+					utf8.write(delimiter);
+				}
+				utf8.write(input == null ? NULL : input);
+				first = false;
+			}
+			utf8.drain();
+		} finally {
+			utf8.release();
+		}
+	}
+
+
+	private static int capacity(final long length) throws InvalidParameterException{
+		if(length > Integer.MAX_VALUE - 8) {
+			throw new InvalidParameterException("joined length " + length + " exceeds the maximum array size");
+		}
+		return (int) length;
+	}
+
+	private static void appendAll(final StringBuilder destination, final CharSequence delimiter, final Iterator<? extends CharSequence> inputs) {
+		if(inputs.hasNext()) {
+			destination.append(inputs.next());
+		}
+		while (inputs.hasNext()) {
+			destination.append(delimiter).append(inputs.next());
+		}
+	}
+
+	private static void appendAll(final Appendable destination, final CharSequence delimiter, final Iterator<? extends CharSequence> inputs) throws IOException{
+		if(inputs.hasNext()) {
+			destination.append(inputs.next());
+		}
+		while (inputs.hasNext()) {
+			destination.append(delimiter).append(inputs.next());
+		}
+	}
+
+	private static void write(final Writer writer, final CharSequence input) throws IOException{
+		if(input == null || input instanceof String) {
+			writer.write(input == null ? NULL : (String) input);
+		}else {
+			writer.append(input);
+		}
+	}
+
+
+	/**
+	 * UTF-8 encoder into the thread's scratch buffer that is written to the stream whenever it fills.
+	 */
+	private static final class Utf8Writer {
+
+		private final OutputStream output;
+		private final byte[] buffer;
+		private int count;
+
+		Utf8Writer(final OutputStream output) {
+			this.output = output;
+			byte[] scratch = SCRATCH.get();
+			if(scratch == null) {
+				scratch = new byte[BUFFER_SIZE];
+			}else {
+				SCRATCH.set(null);
+			}
+			this.buffer = scratch;
+		}
+
+		void write(final CharSequence input) throws IOException{
+			byte[] bytes = buffer;
+			int position = count;
+			for (int i = 0, length = input.length(); i < length; i++) {
+				if(position > BUFFER_SIZE - 4) {
+					output.write(bytes, 0, position);
+					position = 0;
+				}
+				char c = input.charAt(i);
+				if(c < 0x80) {
+					bytes[position++] = (byte) c;
+				}else if(c < 0x800) {
+					bytes[position++] = (byte) (0xC0 | (c >> 6));
+					bytes[position++] = (byte) (0x80 | (c & 0x3F));
+				}else if(!Character.isSurrogate(c)) {
+					bytes[position++] = (byte) (0xE0 | (c >> 12));
+					bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+					bytes[position++] = (byte) (0x80 | (c & 0x3F));
+				}else if(Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(input.charAt(i + 1))) {
+					int codePoint = Character.toCodePoint(c, input.charAt(++i));
+					bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+					bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+					bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+					bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+				}else {
+					bytes[position++] = '?';
+				}
+			}
+			count = position;
+		}
+
+		void drain() throws IOException{
+			if(count > 0) {
+				output.write(buffer, 0, count);
+				count = 0;
+			}
+		}
+
+		void release() {
+			SCRATCH.set(buffer);
+		}
+	}
+
+}
@@ -0,0 +1,215 @@
+package com.vbolide.array;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.vbolide.array.ArrayUtil.ArrayDelimeter;
+import com.vbolide.exception.InvalidParameterException;
+import com.vbolide.string.CharSequenceView;
+
+/**
+ * Utility class for splitting delimited text on a literal delimiter, never on a regular expression.
+ * <p>
+ * Delimiters of any length are matched character by character, so {@linkplain ArrayDelimeter#DOT},
+ * {@linkplain ArrayDelimeter#DOLLAR} and {@linkplain ArrayDelimeter#ASTERIC} split where they appear. The lazy variants
+ * and the array filling variant return {@linkplain CharSequenceView}s over the input instead of copies.
+ *
+ * @author Vamshi Byagari
+ */
+public class DelimitedSplitter {
+
+	private DelimitedSplitter() {}
+
+
+	/**
+	 * splits the input on the delimiter like {@linkplain String#split(String)} does on a literal pattern: trailing empty fields are removed.
+	 * @param input source string.
+	 * @param arrayDelimeter delimiter between the fields.
+	 * @return fields of the input.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static String[] split(final CharSequence input, final ArrayDelimeter arrayDelimeter) throws InvalidParameterException{
+		if(arrayDelimeter == null) {
+			throw new InvalidParameterException("invalid parameters provided");
+		}
+		return split(input, arrayDelimeter.label);
+	}
+
+	/**
+	 * splits the input on the delimiter like {@linkplain String#split(String)} does on a literal pattern: trailing empty fields are removed.
+	 * @param input source string.
+	 * @param delimiter literal delimiter between the fields, one or more characters.
+	 * @return fields of the input.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static String[] split(final CharSequence input, final CharSequence delimiter) throws InvalidParameterException{
+		validate(input, delimiter);
+		return fields(input, delimiter);
+	}
+
+	/**
+	 * {@linkplain #split(CharSequence, CharSequence)} of a non null input and non empty delimiter.
+	 */
+	static String[] fields(final CharSequence input, final CharSequence delimiter) {
+		int length = input.length();
+		int delimiterLength = delimiter.length();
+		int count = 1;
+		for (int index = indexOf(input, delimiter, 0); index >= 0; index = indexOf(input, delimiter, index + delimiterLength)) {
+			count++;
+		}
+		if(count == 1) {
+			return new String[] { input.toString() };
+		}
+		String source = input.toString();
+		String[] fields = new String[count];
+		int start = 0;
+		for (int i = 0; i < count - 1; i++) {
+			int index = indexOf(source, delimiter, start);
+			fields[i] = source.substring(start, index);
+			start = index + delimiterLength;
+		}
+		fields[count - 1] = source.substring(start, length);
+		int size = count;
+		while (size > 0 && fields[size - 1].isEmpty()) {
+			size--;
+		}
+		return size == count ? fields : Arrays.copyOf(fields, size);
+	}
+
+	/**
+	 * lazily splits the input, each field is found when requested. Every field is returned, including trailing empty ones.
+	 * @param input source characters, must not change while iterating.
+	 * @param delimiter literal delimiter between the fields, one or more characters.
+	 * @return {@linkplain Iterator} of {@linkplain CharSequenceView}s over the input.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static Iterator<CharSequence> iterator(final CharSequence input, final CharSequence delimiter) throws InvalidParameterException{
+		validate(input, delimiter);
+		return new FieldIterator(input, delimiter);
+	}
+
+	/**
+	 * lazily splits the input, each field is found when the stream consumes it. Every field is returned, including trailing empty ones.
+	 * @param input source characters, must not change while streaming.
+	 * @param delimiter literal delimiter between the fields, one or more characters.
+	 * @return sequential {@linkplain Stream} of {@linkplain CharSequenceView}s over the input.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static Stream<CharSequence> stream(final CharSequence input, final CharSequence delimiter) throws InvalidParameterException{
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(input, delimiter), Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * splits the input into the caller provided array like {@linkplain String#split(String, int)} with a limit of the array length:
+	 * the last element receives the rest of the input and trailing empty fields are kept.
+	 * A {@code String[]} destination is filled with {@linkplain String}s, any other with {@linkplain CharSequenceView}s over the input.
+	 * @param input source characters.
+	 * @param delimiter literal delimiter between the fields, one or more characters.
+	 * @param destination array to fill from index 0.
+	 * @return number of fields written.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static int split(final CharSequence input, final CharSequence delimiter, final CharSequence[] destination) throws InvalidParameterException{
+		validate(input, delimiter);
+		if(destination == null || destination.length == 0) {
+			throw new InvalidParameterException("parameter destination invalid");
+		}
+		boolean strings = destination.getClass().getComponentType() == String.class;
+		int delimiterLength = delimiter.length();
+		int count = 0;
+		int start = 0;
+		while (count < destination.length - 1) {
+			int index = indexOf(input, delimiter, start);
+			if(index < 0) {
+				break;
+			}
+			destination[count++] = field(input, start, index, strings);
+			start = index + delimiterLength;
+		}
+		destination[count++] = field(input, start, input.length(), strings);
+		return count;
+	}
+
+
+	private static void validate(final CharSequence input, final CharSequence delimiter) throws InvalidParameterException{
+		if(input == null || delimiter == null || delimiter.length() == 0) {
+			throw new InvalidParameterException("invalid parameters provided");
+		}
+	}
+
+	private static CharSequence field(final CharSequence input, final int start, final int end, final boolean string) {
+		if(string) {
+			return input instanceof String ? ((String) input).substring(start, end) : input.subSequence(start, end).toString();
+		}
+		return new CharSequenceView(input, start, end);
+	}
+
+	/**
+	 * @return index of the first occurrence of the delimiter at or after from, -1 if there is none.
+	 */
+	static int indexOf(final CharSequence input, final CharSequence delimiter, final int from) {
+		if(input instanceof String) {
+			String source = (String) input;
+			return delimiter.length() == 1 ? source.indexOf(delimiter.charAt(0), from) : source.indexOf(delimiter.toString(), from);
+		}
+		char first = delimiter.charAt(0);
+		int delimiterLength = delimiter.length();
+		int last = input.length() - delimiterLength;
+		search:
+		for (int i = from; i <= last; i++) {
+			if(input.charAt(i) != first) {
+				continue;
+			}
+			for (int k = 1; k < delimiterLength; k++) {
+				if(input.charAt(i + k) != delimiter.charAt(k)) {
+					continue search;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+
+	private static final class FieldIterator implements Iterator<CharSequence> {
+
+		private final CharSequence input;
+		private final CharSequence delimiter;
+
+		/**
+		 * start of the next field, -1 once the last field was returned.
+		 */
+		private int start;
+
+		FieldIterator(final CharSequence input, final CharSequence delimiter) {
+			this.input = input;
+			this.delimiter = delimiter;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return start >= 0;
+		}
+
+		@Override
+		public CharSequence next() {
+			if(start < 0) {
+				throw new NoSuchElementException();
+			}
+			int from = start;
+			int index = indexOf(input, delimiter, from);
+			if(index < 0) {
+				start = -1;
+				return new CharSequenceView(input, from, input.length());
+			}
+			start = index + delimiter.length();
+			return new CharSequenceView(input, from, index);
+		}
+	}
+
+}
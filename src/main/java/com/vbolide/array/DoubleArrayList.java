@@ -0,0 +1,455 @@
+package com.vbolide.array;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import com.vbolide.exception.InvalidParameterException;
+
+/**
+ * Growable list of <b>double</b> values stored in a plain <b>double</b> array, without boxing.
+ * <p>
+ * The backing array grows by half of its length when it is full, so appending is amortized constant time. Iterators,
+ * spliterators and streams read the backing array directly and are not fail-fast: the list must not be modified while they
+ * are in use. Searches compare with {@code ==} like {@linkplain ArrayUtil}, so {@code NaN} is never found.
+ *
+ * @author Vamshi Byagari
+ */
+public class DoubleArrayList {
+
+	private static final int DEFAULT_CAPACITY = 10;
+
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	private double[] elements;
+	private int size;
+
+	DoubleArrayList(final double[] elements, final int size) {
+		this.elements = elements;
+		this.size = size;
+	}
+
+	/**
+	 * creates an empty instance of {@linkplain DoubleArrayList}.
+	 * @return {@linkplain DoubleArrayList} instance.
+	 */
+	public static DoubleArrayList init() {
+		return new DoubleArrayList(new double[DEFAULT_CAPACITY], 0);
+	}
+
+	/**
+	 * creates an empty instance of {@linkplain DoubleArrayList}.
+	 * @param capacity number of values it holds before growing.
+	 * @return {@linkplain DoubleArrayList} instance.
+	 * @throws InvalidParameterException input parameter invalid
+	 */
+	public static DoubleArrayList init(final int capacity) throws InvalidParameterException{
+		if(capacity < 0 || capacity > MAX_CAPACITY) {
+			throw new InvalidParameterException("input parameter capacity invalid");
+		}
+		return new DoubleArrayList(new double[capacity], 0);
+	}
+
+	/**
+	 * creates an instance of {@linkplain DoubleArrayList} holding a copy of the values.
+	 * @param values initial values.
+	 * @return {@linkplain DoubleArrayList} instance.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public static DoubleArrayList copyOf(final double... values) throws InvalidParameterException{
+		if(values == null) {
+			throw new InvalidParameterException("input parameter values is null");
+		}
+		return new DoubleArrayList(Arrays.copyOf(values, Math.max(values.length, DEFAULT_CAPACITY)), values.length);
+	}
+
+
+	/**
+	 * @return number of values.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return <b>true</b> if the list holds no values, <b>false</b> otherwise.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @return number of values the list holds before growing.
+	 */
+	public int capacity() {
+		return elements.length;
+	}
+
+	/**
+	 * @param index position of the value.
+	 * @return value at the index.
+	 */
+	public double get(final int index) {
+		checkIndex(index);
+		return elements[index];
+	}
+
+	/**
+	 * @param index position of the value.
+	 * @param value new value.
+	 * @return value previously at the index.
+	 */
+	public double set(final int index, final double value) {
+		checkIndex(index);
+		double previous = elements[index];
+		elements[index] = value;
+		return previous;
+	}
+
+	/**
+	 * appends the value.
+	 * @param value value to append.
+	 */
+	public void add(final double value) {
+		if(size == elements.length) {
+			grow(size + 1);
+		}
+		elements[size++] = value;
+	}
+
+	/**
+	 * inserts the value, shifting the values from the index on to the right.
+	 * @param index position of the value, at most {@linkplain #size()}.
+	 * @param value value to insert.
+	 */
+	public void add(final int index, final double value) {
+		if(index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("index " + index + " of size " + size);
+		}
+		if(size == elements.length) {
+			grow(size + 1);
+		}
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+		elements[index] = value;
+		size++;
+	}
+
+	/**
+	 * appends all values, growing the backing array at most once.
+	 * @param values values to append.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public void addAll(final double... values) throws InvalidParameterException{
+		if(values == null) {
+			throw new InvalidParameterException("input parameter values is null");
+		}
+		addAll(values, 0, values.length);
+	}
+
+	/**
+	 * appends the values of the range, growing the backing array at most once.
+	 * @param values array holding the values.
+	 * @param from index of the first value (inclusive).
+	 * @param to index of the last value (exclusive).
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public void addAll(final double[] values, final int from, final int to) throws InvalidParameterException{
+		ArrayUtil.checkRange(values == null ? -1 : values.length, from, to);
+		int count = to - from;
+		if(size + count > elements.length) {
+			grow(size + count);
+		}
+		System.arraycopy(values, from, elements, size, count);
+		size += count;
+	}
+
+	/**
+	 * appends all values of the other list.
+	 * @param values list to append, may be this list.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public void addAll(final DoubleArrayList values) throws InvalidParameterException{
+		if(values == null) {
+			throw new InvalidParameterException("input parameter values is null");
+		}
+		addAll(values.elements, 0, values.size);
+	}
+
+	/**
+	 * removes the value at the index, shifting the values after it to the left.
+	 * @param index position of the value.
+	 * @return removed value.
+	 */
+	public double removeAt(final int index) {
+		checkIndex(index);
+		double removed = elements[index];
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		size--;
+		return removed;
+	}
+
+	/**
+	 * removes the values of the range with a single shift of the values after it.
+	 * @param from index of the first value (inclusive).
+	 * @param to index of the last value (exclusive).
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public void removeRange(final int from, final int to) throws InvalidParameterException{
+		ArrayUtil.checkRange(size, from, to);
+		System.arraycopy(elements, to, elements, from, size - to);
+		size -= to - from;
+	}
+
+	/**
+	 * removes every value matching the predicate in a single pass.
+	 * @param filter test of one value.
+	 * @return <b>true</b> if any value was removed, <b>false</b> otherwise.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public boolean removeIf(final DoublePredicate filter) throws InvalidParameterException{
+		if(filter == null) {
+			throw new InvalidParameterException("input parameter filter is null");
+		}
+		double[] array = elements;
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			double value = array[i];
+			if(!filter.test(value)) {
+				array[kept++] = value;
+			}
+		}
+		boolean removed = kept != size;
+		size = kept;
+		return removed;
+	}
+
+	/**
+	 * removes every occurrence of the values in a single pass, the values are looked up through an {@linkplain ArrayIndex}.
+	 * @param values values to remove.
+	 * @return <b>true</b> if any value was removed, <b>false</b> otherwise.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public boolean removeAll(final double... values) throws InvalidParameterException{
+		if(values == null) {
+			throw new InvalidParameterException("input parameter values is null");
+		}
+		ArrayIndex.OfDouble index = ArrayUtil.buildIndex(values);
+		return removeIf(index::contains);
+	}
+
+	/**
+	 * @param value value to find.
+	 * @return <b>true</b> if the list holds the value, <b>false</b> otherwise.
+	 */
+	public boolean contains(final double value) {
+		return indexOf(value) >= 0;
+	}
+
+	/**
+	 * @param value value to find, compared with {@code ==}.
+	 * @return index of the first occurrence of the value, -1 if there is none.
+	 */
+	public int indexOf(final double value) {
+		double[] array = elements;
+		for (int i = 0; i < size; i++) {
+			if(array[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param value value to find, compared with {@code ==}.
+	 * @return index of the last occurrence of the value, -1 if there is none.
+	 */
+	public int lastIndexOf(final double value) {
+		double[] array = elements;
+		for (int i = size - 1; i >= 0; i--) {
+			if(array[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * removes all values, the capacity is kept.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * grows the backing array so that it holds at least the number of values.
+	 * @param capacity number of values.
+	 */
+	public void ensureCapacity(final int capacity) {
+		if(capacity > elements.length) {
+			grow(capacity);
+		}
+	}
+
+	/**
+	 * shrinks the backing array to the number of values.
+	 */
+	public void trimToSize() {
+		if(size < elements.length) {
+			elements = Arrays.copyOf(elements, size);
+		}
+	}
+
+	/**
+	 * sorts the values in ascending order in place, in the order of {@linkplain Double#compare(double, double)}.
+	 */
+	public void sort() {
+		Arrays.sort(elements, 0, size);
+	}
+
+	/**
+	 * sorts the values in ascending order in place with {@linkplain Arrays#parallelSort(double[], int, int)}, for large lists.
+	 */
+	public void parallelSort() {
+		Arrays.parallelSort(elements, 0, size);
+	}
+
+	/**
+	 * @param action receives every value in order.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public void forEach(final DoubleConsumer action) throws InvalidParameterException{
+		if(action == null) {
+			throw new InvalidParameterException("input parameter action is null");
+		}
+		double[] array = elements;
+		for (int i = 0; i < size; i++) {
+			action.accept(array[i]);
+		}
+	}
+
+	/**
+	 * @return new array of the values, accepted by the <b>double</b> methods of {@linkplain ArrayUtil} and {@linkplain ParallelArrayUtil}.
+	 */
+	public double[] toArray() {
+		return Arrays.copyOf(elements, size);
+	}
+
+	/**
+	 * @return iterator over the values.
+	 */
+	public PrimitiveIterator.OfDouble iterator() {
+		return new Iterator();
+	}
+
+	/**
+	 * @return spliterator over the values, splits evenly for parallel streams.
+	 */
+	public Spliterator.OfDouble spliterator() {
+		return Spliterators.spliterator(elements, 0, size, Spliterator.ORDERED);
+	}
+
+	/**
+	 * @return sequential stream of the values.
+	 */
+	public DoubleStream stream() {
+		return StreamSupport.doubleStream(spliterator(), false);
+	}
+
+	/**
+	 * @return parallel stream of the values.
+	 */
+	public DoubleStream parallelStream() {
+		return StreamSupport.doubleStream(spliterator(), true);
+	}
+
+	/**
+	 * @return <b>true</b> if the object is a {@linkplain DoubleArrayList} holding equal values in the same order (compared like {@linkplain Double#equals(Object)}), <b>false</b> otherwise.
+	 */
+	@Override
+	public boolean equals(final Object object) {
+		if(object == this) {
+			return true;
+		}
+		if(!(object instanceof DoubleArrayList)) {
+			return false;
+		}
+		DoubleArrayList other = (DoubleArrayList) object;
+		if(other.size != size) {
+			return false;
+		}
+		for (int i = 0; i < size; i++) {
+			if(Double.doubleToLongBits(other.elements[i]) != Double.doubleToLongBits(elements[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return same hash as {@linkplain Arrays#hashCode(double[])} of {@linkplain #toArray()}.
+	 */
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < size; i++) {
+			hash = 31 * hash + Double.hashCode(elements[i]);
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder(size * 4 + 2).append('[');
+		for (int i = 0; i < size; i++) {
+			if(i > 0) {
+				result.append(", ");
+			}
+			result.append(elements[i]);
+		}
+		return result.append(']').toString();
+	}
+
+
+	private void checkIndex(final int index) {
+		if(index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("index " + index + " of size " + size);
+		}
+	}
+
+	private void grow(final int minimum) {
+		if(minimum < 0 || minimum > MAX_CAPACITY) {
+			throw new OutOfMemoryError("required capacity " + (minimum & 0xFFFFFFFFL) + " exceeds the maximum array size");
+		}
+		int capacity = elements.length + (elements.length >> 1);
+		if(capacity < minimum || capacity > MAX_CAPACITY) {
+			capacity = Math.max(minimum, Math.min(capacity, MAX_CAPACITY));
+		}
+		elements = Arrays.copyOf(elements, Math.max(capacity, DEFAULT_CAPACITY));
+	}
+
+
+	private final class Iterator implements PrimitiveIterator.OfDouble {
+
+		private int cursor;
+
+		@Override
+		public boolean hasNext() {
+			return cursor < size;
+		}
+
+		@Override
+		public double nextDouble() {
+			if(cursor >= size) {
+				throw new NoSuchElementException();
+			}
+			return elements[cursor++];
+		}
+	}
+
+}
@@ -0,0 +1,998 @@
+package com.vbolide.array;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.LongBinaryOperator;
+
+import com.vbolide.exception.InvalidParameterException;
+
+/**
+ * Utility class for searching and aggregating very large primitive arrays on all cores.
+ * <p>
+ * Arrays of at least {@linkplain #PARALLEL_THRESHOLD} elements are split in halves down to leaves of at least
+ * {@linkplain #MIN_LEAF_SIZE} elements that run as {@linkplain ForkJoinPool#commonPool()} tasks, smaller arrays (or a
+ * single core pool) are scanned sequentially, see {@linkplain #strategy(long)}. Searches terminate early: once a match is
+ * found, leaves after it are skipped.
+ *
+ * @author Vamshi Byagari
+ */
+public class ParallelArrayUtil {
+
+	/**
+	 * below this many elements the fork/join overhead outweighs the gain of scanning on several cores.
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 18;
+
+	/**
+	 * smallest number of elements scanned by one task.
+	 */
+	public static final int MIN_LEAF_SIZE = 1 << 15;
+
+	private static final long NOT_FOUND = Long.MAX_VALUE;
+
+	/**
+	 * Execution chosen by {@linkplain ParallelArrayUtil#strategy(long)}.
+     * <ul>
+     * <li>{@linkplain #SEQUENTIAL}<br></li>
+     * <li>{@linkplain #PARALLEL}<br></li>
+     * </ul>
+	 * @author Vamshi Byagari
+	 */
+	public enum Strategy{
+		/**
+		 * single loop on the calling thread.
+		 */
+		SEQUENTIAL,
+
+		/**
+		 * fork/join tasks on the common pool.
+		 */
+		PARALLEL
+	}
+
+	private ParallelArrayUtil() {}
+
+
+	/**
+	 * the execution every method of this class uses for an array of the length.
+	 * @param length number of elements to process.
+	 * @return {@linkplain Strategy#PARALLEL} for at least {@linkplain #PARALLEL_THRESHOLD} elements on a multi-core pool, {@linkplain Strategy#SEQUENTIAL} otherwise.
+	 */
+	public static Strategy strategy(final long length) {
+		return length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1 ? Strategy.PARALLEL : Strategy.SEQUENTIAL;
+	}
+
+	/**
+	 * finds the first index in [0, length) for which the predicate holds, in parallel for large lengths.
+	 * @param length number of indexes to test.
+	 * @param predicate test of one index, must be thread safe.
+	 * @return first matching index, -1 if there is none.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static int indexOf(final int length, final IntPredicate predicate) throws InvalidParameterException{
+		if(length < 0 || predicate == null) {
+			throw new InvalidParameterException("parameter length and/or predicate invalid");
+		}
+		return (int) search(length, false, (from, to) -> {
+			for (int i = (int) from; i < to; i++) {
+				if(predicate.test(i)) {
+					return i;
+				}
+			}
+			return -1;
+		});
+	}
+
+	/**
+	 * counts the indexes in [0, length) for which the predicate holds, in parallel for large lengths.
+	 * @param length number of indexes to test.
+	 * @param predicate test of one index, must be thread safe.
+	 * @return number of matching indexes.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static int count(final int length, final IntPredicate predicate) throws InvalidParameterException{
+		if(length < 0 || predicate == null) {
+			throw new InvalidParameterException("parameter length and/or predicate invalid");
+		}
+		return (int) reduce(length, Long::sum, (from, to) -> {
+			long count = 0;
+			for (int i = (int) from; i < to; i++) {
+				if(predicate.test(i)) {
+					count++;
+				}
+			}
+			return count;
+		});
+	}
+
+	/**
+	 * checks whether the <b>byte</b> item is available in the array.
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static boolean contains(final byte item, final byte[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return search(array.length, true, (from, to) -> indexOf(item, array, (int) from, (int) to)) >= 0;
+	}
+
+	/**
+	 * finds the first index of the <b>byte</b> item in the array.
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return first index of the item, -1 if it does not exist.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static int indexOf(final byte item, final byte[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) search(array.length, false, (from, to) -> indexOf(item, array, (int) from, (int) to));
+	}
+
+	/**
+	 * counts the occurrences of the <b>byte</b> item in the array.
+	 * @param item item to count in array.
+	 * @param array array in which item to count.
+	 * @return number of occurrences.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static int count(final byte item, final byte[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) reduce(array.length, Long::sum, (from, to) -> {
+			long count = 0;
+			for (int i = (int) from; i < to; i++) {
+				if(array[i] == item) {
+					count++;
+				}
+			}
+			return count;
+		});
+	}
+
+	/**
+	 * @param array array of <b>byte</b> values.
+	 * @return smallest value of the array.
+	 * @throws InvalidParameterException input parameter array is null or empty
+	 */
+	public static byte min(final byte[] array) throws InvalidParameterException{
+		if(array == null || array.length == 0) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (byte) reduce(array.length, Math::min, (from, to) -> {
+			byte min = array[(int) from];
+			for (int i = (int) from + 1; i < to; i++) {
+				if(array[i] < min) {
+					min = array[i];
+				}
+			}
+			return min;
+		});
+	}
+
+	/**
+	 * @param array array of <b>byte</b> values.
+	 * @return largest value of the array.
+	 * @throws InvalidParameterException input parameter array is null or empty
+	 */
+	public static byte max(final byte[] array) throws InvalidParameterException{
+		if(array == null || array.length == 0) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (byte) reduce(array.length, Math::max, (from, to) -> {
+			byte max = array[(int) from];
+			for (int i = (int) from + 1; i < to; i++) {
+				if(array[i] > max) {
+					max = array[i];
+				}
+			}
+			return max;
+		});
+	}
+
+	/**
+	 * checks whether the <b>short</b> item is available in the array.
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static boolean contains(final short item, final short[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return search(array.length, true, (from, to) -> indexOf(item, array, (int) from, (int) to)) >= 0;
+	}
+
+	/**
+	 * finds the first index of the <b>short</b> item in the array.
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return first index of the item, -1 if it does not exist.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static int indexOf(final short item, final short[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) search(array.length, false, (from, to) -> indexOf(item, array, (int) from, (int) to));
+	}
+
+	/**
+	 * counts the occurrences of the <b>short</b> item in the array.
+	 * @param item item to count in array.
+	 * @param array array in which item to count.
+	 * @return number of occurrences.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static int count(final short item, final short[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) reduce(array.length, Long::sum, (from, to) -> {
+			long count = 0;
+			for (int i = (int) from; i < to; i++) {
+				if(array[i] == item) {
+					count++;
+				}
+			}
+			return count;
+		});
+	}
+
+	/**
+	 * @param array array of <b>short</b> values.
+	 * @return smallest value of the array.
+	 * @throws InvalidParameterException input parameter array is null or empty
+	 */
+	public static short min(final short[] array) throws InvalidParameterException{
+		if(array == null || array.length == 0) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (short) reduce(array.length, Math::min, (from, to) -> {
+			short min = array[(int) from];
+			for (int i = (int) from + 1; i < to; i++) {
+				if(array[i] < min) {
+					min = array[i];
+				}
+			}
+			return min;
+		});
+	}
+
+	/**
+	 * @param array array of <b>short</b> values.
+	 * @return largest value of the array.
+	 * @throws InvalidParameterException input parameter array is null or empty
+	 */
+	public static short max(final short[] array) throws InvalidParameterException{
+		if(array == null || array.length == 0) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (short) reduce(array.length, Math::max, (from, to) -> {
+			short max = array[(int) from];
+			for (int i = (int) from + 1; i < to; i++) {
+				if(array[i] > max) {
+					max = array[i];
+				}
+			}
+			return max;
+		});
+	}
+
+	/**
+	 * checks whether the <b>char</b> item is available in the array.
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static boolean contains(final char item, final char[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return search(array.length, true, (from, to) -> indexOf(item, array, (int) from, (int) to)) >= 0;
+	}
+
+	/**
+	 * finds the first index of the <b>char</b> item in the array.
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return first index of the item, -1 if it does not exist.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static int indexOf(final char item, final char[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) search(array.length, false, (from, to) -> indexOf(item, array, (int) from, (int) to));
+	}
+
+	/**
+	 * counts the occurrences of the <b>char</b> item in the array.
+	 * @param item item to count in array.
+	 * @param array array in which item to count.
+	 * @return number of occurrences.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static int count(final char item, final char[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) reduce(array.length, Long::sum, (from, to) -> {
+			long count = 0;
+			for (int i = (int) from; i < to; i++) {
+				if(array[i] == item) {
+					count++;
+				}
+			}
+			return count;
+		});
+	}
+
+	/**
+	 * @param array array of <b>char</b> values.
+	 * @return smallest value of the array.
+	 * @throws InvalidParameterException input parameter array is null or empty
+	 */
+	public static char min(final char[] array) throws InvalidParameterException{
+		if(array == null || array.length == 0) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (char) reduce(array.length, Math::min, (from, to) -> {
+			char min = array[(int) from];
+			for (int i = (int) from + 1; i < to; i++) {
+				if(array[i] < min) {
+					min = array[i];
+				}
+			}
+			return min;
+		});
+	}
+
+	/**
+	 * @param array array of <b>char</b> values.
+	 * @return largest value of the array.
+	 * @throws InvalidParameterException input parameter array is null or empty
+	 */
+	public static char max(final char[] array) throws InvalidParameterException{
+		if(array == null || array.length == 0) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (char) reduce(array.length, Math::max, (from, to) -> {
+			char max = array[(int) from];
+			for (int i = (int) from + 1; i < to; i++) {
+				if(array[i] > max) {
+					max = array[i];
+				}
+			}
+			return max;
+		});
+	}
+
+	/**
+	 * checks whether the <b>int</b> item is available in the array.
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static boolean contains(final int item, final int[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return search(array.length, true, (from, to) -> indexOf(item, array, (int) from, (int) to)) >= 0;
+	}
+
+	/**
+	 * finds the first index of the <b>int</b> item in the array.
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return first index of the item, -1 if it does not exist.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static int indexOf(final int item, final int[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) search(array.length, false, (from, to) -> indexOf(item, array, (int) from, (int) to));
+	}
+
+	/**
+	 * counts the occurrences of the <b>int</b> item in the array.
+	 * @param item item to count in array.
+	 * @param array array in which item to count.
+	 * @return number of occurrences.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static int count(final int item, final int[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) reduce(array.length, Long::sum, (from, to) -> {
+			long count = 0;
+			for (int i = (int) from; i < to; i++) {
+				if(array[i] == item) {
+					count++;
+				}
+			}
+			return count;
+		});
+	}
+
+	/**
+	 * @param array array of <b>int</b> values.
+	 * @return smallest value of the array.
+	 * @throws InvalidParameterException input parameter array is null or empty
+	 */
+	public static int min(final int[] array) throws InvalidParameterException{
+		if(array == null || array.length == 0) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) reduce(array.length, Math::min, (from, to) -> {
+			int min = array[(int) from];
+			for (int i = (int) from + 1; i < to; i++) {
+				if(array[i] < min) {
+					min = array[i];
+				}
+			}
+			return min;
+		});
+	}
+
+	/**
+	 * @param array array of <b>int</b> values.
+	 * @return largest value of the array.
+	 * @throws InvalidParameterException input parameter array is null or empty
+	 */
+	public static int max(final int[] array) throws InvalidParameterException{
+		if(array == null || array.length == 0) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) reduce(array.length, Math::max, (from, to) -> {
+			int max = array[(int) from];
+			for (int i = (int) from + 1; i < to; i++) {
+				if(array[i] > max) {
+					max = array[i];
+				}
+			}
+			return max;
+		});
+	}
+
+	/**
+	 * checks whether the <b>long</b> item is available in the array.
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static boolean contains(final long item, final long[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return search(array.length, true, (from, to) -> indexOf(item, array, (int) from, (int) to)) >= 0;
+	}
+
+	/**
+	 * finds the first index of the <b>long</b> item in the array.
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return first index of the item, -1 if it does not exist.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static int indexOf(final long item, final long[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) search(array.length, false, (from, to) -> indexOf(item, array, (int) from, (int) to));
+	}
+
+	/**
+	 * counts the occurrences of the <b>long</b> item in the array.
+	 * @param item item to count in array.
+	 * @param array array in which item to count.
+	 * @return number of occurrences.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static int count(final long item, final long[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) reduce(array.length, Long::sum, (from, to) -> {
+			long count = 0;
+			for (int i = (int) from; i < to; i++) {
+				if(array[i] == item) {
+					count++;
+				}
+			}
+			return count;
+		});
+	}
+
+	/**
+	 * @param array array of <b>long</b> values.
+	 * @return smallest value of the array.
+	 * @throws InvalidParameterException input parameter array is null or empty
+	 */
+	public static long min(final long[] array) throws InvalidParameterException{
+		if(array == null || array.length == 0) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return reduce(array.length, Math::min, (from, to) -> {
+			long min = array[(int) from];
+			for (int i = (int) from + 1; i < to; i++) {
+				if(array[i] < min) {
+					min = array[i];
+				}
+			}
+			return min;
+		});
+	}
+
+	/**
+	 * @param array array of <b>long</b> values.
+	 * @return largest value of the array.
+	 * @throws InvalidParameterException input parameter array is null or empty
+	 */
+	public static long max(final long[] array) throws InvalidParameterException{
+		if(array == null || array.length == 0) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return reduce(array.length, Math::max, (from, to) -> {
+			long max = array[(int) from];
+			for (int i = (int) from + 1; i < to; i++) {
+				if(array[i] > max) {
+					max = array[i];
+				}
+			}
+			return max;
+		});
+	}
+
+	/**
+	 * checks whether the <b>float</b> item is available in the array.
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static boolean contains(final float item, final float[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return search(array.length, true, (from, to) -> indexOf(item, array, (int) from, (int) to)) >= 0;
+	}
+
+	/**
+	 * finds the first index of the <b>float</b> item in the array.
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return first index of the item, -1 if it does not exist.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static int indexOf(final float item, final float[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) search(array.length, false, (from, to) -> indexOf(item, array, (int) from, (int) to));
+	}
+
+	/**
+	 * counts the occurrences of the <b>float</b> item in the array.
+	 * @param item item to count in array.
+	 * @param array array in which item to count.
+	 * @return number of occurrences.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static int count(final float item, final float[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) reduce(array.length, Long::sum, (from, to) -> {
+			long count = 0;
+			for (int i = (int) from; i < to; i++) {
+				if(array[i] == item) {
+					count++;
+				}
+			}
+			return count;
+		});
+	}
+
+	/**
+	 * @param array array of <b>float</b> values.
+	 * @return smallest value of the array, with the semantics of {@linkplain Math#min(float, float)} (NaN if any value is NaN).
+	 * @throws InvalidParameterException input parameter array is null or empty
+	 */
+	public static float min(final float[] array) throws InvalidParameterException{
+		if(array == null || array.length == 0) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (float) reduceDouble(array.length, Math::min, (from, to) -> {
+			float min = array[(int) from];
+			for (int i = (int) from + 1; i < to; i++) {
+				min = Math.min(min, array[i]);
+			}
+			return min;
+		});
+	}
+
+	/**
+	 * @param array array of <b>float</b> values.
+	 * @return largest value of the array, with the semantics of {@linkplain Math#max(float, float)} (NaN if any value is NaN).
+	 * @throws InvalidParameterException input parameter array is null or empty
+	 */
+	public static float max(final float[] array) throws InvalidParameterException{
+		if(array == null || array.length == 0) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (float) reduceDouble(array.length, Math::max, (from, to) -> {
+			float max = array[(int) from];
+			for (int i = (int) from + 1; i < to; i++) {
+				max = Math.max(max, array[i]);
+			}
+			return max;
+		});
+	}
+
+	/**
+	 * checks whether the <b>double</b> item is available in the array.
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return <ul><li><b>true</b> if item exists</li><li><b>false</b> otherwise</li></ul>
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static boolean contains(final double item, final double[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return search(array.length, true, (from, to) -> indexOf(item, array, (int) from, (int) to)) >= 0;
+	}
+
+	/**
+	 * finds the first index of the <b>double</b> item in the array.
+	 * @param item item to find in array.
+	 * @param array array from which item to find.
+	 * @return first index of the item, -1 if it does not exist.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static int indexOf(final double item, final double[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) search(array.length, false, (from, to) -> indexOf(item, array, (int) from, (int) to));
+	}
+
+	/**
+	 * counts the occurrences of the <b>double</b> item in the array.
+	 * @param item item to count in array.
+	 * @param array array in which item to count.
+	 * @return number of occurrences.
+	 * @throws InvalidParameterException input parameter array is null
+	 */
+	public static int count(final double item, final double[] array) throws InvalidParameterException{
+		if(array == null) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return (int) reduce(array.length, Long::sum, (from, to) -> {
+			long count = 0;
+			for (int i = (int) from; i < to; i++) {
+				if(array[i] == item) {
+					count++;
+				}
+			}
+			return count;
+		});
+	}
+
+	/**
+	 * @param array array of <b>double</b> values.
+	 * @return smallest value of the array, with the semantics of {@linkplain Math#min(double, double)} (NaN if any value is NaN).
+	 * @throws InvalidParameterException input parameter array is null or empty
+	 */
+	public static double min(final double[] array) throws InvalidParameterException{
+		if(array == null || array.length == 0) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return reduceDouble(array.length, Math::min, (from, to) -> {
+			double min = array[(int) from];
+			for (int i = (int) from + 1; i < to; i++) {
+				min = Math.min(min, array[i]);
+			}
+			return min;
+		});
+	}
+
+	/**
+	 * @param array array of <b>double</b> values.
+	 * @return largest value of the array, with the semantics of {@linkplain Math#max(double, double)} (NaN if any value is NaN).
+	 * @throws InvalidParameterException input parameter array is null or empty
+	 */
+	public static double max(final double[] array) throws InvalidParameterException{
+		if(array == null || array.length == 0) {
+			throw new InvalidParameterException("parameter array invalid");
+		}
+		return reduceDouble(array.length, Math::max, (from, to) -> {
+			double max = array[(int) from];
+			for (int i = (int) from + 1; i < to; i++) {
+				max = Math.max(max, array[i]);
+			}
+			return max;
+		});
+	}
+
+	private static long indexOf(final byte item, final byte[] array, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if(array[i] == item) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static long indexOf(final short item, final short[] array, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if(array[i] == item) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static long indexOf(final char item, final char[] array, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if(array[i] == item) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static long indexOf(final int item, final int[] array, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if(array[i] == item) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static long indexOf(final long item, final long[] array, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if(array[i] == item) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static long indexOf(final float item, final float[] array, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if(array[i] == item) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static long indexOf(final double item, final double[] array, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if(array[i] == item) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+
+	/*
+	 * range based fork/join core, indexes are long so off-heap arrays beyond 2^31 elements can share it.
+	 */
+
+	/**
+	 * searches a range [from, to) of elements.
+	 */
+	@FunctionalInterface
+	interface RangeSearch {
+		/**
+		 * @return first matching index of the range, -1 if there is none.
+		 */
+		long search(long from, long to);
+	}
+
+	/**
+	 * reduces a non empty range [from, to) of elements to one {@code long}.
+	 */
+	@FunctionalInterface
+	interface RangeReduce {
+		long reduce(long from, long to);
+	}
+
+	/**
+	 * reduces a non empty range [from, to) of elements to one {@code double}.
+	 */
+	@FunctionalInterface
+	interface RangeReduceDouble {
+		double reduce(long from, long to);
+	}
+
+	/**
+	 * @param length number of elements.
+	 * @param any <b>true</b> if any match will do, <b>false</b> for the first one.
+	 * @param search sequential search of a range.
+	 * @return matching index, -1 if there is none.
+	 */
+	static long search(final long length, final boolean any, final RangeSearch search) {
+		if(strategy(length) == Strategy.SEQUENTIAL) {
+			return search.search(0, length);
+		}
+		AtomicLong found = new AtomicLong(NOT_FOUND);
+		ForkJoinPool.commonPool().invoke(new SearchTask(search, any, found, 0, length, leafSize(length)));
+		long index = found.get();
+		return index == NOT_FOUND ? -1 : index;
+	}
+
+	/**
+	 * @param length number of elements, at least one.
+	 * @param combine associative combination of two range results.
+	 * @param reduce sequential reduction of a range.
+	 * @return reduction of all elements.
+	 */
+	static long reduce(final long length, final LongBinaryOperator combine, final RangeReduce reduce) {
+		if(length == 0) {
+			return 0;
+		}
+		if(strategy(length) == Strategy.SEQUENTIAL) {
+			return reduce.reduce(0, length);
+		}
+		return ForkJoinPool.commonPool().invoke(new ReduceTask(reduce, combine, 0, length, leafSize(length)));
+	}
+
+	/**
+	 * @param length number of elements, at least one.
+	 * @param combine associative combination of two range results.
+	 * @param reduce sequential reduction of a range.
+	 * @return reduction of all elements.
+	 */
+	static double reduceDouble(final long length, final DoubleBinaryOperator combine, final RangeReduceDouble reduce) {
+		if(strategy(length) == Strategy.SEQUENTIAL) {
+			return reduce.reduce(0, length);
+		}
+		return ForkJoinPool.commonPool().invoke(new ReduceDoubleTask(reduce, combine, 0, length, leafSize(length)));
+	}
+
+	/**
+	 * about four leaves per worker for load balancing, but never less than {@linkplain #MIN_LEAF_SIZE} elements.
+	 */
+	private static long leafSize(final long length) {
+		return Math.max(length / (ForkJoinPool.getCommonPoolParallelism() * 4L), MIN_LEAF_SIZE);
+	}
+
+	private static final class SearchTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient RangeSearch search;
+		private final boolean any;
+		private final AtomicLong found;
+		private final long from;
+		private final long to;
+		private final long leafSize;
+
+		SearchTask(final RangeSearch search, final boolean any, final AtomicLong found, final long from, final long to, final long leafSize) {
+			this.search = search;
+			this.any = any;
+			this.found = found;
+			this.from = from;
+			this.to = to;
+			this.leafSize = leafSize;
+		}
+
+		@Override
+		protected void compute() {
+			if(done()) {
+				return;
+			}
+			if(to - from <= leafSize) {
+				long index = search.search(from, to);
+				if(index >= 0) {
+					long current;
+					while (index < (current = found.get()) && !found.compareAndSet(current, index)) {
+						// retry until the smallest index is kept
+					}
+				}
+				return;
+			}
+			long middle = (from + to) >>> 1;
+			SearchTask right = new SearchTask(search, any, found, middle, to, leafSize);
+			right.fork();
+			new SearchTask(search, any, found, from, middle, leafSize).compute();
+			if(found.get() < middle && right.tryUnfork()) {
+				// a match left of the right half, it does not need to run at all
+				return;
+			}
+			right.join();
+		}
+
+		/**
+		 * @return <b>true</b> when a match makes this range irrelevant.
+		 */
+		private boolean done() {
+			long index = found.get();
+			return index != NOT_FOUND && (any || index < from);
+		}
+	}
+
+	private static final class ReduceTask extends RecursiveTask<Long> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient RangeReduce reduce;
+		private final transient LongBinaryOperator combine;
+		private final long from;
+		private final long to;
+		private final long leafSize;
+
+		ReduceTask(final RangeReduce reduce, final LongBinaryOperator combine, final long from, final long to, final long leafSize) {
+			this.reduce = reduce;
+			this.combine = combine;
+			this.from = from;
+			this.to = to;
+			this.leafSize = leafSize;
+		}
+
+		@Override
+		protected Long compute() {
+			if(to - from <= leafSize) {
+				return reduce.reduce(from, to);
+			}
+			long middle = (from + to) >>> 1;
+			ReduceTask right = new ReduceTask(reduce, combine, middle, to, leafSize);
+			right.fork();
+			long left = new ReduceTask(reduce, combine, from, middle, leafSize).compute();
+			return combine.applyAsLong(left, right.join());
+		}
+	}
+
+	private static final class ReduceDoubleTask extends RecursiveTask<Double> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient RangeReduceDouble reduce;
+		private final transient DoubleBinaryOperator combine;
+		private final long from;
+		private final long to;
+		private final long leafSize;
+
+		ReduceDoubleTask(final RangeReduceDouble reduce, final DoubleBinaryOperator combine, final long from, final long to, final long leafSize) {
+			this.reduce = reduce;
+			this.combine = combine;
+			this.from = from;
+			this.to = to;
+			this.leafSize = leafSize;
+		}
+
+		@Override
+		protected Double compute() {
+			if(to - from <= leafSize) {
+				return reduce.reduce(from, to);
+			}
+			long middle = (from + to) >>> 1;
+			ReduceDoubleTask right = new ReduceDoubleTask(reduce, combine, middle, to, leafSize);
+			right.fork();
+			double left = new ReduceDoubleTask(reduce, combine, from, middle, leafSize).compute();
+			return combine.applyAsDouble(left, right.join());
+		}
+	}
+
+}
@@ -0,0 +1,218 @@
+package com.vbolide.array;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Little-endian byte storage of up to {@code Long.MAX_VALUE} bytes made of direct or memory-mapped {@linkplain ByteBuffer}
+ * segments of {@linkplain #SEGMENT_SIZE} bytes, the shared base of {@linkplain BigLongArray}, {@linkplain BigIntArray} and
+ * {@linkplain BigByteArray}. Elements of 1, 2, 4 or 8 bytes at aligned offsets never straddle two segments.
+ *
+ * @author Vamshi Byagari
+ */
+final class SegmentedBuffer implements Closeable {
+
+	static final int SEGMENT_SHIFT = 30;
+	static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+	static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+	private static final int COPY_CHUNK = 1 << 16;
+
+	private final ByteBuffer[] segments;
+	private final long size;
+
+	/**
+	 * channel of the mapped file, {@code null} for direct memory.
+	 */
+	private final FileChannel channel;
+
+	private SegmentedBuffer(final ByteBuffer[] segments, final long size, final FileChannel channel) {
+		this.segments = segments;
+		this.size = size;
+		this.channel = channel;
+	}
+
+	/**
+	 * allocates zeroed direct memory outside the heap, released when the buffer is garbage collected.
+	 */
+	static SegmentedBuffer allocate(final long size) {
+		ByteBuffer[] segments = new ByteBuffer[segmentCount(size)];
+		for (int i = 0; i < segments.length; i++) {
+			segments[i] = ByteBuffer.allocateDirect(segmentLength(size, i)).order(ByteOrder.LITTLE_ENDIAN);
+		}
+		return new SegmentedBuffer(segments, size, null);
+	}
+
+	/**
+	 * maps the first size bytes of the file for reading and writing, the file is created or extended as needed.
+	 */
+	static SegmentedBuffer map(final Path file, final long size) throws IOException{
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			ByteBuffer[] segments = new ByteBuffer[segmentCount(size)];
+			for (int i = 0; i < segments.length; i++) {
+				segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, (long) i << SEGMENT_SHIFT, segmentLength(size, i)).order(ByteOrder.LITTLE_ENDIAN);
+			}
+			return new SegmentedBuffer(segments, size, channel);
+		}catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	private static int segmentCount(final long size) {
+		return (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+	}
+
+	private static int segmentLength(final long size, final int segment) {
+		return (int) Math.min(size - ((long) segment << SEGMENT_SHIFT), SEGMENT_SIZE);
+	}
+
+
+	long size() {
+		return size;
+	}
+
+	boolean isMapped() {
+		return channel != null;
+	}
+
+	/**
+	 * @return segment holding the byte offset, index with {@code (int) (offset & SEGMENT_MASK)}.
+	 */
+	ByteBuffer segment(final long offset) {
+		return segments[(int) (offset >>> SEGMENT_SHIFT)];
+	}
+
+	byte get(final long offset) {
+		return segments[(int) (offset >>> SEGMENT_SHIFT)].get((int) (offset & SEGMENT_MASK));
+	}
+
+	void put(final long offset, final byte value) {
+		segments[(int) (offset >>> SEGMENT_SHIFT)].put((int) (offset & SEGMENT_MASK), value);
+	}
+
+	int getInt(final long offset) {
+		return segments[(int) (offset >>> SEGMENT_SHIFT)].getInt((int) (offset & SEGMENT_MASK));
+	}
+
+	void putInt(final long offset, final int value) {
+		segments[(int) (offset >>> SEGMENT_SHIFT)].putInt((int) (offset & SEGMENT_MASK), value);
+	}
+
+	long getLong(final long offset) {
+		return segments[(int) (offset >>> SEGMENT_SHIFT)].getLong((int) (offset & SEGMENT_MASK));
+	}
+
+	void putLong(final long offset, final long value) {
+		segments[(int) (offset >>> SEGMENT_SHIFT)].putLong((int) (offset & SEGMENT_MASK), value);
+	}
+
+	/**
+	 * @return independent view of [offset, offset + length) within one segment.
+	 */
+	ByteBuffer view(final long offset, final int length) {
+		ByteBuffer view = segment(offset).duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		int position = (int) (offset & SEGMENT_MASK);
+		((Buffer) view).limit(position + length).position(position);
+		return view;
+	}
+
+	/**
+	 * @return number of bytes from the offset to the end of its segment, at most limit.
+	 */
+	static int run(final long offset, final long limit) {
+		return (int) Math.min(SEGMENT_SIZE - (offset & SEGMENT_MASK), limit);
+	}
+
+	/**
+	 * copies bytes like {@linkplain System#arraycopy(Object, int, Object, int, int)}, overlapping ranges of the same buffer included.
+	 */
+	void copy(final long from, final SegmentedBuffer target, final long to, final long length) {
+		boolean overlapping = target == this && from < to + length && to < from + length;
+		if(!overlapping) {
+			long done = 0;
+			while (done < length) {
+				int chunk = Math.min(run(from + done, length - done), run(to + done, length - done));
+				target.view(to + done, chunk).put(view(from + done, chunk));
+				done += chunk;
+			}
+			return;
+		}
+		byte[] chunk = new byte[(int) Math.min(COPY_CHUNK, length)];
+		if(to < from) {
+			for (long done = 0; done < length; done += chunk.length) {
+				int count = (int) Math.min(chunk.length, length - done);
+				read(from + done, chunk, 0, count);
+				write(to + done, chunk, 0, count);
+			}
+		}else {
+			for (long remaining = length; remaining > 0; remaining -= chunk.length) {
+				int count = (int) Math.min(chunk.length, remaining);
+				read(from + remaining - count, chunk, 0, count);
+				write(to + remaining - count, chunk, 0, count);
+			}
+		}
+	}
+
+	void read(final long offset, final byte[] destination, final int index, final int length) {
+		int done = 0;
+		while (done < length) {
+			int chunk = run(offset + done, length - done);
+			view(offset + done, chunk).get(destination, index + done, chunk);
+			done += chunk;
+		}
+	}
+
+	void write(final long offset, final byte[] source, final int index, final int length) {
+		int done = 0;
+		while (done < length) {
+			int chunk = run(offset + done, length - done);
+			view(offset + done, chunk).put(source, index + done, chunk);
+			done += chunk;
+		}
+	}
+
+	/**
+	 * writes the bytes to the file, replacing its content.
+	 */
+	void save(final Path file) throws IOException{
+		try (FileChannel output = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			long position = 0;
+			for (ByteBuffer segment : segments) {
+				ByteBuffer source = segment.duplicate();
+				((Buffer) source).clear();
+				while (source.hasRemaining()) {
+					position += output.write(source, position);
+				}
+			}
+		}
+	}
+
+	/**
+	 * writes the changes of a mapped buffer to its file.
+	 */
+	void force() {
+		if(channel != null) {
+			for (ByteBuffer segment : segments) {
+				((MappedByteBuffer) segment).force();
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if(channel != null) {
+			force();
+			channel.close();
+		}
+	}
+
+}
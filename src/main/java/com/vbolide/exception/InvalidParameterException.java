@@ -2,19 +2,48 @@ package com.vbolide.exception;
 
 /**
  * Thrown when an application attempts to use {@code null} or {@code invalid} input than that is required by operation.
- * 
+ * <p>
+ * When the system property {@value #STACKLESS_PROPERTY} is {@code true} instances are created without a stack trace, which
+ * makes throwing them several times cheaper; the {@code try} methods returning {@linkplain com.vbolide.result.Result} avoid
+ * the exception altogether.
+ *
  * @author Vamshi Byagari
  */
 public class InvalidParameterException extends Exception{
 
     private static final long serialVersionUID = -3623444791496220572L;
 
+	/**
+	 * system property that makes instances of {@linkplain #InvalidParameterException(String)} stackless.
+	 */
+	public static final String STACKLESS_PROPERTY = "com.vbolide.exception.stackless";
+
+	private static final boolean STACKLESS = Boolean.getBoolean(STACKLESS_PROPERTY);
+
 	/**
      * Constructs a new invalid parameter exception with the specified detail message.
-     * @param message the detail message. The detail message is saved for later retrieval by the {@link #getMessage()} method.
+     * @param messge the detail message. The detail message is saved for later retrieval by the {@link #getMessage()} method.
      */
 	public InvalidParameterException(final String messge) {
 		super(messge);
 	}
 
-}
\ No newline at end of file
+	/**
+     * Constructs a new invalid parameter exception with the specified detail message and no cause, which can not be set
+     * later through {@linkplain #initCause(Throwable)}.
+     * @param messge the detail message. The detail message is saved for later retrieval by the {@link #getMessage()} method.
+     * @param writableStackTrace <b>false</b> to skip capturing the stack trace, the cost of creating an exception.
+     */
+	public InvalidParameterException(final String messge, final boolean writableStackTrace) {
+		super(messge, null, true, writableStackTrace);
+	}
+
+	/**
+	 * skips capturing the stack trace when {@value #STACKLESS_PROPERTY} is set.
+	 */
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return STACKLESS ? this : super.fillInStackTrace();
+	}
+
+}
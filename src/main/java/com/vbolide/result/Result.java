@@ -0,0 +1,172 @@
+package com.vbolide.result;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.vbolide.exception.InvalidParameterException;
+
+/**
+ * Outcome of an operation that either produced a value or rejected its input, returned by the {@code try} methods of the
+ * library in place of throwing {@linkplain InvalidParameterException}.
+ * <p>
+ * An error costs one small object and no stack trace, so invalid input is about as cheap to reject as valid input is to
+ * process. {@linkplain #orElseThrow()} converts an error back to the exception where a caller prefers it.
+ *
+ * @author Vamshi Byagari
+ * @param <T> type of the value.
+ */
+public final class Result<T> {
+
+	private final T value;
+
+	/**
+	 * reason of the error, {@code null} for a value.
+	 */
+	private final String error;
+
+	private Result(final T value, final String error) {
+		this.value = value;
+		this.error = error;
+	}
+
+	/**
+	 * @param <T> type of the value.
+	 * @param value value of the operation, may be {@code null}.
+	 * @return successful result holding the value.
+	 */
+	public static <T> Result<T> ok(final T value) {
+		return new Result<>(value, null);
+	}
+
+	/**
+	 * @param <T> type of the missing value.
+	 * @param message reason the input was rejected.
+	 * @return failed result.
+	 */
+	public static <T> Result<T> error(final String message) {
+		return new Result<>(null, message == null ? "invalid input parameter" : message);
+	}
+
+
+	/**
+	 * @return <b>true</b> if the operation produced a value.
+	 */
+	public boolean isOk() {
+		return error == null;
+	}
+
+	/**
+	 * @return <b>true</b> if the operation rejected its input.
+	 */
+	public boolean isError() {
+		return error != null;
+	}
+
+	/**
+	 * @return value of a successful result.
+	 * @throws NoSuchElementException the result is an error
+	 */
+	public T get() {
+		if(error != null) {
+			throw new NoSuchElementException(error);
+		}
+		return value;
+	}
+
+	/**
+	 * @return reason of the error, {@code null} for a successful result.
+	 */
+	public String getError() {
+		return error;
+	}
+
+	/**
+	 * @param other value of an error.
+	 * @return the value, or other if the result is an error.
+	 */
+	public T orElse(final T other) {
+		return error == null ? value : other;
+	}
+
+	/**
+	 * @param other supplies the value of an error, called only for errors.
+	 * @return the value, or the supplied one if the result is an error.
+	 */
+	public T orElseGet(final Supplier<? extends T> other) {
+		return error == null ? value : other.get();
+	}
+
+	/**
+	 * @return value of a successful result.
+	 * @throws InvalidParameterException the result is an error, with its message
+	 */
+	public T orElseThrow() throws InvalidParameterException{
+		if(error != null) {
+			throw new InvalidParameterException(error);
+		}
+		return value;
+	}
+
+	/**
+	 * @param <U> type of the mapped value.
+	 * @param mapper applied to the value of a successful result.
+	 * @return result of the mapped value, or this error.
+	 */
+	@SuppressWarnings("unchecked")
+	public <U> Result<U> map(final Function<? super T, ? extends U> mapper) {
+		return error == null ? ok(mapper.apply(value)) : (Result<U>) this;
+	}
+
+	/**
+	 * @param <U> type of the next value.
+	 * @param mapper next operation, applied to the value of a successful result.
+	 * @return result of the next operation, or this error.
+	 */
+	@SuppressWarnings("unchecked")
+	public <U> Result<U> flatMap(final Function<? super T, Result<U>> mapper) {
+		return error == null ? mapper.apply(value) : (Result<U>) this;
+	}
+
+	/**
+	 * @param consumer called with the value of a successful result.
+	 */
+	public void ifOk(final Consumer<? super T> consumer) {
+		if(error == null) {
+			consumer.accept(value);
+		}
+	}
+
+	/**
+	 * @return the value, empty for an error or a {@code null} value.
+	 */
+	public Optional<T> toOptional() {
+		return error == null ? Optional.ofNullable(value) : Optional.empty();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if(this == obj) {
+			return true;
+		}
+		if(!(obj instanceof Result)) {
+			return false;
+		}
+		Result<?> other = (Result<?>) obj;
+		return Objects.equals(value, other.value) && Objects.equals(error, other.error);
+	}
+
+	@Override
+	public int hashCode() {
+		return error == null ? Objects.hashCode(value) : ~error.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return error == null ? "Ok[" + value + "]" : "Error[" + error + "]";
+	}
+
+}
@@ -0,0 +1,305 @@
+package com.vbolide.string;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Word at a time scanning primitives for ASCII compatible byte data (US-ASCII, ISO-8859-1 and UTF-8).
+ * <p>
+ * The {@code byte[]} and {@linkplain ByteBuffer} methods read eight bytes at once through a little-endian
+ * {@linkplain ByteBuffer#getLong(int)} view and test all of them with a handful of arithmetic operations (SWAR), the tail
+ * shorter than a word is scanned byte by byte. Bytes of multi-byte UTF-8 sequences are never mistaken for ASCII
+ * characters, so the primitives are safe on UTF-8 input; {@linkplain com.vbolide.array.DelimitedFileTokenizer} and
+ * {@linkplain com.vbolide.array.BigByteArray} scan with them. The {@code char} helpers take the ASCII fast path before
+ * falling back to {@linkplain Character}; {@linkplain StringUtil} uses only these, because a {@linkplain String} does not
+ * expose its bytes and packing its characters into words is slower than the compiled per character loop.
+ *
+ * @author Vamshi Byagari
+ */
+public class AsciiUtil {
+
+	private static final long ONES = 0x0101010101010101L;
+	private static final long HIGHS = 0x8080808080808080L;
+	private static final long LOWS = 0x7F7F7F7F7F7F7F7FL;
+	private static final long SPACES = ONES * ' ';
+
+	private AsciiUtil() {}
+
+
+	/**
+	 * @param bytes array to scan.
+	 * @param from index of the first byte (inclusive).
+	 * @param to index of the last byte (exclusive).
+	 * @return <b>true</b> if every byte of the range is ASCII, <b>false</b> otherwise.
+	 */
+	public static boolean isAscii(final byte[] bytes, final int from, final int to) {
+		return indexOfNonAscii(bytes, from, to) < 0;
+	}
+
+	/**
+	 * @param bytes array to scan.
+	 * @param from index of the first byte (inclusive).
+	 * @param to index of the last byte (exclusive).
+	 * @return index of the first byte greater than {@code 0x7F}, -1 if there is none.
+	 */
+	public static int indexOfNonAscii(final byte[] bytes, final int from, final int to) {
+		return indexOfNonAscii(wrap(bytes), from, to);
+	}
+
+	/**
+	 * @param buffer buffer to scan, its position and limit are ignored.
+	 * @param from index of the first byte (inclusive).
+	 * @param to index of the last byte (exclusive).
+	 * @return index of the first byte greater than {@code 0x7F}, -1 if there is none.
+	 */
+	public static int indexOfNonAscii(final ByteBuffer buffer, final int from, final int to) {
+		ByteBuffer words = littleEndian(buffer);
+		int i = from;
+		for (int last = to - Long.BYTES; i <= last; i += Long.BYTES) {
+			long found = words.getLong(i) & HIGHS;
+			if(found != 0) {
+				return i + firstByte(found);
+			}
+		}
+		for (; i < to; i++) {
+			if(words.get(i) < 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param bytes array to scan.
+	 * @param from index of the first byte (inclusive).
+	 * @param to index of the last byte (exclusive).
+	 * @param value byte to find.
+	 * @return index of the first byte equal to value, -1 if there is none.
+	 */
+	public static int indexOf(final byte[] bytes, final int from, final int to, final byte value) {
+		return indexOf(wrap(bytes), from, to, value);
+	}
+
+	/**
+	 * @param buffer buffer to scan, its position and limit are ignored.
+	 * @param from index of the first byte (inclusive).
+	 * @param to index of the last byte (exclusive).
+	 * @param value byte to find.
+	 * @return index of the first byte equal to value, -1 if there is none.
+	 */
+	public static int indexOf(final ByteBuffer buffer, final int from, final int to, final byte value) {
+		ByteBuffer words = littleEndian(buffer);
+		long pattern = ONES * (value & 0xFF);
+		int i = from;
+		for (int last = to - Long.BYTES; i <= last; i += Long.BYTES) {
+			long found = zeroBytes(words.getLong(i) ^ pattern);
+			if(found != 0) {
+				return i + firstByte(found);
+			}
+		}
+		for (; i < to; i++) {
+			if(words.get(i) == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param buffer buffer to scan, its position and limit are ignored.
+	 * @param from index of the first byte (inclusive).
+	 * @param to index of the last byte (exclusive).
+	 * @param first byte to find.
+	 * @param second another byte to find.
+	 * @return index of the first byte equal to either value, -1 if there is none.
+	 */
+	public static int indexOfEither(final ByteBuffer buffer, final int from, final int to, final byte first, final byte second) {
+		ByteBuffer words = littleEndian(buffer);
+		long firstPattern = ONES * (first & 0xFF);
+		long secondPattern = ONES * (second & 0xFF);
+		int i = from;
+		for (int last = to - Long.BYTES; i <= last; i += Long.BYTES) {
+			long word = words.getLong(i);
+			long found = zeroBytes(word ^ firstPattern) | zeroBytes(word ^ secondPattern);
+			if(found != 0) {
+				return i + firstByte(found);
+			}
+		}
+		for (; i < to; i++) {
+			byte b = words.get(i);
+			if(b == first || b == second) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param bytes array to scan.
+	 * @param from index of the first byte (inclusive).
+	 * @param to index of the last byte (exclusive).
+	 * @return index of the first ASCII white space ({@code [ \t\n\x0B\f\r]}), -1 if there is none.
+	 */
+	public static int indexOfWhitespace(final byte[] bytes, final int from, final int to) {
+		ByteBuffer words = wrap(bytes);
+		int i = from;
+		for (int last = to - Long.BYTES; i <= last; i += Long.BYTES) {
+			long word = words.getLong(i);
+			long found = between(word, '\t' - 1, '\r' + 1) | zeroBytes(word ^ SPACES);
+			if(found != 0) {
+				return i + firstByte(found);
+			}
+		}
+		for (; i < to; i++) {
+			if(isWhitespace(bytes[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param bytes array to scan.
+	 * @param from index of the first byte (inclusive).
+	 * @param to index of the last byte (exclusive).
+	 * @return index of the first byte that is not ASCII white space ({@code [ \t\n\x0B\f\r]}), -1 if there is none.
+	 */
+	public static int indexOfNonWhitespace(final byte[] bytes, final int from, final int to) {
+		ByteBuffer words = wrap(bytes);
+		int i = from;
+		for (int last = to - Long.BYTES; i <= last; i += Long.BYTES) {
+			long word = words.getLong(i);
+			long whitespace = between(word, '\t' - 1, '\r' + 1) | exactZeroBytes(word ^ SPACES);
+			if(whitespace != HIGHS) {
+				return i + firstByte(~whitespace & HIGHS);
+			}
+		}
+		for (; i < to; i++) {
+			if(!isWhitespace(bytes[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * converts the ASCII letters of the range to upper-case in place, every other byte is left unchanged.
+	 * @param bytes array to convert.
+	 * @param from index of the first byte (inclusive).
+	 * @param to index of the last byte (exclusive).
+	 */
+	public static void toUpperCase(final byte[] bytes, final int from, final int to) {
+		flipCase(bytes, from, to, 'a' - 1, 'z' + 1);
+	}
+
+	/**
+	 * converts the ASCII letters of the range to lower-case in place, every other byte is left unchanged.
+	 * @param bytes array to convert.
+	 * @param from index of the first byte (inclusive).
+	 * @param to index of the last byte (exclusive).
+	 */
+	public static void toLowerCase(final byte[] bytes, final int from, final int to) {
+		flipCase(bytes, from, to, 'A' - 1, 'Z' + 1);
+	}
+
+	/**
+	 * @param input characters to scan.
+	 * @return <b>true</b> if every character is ASCII, <b>false</b> otherwise.
+	 */
+	public static boolean isAscii(final CharSequence input) {
+		for (int i = 0, length = input.length(); i < length; i++) {
+			if(input.charAt(i) >= 0x80) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param c character to convert.
+	 * @return upper-case of the character, same as {@linkplain Character#toUpperCase(char)}.
+	 */
+	public static char toUpperCase(final char c) {
+		if(c < 0x80) {
+			return c >= 'a' && c <= 'z' ? (char) (c ^ 0x20) : c;
+		}
+		return Character.toUpperCase(c);
+	}
+
+	/**
+	 * @param c character to convert.
+	 * @return lower-case of the character, same as {@linkplain Character#toLowerCase(char)}.
+	 */
+	public static char toLowerCase(final char c) {
+		if(c < 0x80) {
+			return c >= 'A' && c <= 'Z' ? (char) (c ^ 0x20) : c;
+		}
+		return Character.toLowerCase(c);
+	}
+
+	/**
+	 * @param b byte to test.
+	 * @return <b>true</b> if the byte is ASCII white space ({@code [ \t\n\x0B\f\r]}), <b>false</b> otherwise.
+	 */
+	public static boolean isWhitespace(final byte b) {
+		return b == ' ' || (b >= '\t' && b <= '\r');
+	}
+
+
+	private static void flipCase(final byte[] bytes, final int from, final int to, final int below, final int above) {
+		ByteBuffer words = wrap(bytes);
+		int i = from;
+		for (int last = to - Long.BYTES; i <= last; i += Long.BYTES) {
+			long word = words.getLong(i);
+			long letters = between(word, below, above);
+			if(letters != 0) {
+				// the high bit of every letter byte shifted down to the case bit 0x20
+				words.putLong(i, word ^ (letters >>> 2));
+			}
+		}
+		for (; i < to; i++) {
+			int b = bytes[i];
+			if(b > below && b < above) {
+				bytes[i] = (byte) (b ^ 0x20);
+			}
+		}
+	}
+
+	private static ByteBuffer wrap(final byte[] bytes) {
+		return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private static ByteBuffer littleEndian(final ByteBuffer buffer) {
+		return buffer.order() == ByteOrder.LITTLE_ENDIAN ? buffer : buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * high bit set for zero bytes, exact for the lowest zero byte only (borrows may flag bytes above it).
+	 */
+	private static long zeroBytes(final long word) {
+		return (word - ONES) & ~word & HIGHS;
+	}
+
+	/**
+	 * high bit set for exactly the zero bytes.
+	 */
+	private static long exactZeroBytes(final long word) {
+		return ~(((word & LOWS) + LOWS) | word | LOWS);
+	}
+
+	/**
+	 * high bit set for exactly the bytes strictly between low and high, requires {@code 0 <= low <= 127} and {@code 0 <= high <= 128}.
+	 */
+	private static long between(final long word, final int low, final int high) {
+		long lows = word & LOWS;
+		return (ONES * (127 + high) - lows) & ~word & (lows + ONES * (127 - low)) & HIGHS;
+	}
+
+	/**
+	 * @return index within the little-endian word of the lowest byte flagged in the mask.
+	 */
+	private static int firstByte(final long mask) {
+		return Long.numberOfTrailingZeros(mask) >>> 3;
+	}
+
+}
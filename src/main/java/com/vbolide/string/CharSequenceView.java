@@ -0,0 +1,118 @@
+package com.vbolide.string;
+
+/**
+ * Read-only {@linkplain CharSequence} over a range of another {@linkplain CharSequence}, the characters are not copied.
+ * <p>
+ * {@linkplain #equals(Object)} and {@linkplain #hashCode()} are based on the characters, the hash is the same as
+ * {@linkplain String#hashCode()} of {@linkplain #toString()}, so views can be looked up in hash based collections.
+ * A view reflects changes of a mutable source.
+ *
+ * @author Vamshi Byagari
+ */
+public final class CharSequenceView implements CharSequence {
+
+	private final CharSequence source;
+	private final int start;
+	private final int end;
+
+	/**
+	 * creates a view of the range [start, end) of the source.
+	 * @param source characters to view.
+	 * @param start index of the first character (inclusive).
+	 * @param end index of the last character (exclusive).
+	 * @throws IndexOutOfBoundsException if the range is not within the source.
+	 */
+	public CharSequenceView(final CharSequence source, final int start, final int end) {
+		if(start < 0 || end > source.length() || start > end) {
+			throw new IndexOutOfBoundsException("range [" + start + ", " + end + ") of length " + source.length());
+		}
+		this.source = source;
+		this.start = start;
+		this.end = end;
+	}
+
+	@Override
+	public int length() {
+		return end - start;
+	}
+
+	@Override
+	public char charAt(final int index) {
+		if(index < 0 || index >= end - start) {
+			throw new IndexOutOfBoundsException("index " + index + " of length " + (end - start));
+		}
+		return source.charAt(start + index);
+	}
+
+	@Override
+	public CharSequenceView subSequence(final int from, final int to) {
+		if(from < 0 || to > end - start || from > to) {
+			throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") of length " + (end - start));
+		}
+		return new CharSequenceView(source, start + from, start + to);
+	}
+
+	/**
+	 * @return the viewed characters as a new {@linkplain String}.
+	 */
+	@Override
+	public String toString() {
+		if(source instanceof String) {
+			return ((String) source).substring(start, end);
+		}
+		return source.subSequence(start, end).toString();
+	}
+
+	/**
+	 * @param other characters to compare.
+	 * @return <b>true</b> if other has the same characters, <b>false</b> otherwise.
+	 */
+	public boolean contentEquals(final CharSequence other) {
+		int length = end - start;
+		if(other == null || other.length() != length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if(source.charAt(start + i) != other.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean equals(final Object object) {
+		return object instanceof CharSequenceView && contentEquals((CharSequenceView) object);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 0;
+		for (int i = start; i < end; i++) {
+			hash = 31 * hash + source.charAt(i);
+		}
+		return hash;
+	}
+
+	/**
+	 * @return the viewed {@linkplain CharSequence}.
+	 */
+	public CharSequence getSource() {
+		return source;
+	}
+
+	/**
+	 * @return index of the first viewed character in the source (inclusive).
+	 */
+	public int getStart() {
+		return start;
+	}
+
+	/**
+	 * @return index of the last viewed character in the source (exclusive).
+	 */
+	public int getEnd() {
+		return end;
+	}
+
+}
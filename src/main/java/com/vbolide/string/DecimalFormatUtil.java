@@ -0,0 +1,316 @@
+package com.vbolide.string;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.vbolide.exception.InvalidParameterException;
+
+/**
+ * Utility class for fixed precision formatting of {@code double} values without {@linkplain String#format(String, Object...)}.
+ * <p>
+ * Values whose scaled magnitude fits comfortably in a {@code long} are rounded with integer arithmetic. Values lying close to
+ * a rounding tie, huge magnitudes and non half rounding modes fall back to {@linkplain BigDecimal#valueOf(double)}, so for
+ * {@linkplain RoundingMode#HALF_UP} the digits are the same as {@code String.format("%.nf", value)} produces.
+ * The decimal separator is always {@code '.'} irrespective of the default locale.
+ *
+ * @author Vamshi Byagari
+ */
+public class DecimalFormatUtil {
+
+	/**
+	 * maximum precision accepted by the formatting methods.
+	 */
+	public static final int MAX_PRECISION = 100;
+
+	/**
+	 * largest scaled magnitude rounded with {@code long} arithmetic, well below 2<sup>53</sup> so the integral part is exact.
+	 */
+	private static final double FAST_PATH_LIMIT = 1e15;
+
+	private static final long[] POW10 = {
+			1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+			10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L
+	};
+
+	/**
+	 * sign, 16 integral digits, separator and {@code POW10.length - 1} fraction digits.
+	 */
+	private static final int FAST_PATH_MAX_LENGTH = 1 + 16 + 1 + POW10.length;
+
+	private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[FAST_PATH_MAX_LENGTH]);
+
+	private DecimalFormatUtil() {}
+
+
+	/**
+	 * formats the input number to the given precision using {@linkplain RoundingMode#HALF_UP}.
+	 * @param value number to format.
+	 * @param precision number of fraction digits, between 0 and {@linkplain #MAX_PRECISION}.
+	 * @return formatted number.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static String format(final double value, final int precision) throws InvalidParameterException{
+		return format(value, precision, RoundingMode.HALF_UP);
+	}
+
+	/**
+	 * formats the input number to the given precision.
+	 * @param value number to format.
+	 * @param precision number of fraction digits, between 0 and {@linkplain #MAX_PRECISION}.
+	 * @param roundingMode rounding applied to the discarded digits.
+	 * @return formatted number.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static String format(final double value, final int precision, final RoundingMode roundingMode) throws InvalidParameterException{
+		validate(precision, roundingMode);
+		return toString(value, precision, roundingMode);
+	}
+
+	/**
+	 * appends the formatted number to the {@linkplain StringBuilder}.
+	 * @param stringBuilder destination.
+	 * @param value number to format.
+	 * @param precision number of fraction digits, between 0 and {@linkplain #MAX_PRECISION}.
+	 * @param roundingMode rounding applied to the discarded digits.
+	 * @return the destination {@linkplain StringBuilder}.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static StringBuilder append(final StringBuilder stringBuilder, final double value, final int precision, final RoundingMode roundingMode) throws InvalidParameterException{
+		if(stringBuilder == null) {
+			throw new InvalidParameterException("input parameter StringBuilder is null");
+		}
+		validate(precision, roundingMode);
+		appendTo(stringBuilder, value, precision, roundingMode);
+		return stringBuilder;
+	}
+
+	/**
+	 * appends the formatted number to the {@linkplain Appendable}.
+	 * @param appendable destination.
+	 * @param value number to format.
+	 * @param precision number of fraction digits, between 0 and {@linkplain #MAX_PRECISION}.
+	 * @param roundingMode rounding applied to the discarded digits.
+	 * @return the destination {@linkplain Appendable}.
+	 * @throws InvalidParameterException input parameters are invalid
+	 * @throws IOException if the {@linkplain Appendable} fails to append.
+	 */
+	public static <A extends Appendable> A append(final A appendable, final double value, final int precision, final RoundingMode roundingMode) throws InvalidParameterException, IOException{
+		if(appendable == null) {
+			throw new InvalidParameterException("input parameter Appendable is null");
+		}
+		validate(precision, roundingMode);
+		char[] scratch = SCRATCH.get();
+		int end = formatFast(value, precision, roundingMode, scratch, 0);
+		if(end < 0) {
+			appendable.append(formatSlow(value, precision, roundingMode));
+		}else {
+			for (int i = 0; i < end; i++) {
+				appendable.append(scratch[i]);
+			}
+		}
+		return appendable;
+	}
+
+	/**
+	 * writes the formatted number into the character array.
+	 * @param value number to format.
+	 * @param precision number of fraction digits, between 0 and {@linkplain #MAX_PRECISION}.
+	 * @param roundingMode rounding applied to the discarded digits.
+	 * @param destination array to write to, {@linkplain #maxLength(int)} characters from offset are always sufficient.
+	 * @param offset index of the first character written.
+	 * @return number of characters written.
+	 * @throws InvalidParameterException input parameters are invalid or destination is too small.
+	 */
+	public static int format(final double value, final int precision, final RoundingMode roundingMode, final char[] destination, final int offset) throws InvalidParameterException{
+		if(destination == null || offset < 0 || offset > destination.length) {
+			throw new InvalidParameterException("input parameter destination and/or offset invalid");
+		}
+		validate(precision, roundingMode);
+		if(destination.length - offset >= FAST_PATH_MAX_LENGTH) {
+			int end = formatFast(value, precision, roundingMode, destination, offset);
+			if(end >= 0) {
+				return end - offset;
+			}
+		}else {
+			char[] scratch = SCRATCH.get();
+			int end = formatFast(value, precision, roundingMode, scratch, 0);
+			if(end >= 0) {
+				if(end > destination.length - offset) {
+					throw new InvalidParameterException("destination array is too small");
+				}
+				System.arraycopy(scratch, 0, destination, offset, end);
+				return end;
+			}
+		}
+		String formatted = formatSlow(value, precision, roundingMode);
+		if(formatted.length() > destination.length - offset) {
+			throw new InvalidParameterException("destination array is too small");
+		}
+		formatted.getChars(0, formatted.length(), destination, offset);
+		return formatted.length();
+	}
+
+	/**
+	 * formats every number of the column to the given precision.
+	 * @param values numbers to format.
+	 * @param precision number of fraction digits, between 0 and {@linkplain #MAX_PRECISION}.
+	 * @param roundingMode rounding applied to the discarded digits.
+	 * @return formatted numbers, index wise same as input.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static String[] format(final double[] values, final int precision, final RoundingMode roundingMode) throws InvalidParameterException{
+		if(values == null) {
+			throw new InvalidParameterException("input parameter values is null");
+		}
+		validate(precision, roundingMode);
+		char[] scratch = SCRATCH.get();
+		String[] result = new String[values.length];
+		for (int i = 0; i < values.length; i++) {
+			int end = formatFast(values[i], precision, roundingMode, scratch, 0);
+			result[i] = end < 0 ? formatSlow(values[i], precision, roundingMode) : new String(scratch, 0, end);
+		}
+		return result;
+	}
+
+	/**
+	 * appends every number of the column to the {@linkplain StringBuilder}, separated by the separator.
+	 * @param stringBuilder destination.
+	 * @param values numbers to format.
+	 * @param precision number of fraction digits, between 0 and {@linkplain #MAX_PRECISION}.
+	 * @param roundingMode rounding applied to the discarded digits.
+	 * @param separator appended in-between two numbers.
+	 * @return the destination {@linkplain StringBuilder}.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static StringBuilder appendAll(final StringBuilder stringBuilder, final double[] values, final int precision, final RoundingMode roundingMode, final char separator) throws InvalidParameterException{
+		if(stringBuilder == null || values == null) {
+			throw new InvalidParameterException("input parameter StringBuilder and/or values is null");
+		}
+		validate(precision, roundingMode);
+		stringBuilder.ensureCapacity(stringBuilder.length() + values.length * (precision + 8));
+		for (int i = 0; i < values.length; i++) {
+			if(i > 0) {
+				stringBuilder.append(separator);
+			}
+			appendTo(stringBuilder, values[i], precision, roundingMode);
+		}
+		return stringBuilder;
+	}
+
+	/**
+	 * upper bound of the characters written for any value with the given precision.
+	 * @param precision number of fraction digits.
+	 * @return maximum formatted length.
+	 */
+	public static int maxLength(final int precision) {
+		// sign, 309 integral digits of Double.MAX_VALUE, separator and fraction digits
+		return 1 + 309 + 1 + Math.max(precision, 0);
+	}
+
+
+	/**
+	 * formats without validating the parameters, used by {@linkplain StringUtil#formatToDecimals(double, int)}.
+	 */
+	static String toString(final double value, final int precision, final RoundingMode roundingMode) {
+		char[] scratch = SCRATCH.get();
+		int end = formatFast(value, precision, roundingMode, scratch, 0);
+		return end < 0 ? formatSlow(value, precision, roundingMode) : new String(scratch, 0, end);
+	}
+
+	private static void appendTo(final StringBuilder stringBuilder, final double value, final int precision, final RoundingMode roundingMode) {
+		char[] scratch = SCRATCH.get();
+		int end = formatFast(value, precision, roundingMode, scratch, 0);
+		if(end < 0) {
+			stringBuilder.append(formatSlow(value, precision, roundingMode));
+		}else {
+			stringBuilder.append(scratch, 0, end);
+		}
+	}
+
+	private static void validate(final int precision, final RoundingMode roundingMode) throws InvalidParameterException{
+		if(precision < 0 || precision > MAX_PRECISION) {
+			throw new InvalidParameterException("input parameter precision is out of range");
+		}
+		if(roundingMode == null) {
+			throw new InvalidParameterException("input parameter RoundingMode is null");
+		}
+	}
+
+	/**
+	 * rounds with {@code long} arithmetic, the destination must have {@linkplain #FAST_PATH_MAX_LENGTH} characters from offset.
+	 * @return index after the last written character, or -1 when the slow path has to decide.
+	 */
+	private static int formatFast(final double value, final int precision, final RoundingMode roundingMode, final char[] destination, final int offset) {
+		if(precision >= POW10.length) {
+			return -1;
+		}
+		if(roundingMode != RoundingMode.HALF_UP && roundingMode != RoundingMode.HALF_EVEN && roundingMode != RoundingMode.HALF_DOWN) {
+			return -1;
+		}
+		double magnitude = Math.abs(value);
+		double scaled = magnitude * POW10[precision];
+		// also rejects NaN and infinity
+		if(!(scaled < FAST_PATH_LIMIT)) {
+			return -1;
+		}
+		long whole = (long) scaled;
+		double fraction = scaled - whole;
+		// the decimal value of the double and the scaled product differ by a couple of ulps at most,
+		// anything that close to a tie is left to BigDecimal to round exactly.
+		if(Math.abs(fraction - 0.5) <= 4 * Math.ulp(scaled)) {
+			return -1;
+		}
+		if(fraction > 0.5) {
+			whole++;
+		}
+
+		int position = offset;
+		if(Double.doubleToRawLongBits(value) < 0) {
+			destination[position++] = '-';
+		}
+		long integral = whole / POW10[precision];
+		long fractional = whole - integral * POW10[precision];
+		position = writeDigits(integral, digitCount(integral), destination, position);
+		if(precision > 0) {
+			destination[position++] = '.';
+			position = writeDigits(fractional, precision, destination, position);
+		}
+		return position;
+	}
+
+	private static String formatSlow(final double value, final int precision, final RoundingMode roundingMode) {
+		if(Double.isNaN(value)) {
+			return "NaN";
+		}
+		boolean negative = Double.doubleToRawLongBits(value) < 0;
+		if(Double.isInfinite(value)) {
+			return negative ? "-Infinity" : "Infinity";
+		}
+		// BigDecimal.valueOf uses the shortest decimal representation, same as java.util.Formatter does.
+		String digits = BigDecimal.valueOf(Math.abs(value)).setScale(precision, roundingMode).toPlainString();
+		return negative ? "-" + digits : digits;
+	}
+
+	/**
+	 * writes exactly {@code count} digits of the non negative value, left padded with zeros.
+	 */
+	private static int writeDigits(long value, final int count, final char[] destination, final int offset) {
+		int position = offset + count;
+		while (position > offset) {
+			long quotient = value / 10;
+			destination[--position] = (char) ('0' + (value - quotient * 10));
+			value = quotient;
+		}
+		return offset + count;
+	}
+
+	private static int digitCount(final long value) {
+		int count = 1;
+		while (count < POW10.length && value >= POW10[count]) {
+			count++;
+		}
+		return count;
+	}
+
+}
@@ -0,0 +1,239 @@
+package com.vbolide.string;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.vbolide.exception.InvalidParameterException;
+
+/**
+ * Lock-free generator of fixed length, lexicographically time sortable identifiers.
+ * <p>
+ * Every identifier encodes a 63 bit state followed by the 16 bit node of the generator. The state holds the milliseconds
+ * elapsed since {@linkplain #EPOCH_MILLI} in its upper 41 bits and a sequence in its lower 22 bits. The state only ever
+ * grows through atomic operations, so an instance never returns the same identifier twice, even when the clock goes back
+ * or more than 4 million identifiers are requested within a millisecond (the timestamp then runs ahead of the clock).
+ * The digits of {@linkplain Alphabet} are in ASCII order, so comparing identifiers as strings compares their creation order.
+ *
+ * @author Vamshi Byagari
+ */
+public class SortableIdGenerator {
+
+	/**
+	 * custom epoch of the timestamp bits, 2020-01-01T00:00:00Z, which lasts till the year 2089.
+	 */
+	public static final long EPOCH_MILLI = 1577836800000L;
+
+	/**
+	 * exclusive upper bound of the node identifier.
+	 */
+	public static final int NODE_LIMIT = 1 << 16;
+
+	private static final int SEQUENCE_BITS = 22;
+
+	/**
+	 * Digits used to encode the identifiers.
+     * <ul>
+     * <li>{@linkplain #BASE36}<br></li>
+     * <li>{@linkplain #BASE62}<br></li>
+     * </ul>
+	 * @author Vamshi Byagari
+	 */
+	public enum Alphabet{
+		/**
+		 * <b>0-9A-Z</b>, 17 characters per identifier.
+		 */
+		BASE36("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ"),
+
+		/**
+		 * <b>0-9A-Za-z</b>, 14 characters per identifier.
+		 */
+		BASE62("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz");
+
+		public final String label;
+
+		private final char[] digits;
+
+		/**
+		 * number of digits encoding the 63 bit state.
+		 */
+		private final int stateLength;
+
+		/**
+		 * number of digits encoding the 16 bit node.
+		 */
+		private final int nodeLength;
+
+		private Alphabet(String label) {
+			this.label = label;
+			this.digits = label.toCharArray();
+			this.stateLength = digitsFor(Long.MAX_VALUE, label.length());
+			this.nodeLength = digitsFor(NODE_LIMIT - 1, label.length());
+		}
+
+		private static int digitsFor(long max, final int radix) {
+			int count = 0;
+			while (max > 0) {
+				max /= radix;
+				count++;
+			}
+			return count;
+		}
+	}
+
+	private final Alphabet alphabet;
+	private final int nodeId;
+	private final Clock clock;
+	private final int length;
+
+	private final AtomicLong state = new AtomicLong();
+
+	private final ThreadLocal<char[]> buffer;
+
+	SortableIdGenerator(final Alphabet alphabet, final int nodeId, final Clock clock) {
+		this.alphabet = alphabet;
+		this.nodeId = nodeId;
+		this.clock = clock;
+		this.length = alphabet.stateLength + alphabet.nodeLength;
+		this.buffer = ThreadLocal.withInitial(() -> new char[length]);
+	}
+
+	/**
+	 * creates an instance of {@linkplain SortableIdGenerator} using the system clock.
+	 * @param alphabet any one value from {@linkplain Alphabet}
+	 * @param nodeId identifier of this generator between 0 and {@linkplain #NODE_LIMIT} (exclusive), keeps identifiers of different processes apart.
+	 * @return {@linkplain SortableIdGenerator} instance.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static SortableIdGenerator init(final Alphabet alphabet, final int nodeId) throws InvalidParameterException{
+		return init(alphabet, nodeId, Clock.systemUTC());
+	}
+
+	/**
+	 * creates an instance of {@linkplain SortableIdGenerator}.
+	 * @param alphabet any one value from {@linkplain Alphabet}
+	 * @param nodeId identifier of this generator between 0 and {@linkplain #NODE_LIMIT} (exclusive), keeps identifiers of different processes apart.
+	 * @param clock source of the timestamp bits.
+	 * @return {@linkplain SortableIdGenerator} instance.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static SortableIdGenerator init(final Alphabet alphabet, final int nodeId, final Clock clock) throws InvalidParameterException{
+		if(alphabet == null || clock == null) {
+			throw new InvalidParameterException("input parameter Alphabet and/or Clock is null");
+		}
+		if(nodeId < 0 || nodeId >= NODE_LIMIT) {
+			throw new InvalidParameterException("input parameter nodeId is out of range");
+		}
+		return new SortableIdGenerator(alphabet, nodeId, clock);
+	}
+
+
+	/**
+	 * @return next identifier, the only allocation is the returned {@linkplain String}.
+	 */
+	public String next() {
+		char[] chars = buffer.get();
+		encode(nextState(), chars, 0);
+		return new String(chars, 0, length);
+	}
+
+	/**
+	 * writes the next identifier into the character array.
+	 * @param destination array to write to.
+	 * @param offset index of the first character written, {@linkplain #length()} characters are written.
+	 * @return number of characters written.
+	 * @throws InvalidParameterException input parameters are invalid or destination is too small.
+	 */
+	public int next(final char[] destination, final int offset) throws InvalidParameterException{
+		if(destination == null || offset < 0 || offset > destination.length - length) {
+			throw new InvalidParameterException("input parameter destination and/or offset invalid");
+		}
+		encode(nextState(), destination, offset);
+		return length;
+	}
+
+	/**
+	 * @return next 63 bit state (timestamp and sequence) without encoding it, unique and increasing within this instance.
+	 */
+	public long nextState() {
+		long now = clock.millis() - EPOCH_MILLI;
+		long current = state.get();
+		if((current >>> SEQUENCE_BITS) >= now) {
+			// same millisecond (or the clock went back), a single atomic increment is enough
+			return checked(state.incrementAndGet());
+		}
+		long candidate = now << SEQUENCE_BITS;
+		while (true) {
+			long next = Math.max(candidate, current + 1);
+			if(state.compareAndSet(current, next)) {
+				return checked(next);
+			}
+			current = state.get();
+		}
+	}
+
+	/**
+	 * @return length of every identifier of this generator.
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * @return the {@linkplain Alphabet} of this generator.
+	 */
+	public Alphabet getAlphabet() {
+		return alphabet;
+	}
+
+	/**
+	 * @return the node identifier of this generator.
+	 */
+	public int getNodeId() {
+		return nodeId;
+	}
+
+	/**
+	 * extracts the creation time from an identifier of this generator.
+	 * @param id identifier generated by this generator.
+	 * @return milliseconds from the epoch of 1970-01-01T00:00:00Z.
+	 * @throws InvalidParameterException identifier is not of this generator's alphabet and length.
+	 */
+	public long timestampOf(final CharSequence id) throws InvalidParameterException{
+		if(id == null || id.length() != length) {
+			throw new InvalidParameterException("input parameter id is invalid");
+		}
+		int radix = alphabet.digits.length;
+		long value = 0;
+		for (int i = 0; i < alphabet.stateLength; i++) {
+			int digit = alphabet.label.indexOf(id.charAt(i));
+			if(digit < 0) {
+				throw new InvalidParameterException("input parameter id is invalid");
+			}
+			value = value * radix + digit;
+		}
+		return (value >>> SEQUENCE_BITS) + EPOCH_MILLI;
+	}
+
+
+	private void encode(long value, final char[] destination, final int offset) {
+		char[] digits = alphabet.digits;
+		int radix = digits.length;
+		for (int i = offset + alphabet.stateLength - 1; i >= offset; i--) {
+			destination[i] = digits[(int) (value % radix)];
+			value /= radix;
+		}
+		int node = nodeId;
+		for (int i = offset + length - 1; i >= offset + alphabet.stateLength; i--) {
+			destination[i] = digits[node % radix];
+			node /= radix;
+		}
+	}
+
+	private static long checked(final long state) {
+		if(state < 0) {
+			throw new IllegalStateException("timestamp bits of the identifier are exhausted");
+		}
+		return state;
+	}
+
+}
@@ -0,0 +1,387 @@
+package com.vbolide.string;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.vbolide.exception.InvalidParameterException;
+
+/**
+ * Bounded, concurrent pool of canonical {@linkplain String} instances.
+ * <p>
+ * Lookups by {@linkplain CharSequence}, {@code char[]} range or UTF-8 {@code byte[]} range hash and compare the input in
+ * place, so a value already in the pool is returned without allocating. The pool is a 4-way set associative table: a miss
+ * replaces an empty slot or the first entry not used since the last sweep of its set (second chance), so cold entries are
+ * evicted and the memory of the pool never grows beyond its capacity. Concurrent misses of the same value may both
+ * allocate, the pool then keeps one of them.
+ *
+ * @author Vamshi Byagari
+ */
+public class StringInternPool {
+
+	private static final int WAYS = 4;
+
+	private static final long MALFORMED = -1L;
+
+	private final AtomicReferenceArray<Entry> slots;
+	private final int setMask;
+	private final int maxLength;
+
+	StringInternPool(final int capacity, final int maxLength) {
+		int sets = Integer.highestOneBit(Math.max(capacity / WAYS, 1));
+		if(sets * WAYS < capacity) {
+			sets <<= 1;
+		}
+		this.slots = new AtomicReferenceArray<>(sets * WAYS);
+		this.setMask = sets - 1;
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * creates an instance of {@linkplain StringInternPool} that pools values of up to 64 characters.
+	 * @param capacity maximum number of pooled values, rounded up to a power of two.
+	 * @return {@linkplain StringInternPool} instance.
+	 * @throws InvalidParameterException input parameter invalid
+	 */
+	public static StringInternPool init(final int capacity) throws InvalidParameterException{
+		return init(capacity, 64);
+	}
+
+	/**
+	 * creates an instance of {@linkplain StringInternPool}.
+	 * @param capacity maximum number of pooled values, rounded up to a power of two.
+	 * @param maxLength values longer than this are returned without pooling.
+	 * @return {@linkplain StringInternPool} instance.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static StringInternPool init(final int capacity, final int maxLength) throws InvalidParameterException{
+		if(capacity <= 0 || capacity > (1 << 28) || maxLength < 0) {
+			throw new InvalidParameterException("input parameter capacity and/or maxLength invalid");
+		}
+		return new StringInternPool(capacity, maxLength);
+	}
+
+
+	/**
+	 * @param input value to look up.
+	 * @return canonical instance equal to the input.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public String intern(final CharSequence input) throws InvalidParameterException{
+		if(input == null) {
+			throw new InvalidParameterException("input parameter is null");
+		}
+		if(input instanceof String) {
+			return intern((String) input);
+		}
+		int length = input.length();
+		if(length > maxLength) {
+			return input.toString();
+		}
+		int hash = 0;
+		for (int i = 0; i < length; i++) {
+			hash = 31 * hash + input.charAt(i);
+		}
+		int set = set(hash);
+		for (int way = 0; way < WAYS; way++) {
+			Entry entry = slots.get(set + way);
+			if(entry != null && entry.hash == hash && contentEquals(entry.value, input)) {
+				return entry.touch();
+			}
+		}
+		return insert(set, hash, input.toString());
+	}
+
+	/**
+	 * @param chars array holding the value.
+	 * @param offset index of the first character.
+	 * @param length number of characters.
+	 * @return canonical instance equal to the character range.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public String intern(final char[] chars, final int offset, final int length) throws InvalidParameterException{
+		if(chars == null || offset < 0 || length < 0 || offset > chars.length - length) {
+			throw new InvalidParameterException("input parameter chars, offset and/or length invalid");
+		}
+		if(length > maxLength) {
+			return new String(chars, offset, length);
+		}
+		int hash = 0;
+		for (int i = offset, end = offset + length; i < end; i++) {
+			hash = 31 * hash + chars[i];
+		}
+		int set = set(hash);
+		for (int way = 0; way < WAYS; way++) {
+			Entry entry = slots.get(set + way);
+			if(entry != null && entry.hash == hash && contentEquals(entry.value, chars, offset, length)) {
+				return entry.touch();
+			}
+		}
+		return insert(set, hash, new String(chars, offset, length));
+	}
+
+	/**
+	 * @param utf8 array holding the UTF-8 encoded value.
+	 * @param offset index of the first byte.
+	 * @param length number of bytes.
+	 * @return canonical instance equal to the decoded byte range, malformed input is decoded as by {@linkplain String#String(byte[], int, int, java.nio.charset.Charset)}.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public String intern(final byte[] utf8, final int offset, final int length) throws InvalidParameterException{
+		if(utf8 == null || offset < 0 || length < 0 || offset > utf8.length - length) {
+			throw new InvalidParameterException("input parameter utf8, offset and/or length invalid");
+		}
+		if(length > maxLength * 3) {
+			return new String(utf8, offset, length, StandardCharsets.UTF_8);
+		}
+		long summary = hashUtf8(utf8, offset, offset + length);
+		if(summary == MALFORMED) {
+			return intern(new String(utf8, offset, length, StandardCharsets.UTF_8));
+		}
+		int charCount = (int) (summary >>> 32);
+		if(charCount > maxLength) {
+			return new String(utf8, offset, length, StandardCharsets.UTF_8);
+		}
+		int hash = (int) summary;
+		int set = set(hash);
+		for (int way = 0; way < WAYS; way++) {
+			Entry entry = slots.get(set + way);
+			if(entry != null && entry.hash == hash && entry.value.length() == charCount && contentEquals(entry.value, utf8, offset, offset + length)) {
+				return entry.touch();
+			}
+		}
+		return insert(set, hash, new String(utf8, offset, length, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @param input value to look up.
+	 * @return canonical instance equal to the input, the input itself becomes canonical when it is not pooled yet.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public String intern(final String input) throws InvalidParameterException{
+		if(input == null) {
+			throw new InvalidParameterException("input parameter is null");
+		}
+		if(input.length() > maxLength) {
+			return input;
+		}
+		int hash = input.hashCode();
+		int set = set(hash);
+		for (int way = 0; way < WAYS; way++) {
+			Entry entry = slots.get(set + way);
+			if(entry != null && entry.hash == hash && entry.value.equals(input)) {
+				return entry.touch();
+			}
+		}
+		return insert(set, hash, input);
+	}
+
+	/**
+	 * @return number of pooled values, may be stale while other threads are interning.
+	 */
+	public int size() {
+		int size = 0;
+		for (int i = 0; i < slots.length(); i++) {
+			if(slots.get(i) != null) {
+				size++;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * @return maximum number of pooled values.
+	 */
+	public int capacity() {
+		return slots.length();
+	}
+
+	/**
+	 * removes every pooled value.
+	 */
+	public void clear() {
+		for (int i = 0; i < slots.length(); i++) {
+			slots.set(i, null);
+		}
+	}
+
+
+	private int set(final int hash) {
+		return ((hash ^ (hash >>> 16)) & setMask) * WAYS;
+	}
+
+	private String insert(final int set, final int hash, final String value) {
+		int victim = -1;
+		Entry expected = null;
+		for (int way = 0; way < WAYS; way++) {
+			Entry entry = slots.get(set + way);
+			if(entry == null || !entry.referenced) {
+				victim = set + way;
+				expected = entry;
+				break;
+			}
+			// second chance, the entry is evicted if not used again before the next miss of its set
+			entry.referenced = false;
+		}
+		if(victim < 0) {
+			victim = set + (hash >>> 30);
+			expected = slots.get(victim);
+		}
+		if(slots.compareAndSet(victim, expected, new Entry(value, hash))) {
+			return value;
+		}
+		// lost the race for the slot, prefer the value a concurrent insert may have pooled
+		for (int way = 0; way < WAYS; way++) {
+			Entry entry = slots.get(set + way);
+			if(entry != null && entry.hash == hash && entry.value.equals(value)) {
+				return entry.touch();
+			}
+		}
+		return value;
+	}
+
+	private static boolean contentEquals(final String value, final CharSequence input) {
+		int length = value.length();
+		if(length != input.length()) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if(value.charAt(i) != input.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean contentEquals(final String value, final char[] chars, final int offset, final int length) {
+		if(value.length() != length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if(value.charAt(i) != chars[offset + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * compares the well formed UTF-8 range with the value, decoding one code point at a time.
+	 */
+	private static boolean contentEquals(final String value, final byte[] utf8, final int from, final int to) {
+		int index = 0;
+		int i = from;
+		while (i < to) {
+			int lead = utf8[i];
+			if(lead >= 0) {
+				if(value.charAt(index++) != lead) {
+					return false;
+				}
+				i++;
+				continue;
+			}
+			int size = sequenceLength(lead);
+			int codePoint = lead & (0x3F >> (size - 1));
+			for (int k = 1; k < size; k++) {
+				codePoint = (codePoint << 6) | (utf8[i + k] & 0x3F);
+			}
+			if(codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+				if(value.charAt(index++) != codePoint) {
+					return false;
+				}
+			}else {
+				if(value.charAt(index++) != Character.highSurrogate(codePoint) || value.charAt(index++) != Character.lowSurrogate(codePoint)) {
+					return false;
+				}
+			}
+			i += size;
+		}
+		return index == value.length();
+	}
+
+	/**
+	 * hashes the UTF-8 range as {@linkplain String#hashCode()} of the decoded value.
+	 * @return number of decoded characters in the upper and hash in the lower 32 bits, or {@linkplain #MALFORMED}.
+	 */
+	private static long hashUtf8(final byte[] utf8, final int from, final int to) {
+		int hash = 0;
+		int count = 0;
+		int i = from;
+		while (i < to) {
+			int lead = utf8[i];
+			if(lead >= 0) {
+				hash = 31 * hash + lead;
+				count++;
+				i++;
+				continue;
+			}
+			int size = sequenceLength(lead);
+			if(size == 0 || i + size > to) {
+				return MALFORMED;
+			}
+			int codePoint = lead & (0x3F >> (size - 1));
+			for (int k = 1; k < size; k++) {
+				int next = utf8[i + k];
+				if((next & 0xC0) != 0x80) {
+					return MALFORMED;
+				}
+				codePoint = (codePoint << 6) | (next & 0x3F);
+			}
+			if((size == 2 && codePoint < 0x80)
+					|| (size == 3 && (codePoint < 0x800 || Character.isSurrogate((char) codePoint)))
+					|| (size == 4 && (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT || codePoint > Character.MAX_CODE_POINT))) {
+				return MALFORMED;
+			}
+			if(codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+				hash = 31 * hash + codePoint;
+				count++;
+			}else {
+				hash = 31 * hash + Character.highSurrogate(codePoint);
+				hash = 31 * hash + Character.lowSurrogate(codePoint);
+				count += 2;
+			}
+			i += size;
+		}
+		return ((long) count << 32) | (hash & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * @return number of bytes of the sequence started by the lead byte, 0 if it is not a lead byte.
+	 */
+	private static int sequenceLength(final int lead) {
+		if((lead & 0xE0) == 0xC0) {
+			return 2;
+		}
+		if((lead & 0xF0) == 0xE0) {
+			return 3;
+		}
+		if((lead & 0xF8) == 0xF0) {
+			return 4;
+		}
+		return 0;
+	}
+
+
+	private static final class Entry {
+
+		final String value;
+		final int hash;
+
+		/**
+		 * set on every hit, cleared when a miss of the set sweeps past the entry.
+		 */
+		volatile boolean referenced;
+
+		Entry(final String value, final int hash) {
+			this.value = value;
+			this.hash = hash;
+		}
+
+		String touch() {
+			if(!referenced) {
+				referenced = true;
+			}
+			return value;
+		}
+	}
+
+}
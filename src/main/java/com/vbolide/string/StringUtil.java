@@ -1,11 +1,14 @@
 package com.vbolide.string;
 
+import java.math.RoundingMode;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.util.Base64;
-import java.util.Calendar;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.vbolide.exception.InvalidParameterException;
+import com.vbolide.result.Result;
 import com.vbolide.validation.ValidationUtil;
 
 /**
@@ -14,7 +17,28 @@ import com.vbolide.validation.ValidationUtil;
  */
 public class StringUtil {
 
-	private static final String ENGLISH_UPPERCASE_CHARACTERS_WITH_NUMBERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+	/**
+	 * base-36 generator with a random node, backs {@linkplain #getAlphaNumericStringFromNanoTime()}.
+	 */
+	private static final SortableIdGenerator ID_GENERATOR = new SortableIdGenerator(SortableIdGenerator.Alphabet.BASE36,
+			ThreadLocalRandom.current().nextInt(SortableIdGenerator.NODE_LIMIT), Clock.systemUTC());
+
+	/**
+	 * one {@linkplain TimestampFormatter} per {@linkplain StringFromDateLevel}, indexed by ordinal.
+	 */
+	private static final TimestampFormatter[] DATE_FORMATTERS = new TimestampFormatter[StringFromDateLevel.values().length];
+
+	static {
+		Clock clock = Clock.systemDefaultZone();
+		for (StringFromDateLevel stringFromDateLevel : StringFromDateLevel.values()) {
+			DATE_FORMATTERS[stringFromDateLevel.ordinal()] = new TimestampFormatter(stringFromDateLevel, clock);
+		}
+	}
+
+	/**
+	 * shared pool backing the {@code deduplicate} methods.
+	 */
+	private static final StringInternPool INTERN_POOL = new StringInternPool(8192, 64);
 
 	private StringUtil() {}
 
@@ -27,10 +51,55 @@ public class StringUtil {
 	 * @throws InvalidParameterException input parameters are invalid
 	 */
 	public static int getLength(final String input, final Charset charset) throws InvalidParameterException{
-		if(!ValidationUtil.isValidString(input)) {
+		if(!ValidationUtil.hasText(input)) {
 			throw new InvalidParameterException("input parameter is invalid");
 		}
-		return input.getBytes(charset == null ? StandardCharsets.UTF_8 : charset).length;
+		return length(input, charset);
+	}
+
+	/**
+	 * {@linkplain #getLength(String, Charset)} that returns an error instead of throwing.
+	 * @param input input string.
+	 * @param charset sub class of {@linkplain Charset}, if none passed then uses {@linkplain StandardCharsets#UTF_8}.
+	 * @return length of string, or the error of an invalid input.
+	 */
+	public static Result<Integer> tryGetLength(final String input, final Charset charset) {
+		return ValidationUtil.hasText(input) ? Result.ok(length(input, charset)) : Result.error("input parameter is invalid");
+	}
+
+	private static int length(final String input, final Charset charset) {
+		Charset target = charset == null ? StandardCharsets.UTF_8 : charset;
+		if(StandardCharsets.UTF_8.equals(target)) {
+			return getUTF8Length(input);
+		}
+		if(StandardCharsets.US_ASCII.equals(target) || StandardCharsets.ISO_8859_1.equals(target)) {
+			// one byte per code point, unmappable ones are replaced by a single '?'
+			return input.codePointCount(0, input.length());
+		}
+		return input.getBytes(target).length;
+	}
+
+	/**
+	 * number of bytes of the UTF-8 encoding, counted without encoding; malformed surrogates count as the one byte replacement.
+	 */
+	private static int getUTF8Length(final String input) {
+		int length = input.length();
+		int bytes = length;
+		for (int i = 0; i < length; i++) {
+			char c = input.charAt(i);
+			if(c >= 0x80) {
+				if(c < 0x800) {
+					bytes += 1;
+				}else if(Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(input.charAt(i + 1))) {
+					// two chars, four bytes
+					bytes += 2;
+					i++;
+				}else if(!Character.isSurrogate(c)) {
+					bytes += 2;
+				}
+			}
+		}
+		return bytes;
 	}
 
 
@@ -62,9 +131,23 @@ public class StringUtil {
 	 * @throws InvalidParameterException input parameters are invalid
 	 */
 	public static String toAlternatingCase(final String input, final AlternatingCaseEnum alternatinCaseEnum) throws InvalidParameterException{
-		if(!ValidationUtil.isValidString(input) || alternatinCaseEnum == null) {
+		if(!ValidationUtil.hasText(input) || alternatinCaseEnum == null) {
 			throw new InvalidParameterException("input parameter is invalid");
 		}
+		return alternatingCase(input, alternatinCaseEnum);
+	}
+
+	/**
+	 * {@linkplain #toAlternatingCase(String, AlternatingCaseEnum)} that returns an error instead of throwing.
+	 * @param input an instance of {@linkplain String}
+	 * @param alternatinCaseEnum any one value from {@linkplain AlternatingCaseEnum}
+	 * @return alternating case string, or the error of invalid input parameters.
+	 */
+	public static Result<String> tryToAlternatingCase(final String input, final AlternatingCaseEnum alternatinCaseEnum) {
+		return ValidationUtil.hasText(input) && alternatinCaseEnum != null ? Result.ok(alternatingCase(input, alternatinCaseEnum)) : Result.error("input parameter is invalid");
+	}
+
+	private static String alternatingCase(final String input, final AlternatingCaseEnum alternatinCaseEnum) {
 		StringBuilder result = new StringBuilder();
 		for (String line : input.split(System.lineSeparator())) {
 			String[] words = line.split("\\s");
@@ -74,9 +157,9 @@ public class StringUtil {
 					for (int j = 0; j < word.length(); j++) {
 						boolean isEvenIdex = j%2 == 0;
 						if(AlternatingCaseEnum.EVEN_INDEX_CHARACTER_UPPER_CASE == alternatinCaseEnum) {
-							result.append(isEvenIdex ? Character.toUpperCase(word.charAt(j)) : Character.toLowerCase(word.charAt(j)));
+							result.append(isEvenIdex ? AsciiUtil.toUpperCase(word.charAt(j)) : AsciiUtil.toLowerCase(word.charAt(j)));
 						}else {
-							result.append(isEvenIdex ? Character.toLowerCase(word.charAt(j)) : Character.toUpperCase(word.charAt(j)));
+							result.append(isEvenIdex ? AsciiUtil.toLowerCase(word.charAt(j)) : AsciiUtil.toUpperCase(word.charAt(j)));
 						}
 					}
 				}
@@ -95,9 +178,22 @@ public class StringUtil {
 	 * @throws InvalidParameterException input parameter invalid
 	 */
 	public static String toSentenceCase(final String input) throws InvalidParameterException{
-		if(!ValidationUtil.isValidString(input)) {
+		if(!ValidationUtil.hasText(input)) {
 			throw new InvalidParameterException("input parameter is invalid");
 		}
+		return sentenceCase(input);
+	}
+
+	/**
+	 * {@linkplain #toSentenceCase(String)} that returns an error instead of throwing.
+	 * @param input an instance of {@linkplain String}
+	 * @return sentence case string, or the error of an invalid input.
+	 */
+	public static Result<String> tryToSentenceCase(final String input) {
+		return ValidationUtil.hasText(input) ? Result.ok(sentenceCase(input)) : Result.error("input parameter is invalid");
+	}
+
+	private static String sentenceCase(final String input) {
 		StringBuilder result = new StringBuilder();
 		for (String line : input.split(System.lineSeparator())) {
 			String[] words = line.split("\\s");
@@ -105,10 +201,10 @@ public class StringUtil {
 				String word = words[i];
 				if(!word.isEmpty()) {
 					if(i == 0) {
-						result.append(Character.toUpperCase(word.charAt(0)));
-						result.append(word.substring(1).toLowerCase());
+						result.append(AsciiUtil.toUpperCase(word.charAt(0)));
+						appendLowerCase(result, word, 1);
 					}else {
-						result.append(word.toLowerCase());
+						appendLowerCase(result, word, 0);
 					}
 				}
 				if (result.length() != words.length)
@@ -146,15 +242,28 @@ public class StringUtil {
 	 * @throws InvalidParameterException input parameters are invalid
 	 */
 	public static String toCamelCase(final String input) throws InvalidParameterException{
-		if(!ValidationUtil.isValidString(input)) {
+		if(!ValidationUtil.hasText(input)) {
 			throw new InvalidParameterException("input parameter is invalid");
 		}
+		return camelCase(input);
+	}
+
+	/**
+	 * {@linkplain #toCamelCase(String)} that returns an error instead of throwing.
+	 * @param input an instance of {@linkplain String}
+	 * @return camel case string, or the error of an invalid input.
+	 */
+	public static Result<String> tryToCamelCase(final String input) {
+		return ValidationUtil.hasText(input) ? Result.ok(camelCase(input)) : Result.error("input parameter is invalid");
+	}
+
+	private static String camelCase(final String input) {
 		StringBuilder result = new StringBuilder();
 		for (String line : input.split(System.lineSeparator())) {
 			for (final String word : line.split("\\s")) {
 				if (!word.isEmpty()) {
-					result.append(Character.toUpperCase(word.charAt(0)));
-					result.append(word.substring(1).toLowerCase());
+					result.append(AsciiUtil.toUpperCase(word.charAt(0)));
+					appendLowerCase(result, word, 1);
 				}
 				if (result.length() != input.length())
 					result.append(" ");
@@ -165,21 +274,35 @@ public class StringUtil {
 	}
 
 
+	/**
+	 * appends the lower-case of the word from the index, ASCII words are converted without creating intermediate strings.
+	 */
+	private static void appendLowerCase(final StringBuilder result, final String word, final int from) {
+		if(!AsciiUtil.isAscii(word)) {
+			result.append(word.substring(from).toLowerCase());
+			return;
+		}
+		for (int i = from; i < word.length(); i++) {
+			result.append(AsciiUtil.toLowerCase(word.charAt(i)));
+		}
+	}
+
+
 	/**
 	 * formats the input number based on the precision provided.
 	 * @param input number to format.
 	 * @param precision to what precision number should be formatted. if the precision is greater than the decimal points then 0 will be appended to it reach the precision number.
 	 * @return an instance of {@linkplain String} that contains number with formatted based on precision provided.
+	 * @see DecimalFormatUtil
 	 */
 	public static String formatToDecimals(final double input, final int precision) {
 		if(input == (long)input) {
-			return String.format("%s", (long)input);
+			return String.valueOf((long)input);
 		}else {
-			StringBuilder sb = new StringBuilder();
-			sb.append("%.");
-			sb.append(precision);
-			sb.append("f");
-			return String.format(sb.toString(), input);
+			if(precision < 0 || precision > DecimalFormatUtil.MAX_PRECISION) {
+				throw new IllegalArgumentException("precision is out of range");
+			}
+			return DecimalFormatUtil.toString(input, precision, RoundingMode.HALF_UP);
 		}
 	}
 
@@ -192,10 +315,10 @@ public class StringUtil {
 	 * @throws InvalidParameterException input parameters are invalid
 	 */
 	public static String encodeState(final String input, final Charset charset) throws InvalidParameterException{
-		if(!ValidationUtil.isValidString(input)) {
+		if(!ValidationUtil.hasText(input)) {
 			throw new InvalidParameterException("input parameter is invalid");
 		}
-		return new String(Base64.getEncoder().encode(input.getBytes(charset == null ? StandardCharsets.UTF_8 : charset)));
+		return encode(input, charset);
 	}
 
 	/**
@@ -206,34 +329,96 @@ public class StringUtil {
 	 * @throws InvalidParameterException input parameters are invalid
 	 */
 	public static String decodedState(final String input, final Charset charset) throws InvalidParameterException{
-		if(!ValidationUtil.isValidString(input)) {
+		if(!ValidationUtil.hasText(input)) {
 			throw new InvalidParameterException("input parameter is invalid");
 		}
+		return decode(input, charset);
+	}
+
+	/**
+	 * {@linkplain #encodeState(String, Charset)} that returns an error instead of throwing.
+	 * @param input an instance of {@linkplain String}
+	 * @param charset any sub class of {@linkplain Charset}, if none passed then uses {@linkplain StandardCharsets#UTF_8}.
+	 * @return {@linkplain Base64} encoded string, or the error of an invalid input.
+	 */
+	public static Result<String> tryEncodeState(final String input, final Charset charset) {
+		if(!ValidationUtil.hasText(input)) {
+			return Result.error("input parameter is invalid");
+		}
+		return Result.ok(encode(input, charset));
+	}
+
+	/**
+	 * {@linkplain #decodedState(String, Charset)} that returns an error instead of throwing, also for input that is not {@linkplain Base64}.
+	 * @param input an instance of {@linkplain String}
+	 * @param charset any sub class of {@linkplain Charset}, if none passed then uses {@linkplain StandardCharsets#UTF_8}.
+	 * @return {@linkplain Base64} decoded string, or the error of an invalid input.
+	 */
+	public static Result<String> tryDecodedState(final String input, final Charset charset) {
+		if(!ValidationUtil.hasText(input)) {
+			return Result.error("input parameter is invalid");
+		}
+		try {
+			return Result.ok(decode(input, charset));
+		}catch (IllegalArgumentException e) {
+			return Result.error("input parameter is not Base64");
+		}
+	}
+
+	private static String encode(final String input, final Charset charset) {
+		return new String(Base64.getEncoder().encode(input.getBytes(charset == null ? StandardCharsets.UTF_8 : charset)));
+	}
+
+	/**
+	 * @throws IllegalArgumentException input is not {@linkplain Base64}
+	 */
+	private static String decode(final String input, final Charset charset) {
 		return new String(Base64.getDecoder().decode(input.getBytes(charset == null ? StandardCharsets.UTF_8 : charset)));
 	}
 
 
     /**
-     * Converts the Current Instance Nano-time to String.
+     * Generates an upper-case alpha numeric identifier of fixed length, unique within the process and sortable by creation time.
      * @return resultant {@linkplain String}
+     * @see SortableIdGenerator
      */
 	public static String getAlphaNumericStringFromNanoTime() {
-		String nanoTime = String.valueOf(System.nanoTime());
-		StringBuilder result = new StringBuilder();
-		for(int i=0; i<nanoTime.length(); i=i+2) {
-			String str1 = nanoTime.substring(i, i+2);
-			int num1 = Integer.parseInt(str1);
-			if(num1>=36) {
-				for(int j=0; j<2; j++) {
-					String str2 = str1.substring(j, j+1);
-					int num2 = Integer.parseInt(str2);
-					result.append(ENGLISH_UPPERCASE_CHARACTERS_WITH_NUMBERS.charAt(num2));
-				}
-			}else {
-				result.append(ENGLISH_UPPERCASE_CHARACTERS_WITH_NUMBERS.charAt(num1));
-			}
-		}
-		return result.toString().trim();
+		return ID_GENERATOR.next();
+	}
+
+
+	/**
+	 * returns the canonical instance of the value from a shared {@linkplain StringInternPool}, so repeated values share storage.
+	 * @param input value to deduplicate.
+	 * @return canonical instance equal to the input.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public static String deduplicate(final CharSequence input) throws InvalidParameterException{
+		return INTERN_POOL.intern(input);
+	}
+
+	/**
+	 * returns the canonical instance of the character range from a shared {@linkplain StringInternPool}, without allocating when it is already pooled.
+	 * @param chars array holding the value.
+	 * @param offset index of the first character.
+	 * @param length number of characters.
+	 * @return canonical instance equal to the character range.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static String deduplicate(final char[] chars, final int offset, final int length) throws InvalidParameterException{
+		return INTERN_POOL.intern(chars, offset, length);
+	}
+
+	/**
+	 * returns the canonical instance of the UTF-8 byte range from a shared {@linkplain StringInternPool}, without allocating when it is already pooled.
+	 * @param utf8 array holding the UTF-8 encoded value.
+	 * @param offset index of the first byte.
+	 * @param length number of bytes.
+	 * @return canonical instance equal to the decoded byte range.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static String deduplicate(final byte[] utf8, final int offset, final int length) throws InvalidParameterException{
+		return INTERN_POOL.intern(utf8, offset, length);
 	}
 
 
@@ -283,72 +468,18 @@ public class StringUtil {
 	}
 
 	/**
-	 * This method is used to get the string representation of the current date and time including from year to seconds.
+	 * This method is used to get the string representation of the current date and time including from year to milliseconds.
+	 * Hours are in 24-hour clock of the default time-zone at class initialization.
 	 * @param stringFromDateLevel any one value from {@linkplain StringFromDateLevel}
 	 * @return string form of date, based on the input argument.
 	 * @throws InvalidParameterException input parameters are invalid
+	 * @see TimestampFormatter
 	 */
 	public static String getStringFromDate(final StringFromDateLevel stringFromDateLevel) throws InvalidParameterException{
 		if(stringFromDateLevel == null) {
 			throw new InvalidParameterException("input parameter is invalid");
 		}
-
-		Calendar calendar = Calendar.getInstance();
-		switch(stringFromDateLevel) {
-		case UPTO_MONTH: return String.format("%s%s", getPrexifedStringFromDateVale(calendar.get(Calendar.YEAR), 4),
-											getPrexifedStringFromDateVale(calendar.get(Calendar.MONTH)+1, 2));
-		
-		case UPTO_DATE: return String.format("%s%s%s", getPrexifedStringFromDateVale(calendar.get(Calendar.YEAR), 4),
-												getPrexifedStringFromDateVale(calendar.get(Calendar.MONTH)+1, 2),
-												getPrexifedStringFromDateVale(calendar.get(Calendar.DATE), 2));
-		
-		case UPTO_HOUR: return String.format("%s%s%s%s", getPrexifedStringFromDateVale(calendar.get(Calendar.YEAR), 4),
-												getPrexifedStringFromDateVale(calendar.get(Calendar.MONTH)+1, 2),
-												getPrexifedStringFromDateVale(calendar.get(Calendar.DATE), 2),
-												getPrexifedStringFromDateVale(calendar.get(Calendar.HOUR), 2));
-		
-		case UPTO_MINUTE: return String.format("%s%s%s%s%s", getPrexifedStringFromDateVale(calendar.get(Calendar.YEAR), 4),
-													getPrexifedStringFromDateVale(calendar.get(Calendar.MONTH)+1, 2),
-													getPrexifedStringFromDateVale(calendar.get(Calendar.DATE), 2),
-													getPrexifedStringFromDateVale(calendar.get(Calendar.HOUR), 2),
-													getPrexifedStringFromDateVale(calendar.get(Calendar.MINUTE), 2));
-			
-		case UPTO_SECOND: return String.format("%s%s%s%s%s%s", getPrexifedStringFromDateVale(calendar.get(Calendar.YEAR), 4),
-													getPrexifedStringFromDateVale(calendar.get(Calendar.MONTH)+1, 2),
-													getPrexifedStringFromDateVale(calendar.get(Calendar.DATE), 2),
-													getPrexifedStringFromDateVale(calendar.get(Calendar.HOUR), 2),
-													getPrexifedStringFromDateVale(calendar.get(Calendar.MINUTE), 2),
-													getPrexifedStringFromDateVale(calendar.get(Calendar.SECOND), 2));
-		
-		case UPTO_MILLISECOND: return String.format("%s%s%s%s%s%s%s", getPrexifedStringFromDateVale(calendar.get(Calendar.YEAR), 4),
-														getPrexifedStringFromDateVale(calendar.get(Calendar.MONTH)+1, 2),
-														getPrexifedStringFromDateVale(calendar.get(Calendar.DATE), 2),
-														getPrexifedStringFromDateVale(calendar.get(Calendar.HOUR), 2),
-														getPrexifedStringFromDateVale(calendar.get(Calendar.MINUTE), 2),
-														getPrexifedStringFromDateVale(calendar.get(Calendar.SECOND), 2),
-														getPrexifedStringFromDateVale(calendar.get(Calendar.MILLISECOND), 3));
-		default: return String.format("%s%s%s", getPrexifedStringFromDateVale(calendar.get(Calendar.YEAR), 4),
-				getPrexifedStringFromDateVale(calendar.get(Calendar.MONTH)+1, 2),
-				getPrexifedStringFromDateVale(calendar.get(Calendar.DATE), 2));
-		}
-	}
-
-	/**
-	 * This method will generate the string by appending 0 to input argument.
-	 * @param value to which 0's has to be appended.
-	 * @param length the max length of the string.
-	 * @return string value appended by 0's.
-	 */
-	private static String getPrexifedStringFromDateVale(final int value, final int length) {
-		String string = String.valueOf(value);
-		if(string.length()==length) {
-			return string;
-		}else {
-			String temp = "";
-			for(int i=1; i<length; i++)
-				temp = temp+"0";
-			return temp+string;
-		}
+		return DATE_FORMATTERS[stringFromDateLevel.ordinal()].format();
 	}
 
 
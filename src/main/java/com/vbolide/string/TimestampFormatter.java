@@ -0,0 +1,293 @@
+package com.vbolide.string;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+import com.vbolide.exception.InvalidParameterException;
+import com.vbolide.string.StringUtil.StringFromDateLevel;
+
+/**
+ * Thread safe generator of compact timestamp strings ({@code yyyyMMddHHmmssSSS} truncated to a {@linkplain StringFromDateLevel}).
+ * <p>
+ * The digits up to the minute are rendered with {@code java.time} once per minute, the seconds once per second and
+ * only the milliseconds are written on every call, into a per thread buffer. Rendered state is kept in an immutable
+ * snapshot published through a {@code volatile} field, so concurrent callers never block each other.
+ * Hours are rendered in 24-hour clock of the {@linkplain Clock} zone.
+ *
+ * @author Vamshi Byagari
+ */
+public class TimestampFormatter {
+
+	/**
+	 * length of {@code yyyyMMddHHmmss} for four digit years.
+	 */
+	private static final int SECOND_LENGTH = 14;
+
+	private final StringFromDateLevel stringFromDateLevel;
+	private final Clock clock;
+	private final ZoneRules zoneRules;
+
+	private volatile Snapshot snapshot;
+
+	private final ThreadLocal<Buffer> buffer = ThreadLocal.withInitial(Buffer::new);
+
+	TimestampFormatter(final StringFromDateLevel stringFromDateLevel, final Clock clock) {
+		this.stringFromDateLevel = stringFromDateLevel;
+		this.clock = clock;
+		this.zoneRules = clock.getZone().getRules();
+	}
+
+	/**
+	 * creates an instance of {@linkplain TimestampFormatter} using the system clock and the default time-zone.
+	 * @param stringFromDateLevel any one value from {@linkplain StringFromDateLevel}
+	 * @return {@linkplain TimestampFormatter} instance.
+	 * @throws InvalidParameterException input parameter invalid
+	 */
+	public static TimestampFormatter init(final StringFromDateLevel stringFromDateLevel) throws InvalidParameterException{
+		return init(stringFromDateLevel, Clock.systemDefaultZone());
+	}
+
+	/**
+	 * creates an instance of {@linkplain TimestampFormatter}.
+	 * @param stringFromDateLevel any one value from {@linkplain StringFromDateLevel}
+	 * @param clock source of the current instant and time-zone.
+	 * @return {@linkplain TimestampFormatter} instance.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static TimestampFormatter init(final StringFromDateLevel stringFromDateLevel, final Clock clock) throws InvalidParameterException{
+		if(stringFromDateLevel == null || clock == null) {
+			throw new InvalidParameterException("input parameter StringFromDateLevel and/or Clock is null");
+		}
+		return new TimestampFormatter(stringFromDateLevel, clock);
+	}
+
+
+	/**
+	 * @return timestamp string of the current instant of the clock.
+	 */
+	public String format() {
+		return format(clock.millis());
+	}
+
+	/**
+	 * @param epochMilli milliseconds from the epoch of 1970-01-01T00:00:00Z.
+	 * @return timestamp string of the given instant.
+	 */
+	public String format(final long epochMilli) {
+		Snapshot current = snapshot(Math.floorDiv(epochMilli, 1000L));
+		if(stringFromDateLevel != StringFromDateLevel.UPTO_MILLISECOND) {
+			return current.text;
+		}
+		Buffer local = buffer.get();
+		if(local.source != current) {
+			if(local.chars.length < current.chars.length) {
+				local.chars = new char[current.chars.length];
+			}
+			System.arraycopy(current.chars, 0, local.chars, 0, current.secondLength);
+			local.source = current;
+		}
+		writeMillis((int) Math.floorMod(epochMilli, 1000L), local.chars, current.secondLength);
+		return new String(local.chars, 0, current.secondLength + 3);
+	}
+
+	/**
+	 * writes the timestamp of the current instant of the clock into the character array.
+	 * @param destination array to write to, {@linkplain #length()} characters from offset are sufficient for years 0000 to 9999.
+	 * @param offset index of the first character written.
+	 * @return number of characters written.
+	 * @throws InvalidParameterException input parameters are invalid or destination is too small.
+	 */
+	public int format(final char[] destination, final int offset) throws InvalidParameterException{
+		if(destination == null || offset < 0 || offset > destination.length) {
+			throw new InvalidParameterException("input parameter destination and/or offset invalid");
+		}
+		long epochMilli = clock.millis();
+		Snapshot current = snapshot(Math.floorDiv(epochMilli, 1000L));
+		int length = current.levelLength(stringFromDateLevel);
+		if(destination.length - offset < length) {
+			throw new InvalidParameterException("destination array is too small");
+		}
+		if(stringFromDateLevel == StringFromDateLevel.UPTO_MILLISECOND) {
+			System.arraycopy(current.chars, 0, destination, offset, current.secondLength);
+			writeMillis((int) Math.floorMod(epochMilli, 1000L), destination, offset + current.secondLength);
+		}else {
+			System.arraycopy(current.chars, 0, destination, offset, length);
+		}
+		return length;
+	}
+
+	/**
+	 * appends the timestamp of the current instant of the clock to the {@linkplain StringBuilder}.
+	 * @param stringBuilder destination.
+	 * @return the destination {@linkplain StringBuilder}.
+	 * @throws InvalidParameterException input parameter invalid
+	 */
+	public StringBuilder append(final StringBuilder stringBuilder) throws InvalidParameterException{
+		if(stringBuilder == null) {
+			throw new InvalidParameterException("input parameter StringBuilder is null");
+		}
+		long epochMilli = clock.millis();
+		Snapshot current = snapshot(Math.floorDiv(epochMilli, 1000L));
+		if(stringFromDateLevel == StringFromDateLevel.UPTO_MILLISECOND) {
+			int millis = (int) Math.floorMod(epochMilli, 1000L);
+			stringBuilder.append(current.chars, 0, current.secondLength)
+				.append((char) ('0' + millis / 100))
+				.append((char) ('0' + millis / 10 % 10))
+				.append((char) ('0' + millis % 10));
+		}else {
+			stringBuilder.append(current.text);
+		}
+		return stringBuilder;
+	}
+
+	/**
+	 * @return length of the generated timestamps for years 0000 to 9999.
+	 */
+	public int length() {
+		return levelLength(stringFromDateLevel, SECOND_LENGTH);
+	}
+
+	/**
+	 * @return the {@linkplain StringFromDateLevel} of this formatter.
+	 */
+	public StringFromDateLevel getStringFromDateLevel() {
+		return stringFromDateLevel;
+	}
+
+
+	/**
+	 * returns the snapshot of the epoch second, rendering it when the published one is of another second.
+	 * Concurrent renders of the same second produce equal snapshots, whichever is published last wins.
+	 */
+	private Snapshot snapshot(final long epochSecond) {
+		Snapshot current = snapshot;
+		if(current != null && current.epochSecond == epochSecond) {
+			return current;
+		}
+		Snapshot rendered = render(current, epochSecond);
+		if(current == null || epochSecond > current.epochSecond) {
+			snapshot = rendered;
+		}
+		return rendered;
+	}
+
+	private Snapshot render(final Snapshot previous, final long epochSecond) {
+		char[] chars;
+		long minuteStart;
+		long minuteEnd;
+		int secondLength;
+		if(previous != null && epochSecond >= previous.minuteStart && epochSecond < previous.minuteEnd) {
+			// same local minute, only the seconds change
+			chars = previous.chars.clone();
+			minuteStart = previous.minuteStart;
+			minuteEnd = previous.minuteEnd;
+			secondLength = previous.secondLength;
+		}else {
+			Instant instant = Instant.ofEpochSecond(epochSecond);
+			ZoneOffset offset = zoneRules.getOffset(instant);
+			LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, 0, offset);
+			minuteStart = epochSecond - dateTime.getSecond();
+			minuteEnd = minuteStart + 60;
+			if(!zoneRules.isFixedOffset()) {
+				ZoneOffsetTransition transition = zoneRules.nextTransition(instant);
+				if(transition != null && transition.toEpochSecond() < minuteEnd) {
+					minuteEnd = transition.toEpochSecond();
+				}
+			}
+			String year = String.valueOf(dateTime.getYear());
+			int yearLength = Math.max(year.length(), 4);
+			secondLength = yearLength + 10;
+			chars = new char[secondLength + 3];
+			for (int i = 0; i < yearLength - year.length(); i++) {
+				chars[i] = '0';
+			}
+			year.getChars(0, year.length(), chars, yearLength - year.length());
+			writeTwoDigits(dateTime.getMonthValue(), chars, yearLength);
+			writeTwoDigits(dateTime.getDayOfMonth(), chars, yearLength + 2);
+			writeTwoDigits(dateTime.getHour(), chars, yearLength + 4);
+			writeTwoDigits(dateTime.getMinute(), chars, yearLength + 6);
+		}
+		writeTwoDigits((int) (epochSecond - minuteStart), chars, secondLength - 2);
+		String text = stringFromDateLevel == StringFromDateLevel.UPTO_MILLISECOND ? null
+				: new String(chars, 0, levelLength(stringFromDateLevel, secondLength));
+		return new Snapshot(epochSecond, minuteStart, minuteEnd, chars, secondLength, text);
+	}
+
+	private static int levelLength(final StringFromDateLevel stringFromDateLevel, final int secondLength) {
+		switch (stringFromDateLevel) {
+			case UPTO_MONTH: return secondLength - 8;
+			case UPTO_DATE: return secondLength - 6;
+			case UPTO_HOUR: return secondLength - 4;
+			case UPTO_MINUTE: return secondLength - 2;
+			case UPTO_SECOND: return secondLength;
+			case UPTO_MILLISECOND:
+			default: return secondLength + 3;
+		}
+	}
+
+	private static void writeTwoDigits(final int value, final char[] destination, final int offset) {
+		destination[offset] = (char) ('0' + value / 10);
+		destination[offset + 1] = (char) ('0' + value % 10);
+	}
+
+	private static void writeMillis(final long millis, final char[] destination, final int offset) {
+		int value = (int) millis;
+		destination[offset] = (char) ('0' + value / 100);
+		destination[offset + 1] = (char) ('0' + value / 10 % 10);
+		destination[offset + 2] = (char) ('0' + value % 10);
+	}
+
+
+	/**
+	 * immutable rendering of one epoch second, the character array is never modified once published.
+	 */
+	private static final class Snapshot {
+
+		final long epochSecond;
+
+		/**
+		 * epoch seconds range [minuteStart, minuteEnd) sharing the rendered digits up to the minute.
+		 */
+		final long minuteStart;
+		final long minuteEnd;
+
+		/**
+		 * {@code yyyyMMddHHmmss} followed by room for the milliseconds.
+		 */
+		final char[] chars;
+		final int secondLength;
+
+		/**
+		 * rendered result for levels other than {@linkplain StringFromDateLevel#UPTO_MILLISECOND}.
+		 */
+		final String text;
+
+		Snapshot(final long epochSecond, final long minuteStart, final long minuteEnd, final char[] chars, final int secondLength, final String text) {
+			this.epochSecond = epochSecond;
+			this.minuteStart = minuteStart;
+			this.minuteEnd = minuteEnd;
+			this.chars = chars;
+			this.secondLength = secondLength;
+			this.text = text;
+		}
+
+		int levelLength(final StringFromDateLevel stringFromDateLevel) {
+			return TimestampFormatter.levelLength(stringFromDateLevel, secondLength);
+		}
+	}
+
+	/**
+	 * per thread copy of the latest snapshot digits, completed with the milliseconds on each call.
+	 */
+	private static final class Buffer {
+
+		Snapshot source;
+
+		char[] chars = new char[SECOND_LENGTH + 3];
+	}
+
+}
@@ -0,0 +1,176 @@
+package com.vbolide.url;
+
+import com.vbolide.exception.InvalidParameterException;
+import com.vbolide.string.CharSequenceView;
+
+/**
+ * Utility class that finds the host of a url without regular expressions, with the results of {@linkplain URLUtil#DOMAIN_REGEX}
+ * matched case-insensitively from the start of the input.
+ * <p>
+ * The optional {@code http://} or {@code https://} scheme, {@code userinfo@}, {@code m.} and {@code www}<i>digits</i>{@code .}
+ * prefixes of the pattern each match in at most one way, so the backtracking of the regex reduces to taking the prefixes in
+ * order and dropping them, last first, while no host character follows them. {@linkplain #find(CharSequence)} returns the
+ * host offsets packed in a <b>long</b> without allocating; the host is the run of characters up to the first {@code ':'},
+ * {@code '/'} or {@code '\n'}.
+ *
+ * @author Vamshi Byagari
+ */
+public class HostScanner {
+
+	/**
+	 * result of {@linkplain #find(CharSequence)} when the url has no host.
+	 */
+	public static final long NOT_FOUND = -1L;
+
+	private HostScanner() {}
+
+
+	/**
+	 * finds the host, group 1 of {@linkplain URLUtil#DOMAIN_REGEX}; the full domain, group 0, runs from index 0 to its end.
+	 * @param url url to scan.
+	 * @return start and end of the host packed as {@code start << 32 | end}, read with {@linkplain #start(long)} and
+	 * {@linkplain #end(long)}, or {@linkplain #NOT_FOUND}.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public static long find(final CharSequence url) throws InvalidParameterException{
+		if(url == null) {
+			throw new InvalidParameterException("input parameter url is null");
+		}
+		return scan(url);
+	}
+
+	/**
+	 * @param span result of {@linkplain #find(CharSequence)}, not {@linkplain #NOT_FOUND}.
+	 * @return index of the first character of the host.
+	 */
+	public static int start(final long span) {
+		return (int) (span >>> 32);
+	}
+
+	/**
+	 * @param span result of {@linkplain #find(CharSequence)}, not {@linkplain #NOT_FOUND}.
+	 * @return index after the last character of the host, also the end of the full domain.
+	 */
+	public static int end(final long span) {
+		return (int) span;
+	}
+
+	/**
+	 * @param url url to scan.
+	 * @return view of the host over the url, {@code null} if the url has no host.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public static CharSequence host(final CharSequence url) throws InvalidParameterException{
+		long span = find(url);
+		return span == NOT_FOUND ? null : new CharSequenceView(url, start(span), end(span));
+	}
+
+	/**
+	 * @param url url to scan.
+	 * @return view of the url up to the end of the host, {@code null} if the url has no host.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public static CharSequence fullDomain(final CharSequence url) throws InvalidParameterException{
+		long span = find(url);
+		return span == NOT_FOUND ? null : new CharSequenceView(url, 0, end(span));
+	}
+
+
+	/**
+	 * @return packed host offsets of the non null url, {@linkplain #NOT_FOUND} if there is none.
+	 */
+	static long scan(final CharSequence url) {
+		int length = url.length();
+		// one loop per optional prefix, taken first; -1 when the prefix does not match where the previous one ended
+		int scheme = scheme(url);
+		for (int schemeTaken = scheme < 0 ? 0 : 1; schemeTaken >= 0; schemeTaken--) {
+			int afterScheme = schemeTaken == 1 ? scheme : 0;
+			int userinfo = userinfo(url, afterScheme);
+			for (int userinfoTaken = userinfo < 0 ? 0 : 1; userinfoTaken >= 0; userinfoTaken--) {
+				int afterUserinfo = userinfoTaken == 1 ? userinfo : afterScheme;
+				int mobile = mobile(url, afterUserinfo);
+				for (int mobileTaken = mobile < 0 ? 0 : 1; mobileTaken >= 0; mobileTaken--) {
+					int afterMobile = mobileTaken == 1 ? mobile : afterUserinfo;
+					int www = www(url, afterMobile);
+					for (int wwwTaken = www < 0 ? 0 : 1; wwwTaken >= 0; wwwTaken--) {
+						int start = wwwTaken == 1 ? www : afterMobile;
+						if(start < length && isHostCharacter(url.charAt(start))) {
+							int end = start + 1;
+							while (end < length && isHostCharacter(url.charAt(end))) {
+								end++;
+							}
+							return (long) start << 32 | end;
+						}
+					}
+				}
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * @return index after {@code https?://} at the start, -1 if absent.
+	 */
+	private static int scheme(final CharSequence url) {
+		int length = url.length();
+		if(length < 7 || !is(url.charAt(0), 'h') || !is(url.charAt(1), 't') || !is(url.charAt(2), 't') || !is(url.charAt(3), 'p')) {
+			return -1;
+		}
+		int i = is(url.charAt(4), 's') ? 5 : 4;
+		if(i + 3 > length || url.charAt(i) != ':' || url.charAt(i + 1) != '/' || url.charAt(i + 2) != '/') {
+			return -1;
+		}
+		return i + 3;
+	}
+
+	/**
+	 * @return index after {@code [^@/\n]+@} from the index, -1 if absent.
+	 */
+	private static int userinfo(final CharSequence url, final int from) {
+		int length = url.length();
+		for (int i = from; i < length; i++) {
+			char c = url.charAt(i);
+			if(c == '@') {
+				return i > from ? i + 1 : -1;
+			}
+			if(c == '/' || c == '\n') {
+				return -1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return index after {@code m.} from the index, -1 if absent.
+	 */
+	private static int mobile(final CharSequence url, final int from) {
+		return from + 1 < url.length() && is(url.charAt(from), 'm') && url.charAt(from + 1) == '.' ? from + 2 : -1;
+	}
+
+	/**
+	 * @return index after {@code www[0-9]*.} from the index, -1 if absent.
+	 */
+	private static int www(final CharSequence url, final int from) {
+		int length = url.length();
+		if(from + 3 >= length || !is(url.charAt(from), 'w') || !is(url.charAt(from + 1), 'w') || !is(url.charAt(from + 2), 'w')) {
+			return -1;
+		}
+		int i = from + 3;
+		while (i < length && url.charAt(i) >= '0' && url.charAt(i) <= '9') {
+			i++;
+		}
+		return i < length && url.charAt(i) == '.' ? i + 1 : -1;
+	}
+
+	private static boolean isHostCharacter(final char c) {
+		return c != ':' && c != '/' && c != '\n';
+	}
+
+	/**
+	 * @return <b>true</b> if the character is the lower-case ASCII letter or its upper-case.
+	 */
+	private static boolean is(final char c, final char lowerCase) {
+		return (c | 0x20) == lowerCase;
+	}
+
+}
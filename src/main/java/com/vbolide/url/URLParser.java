@@ -0,0 +1,588 @@
+package com.vbolide.url;
+
+import java.util.Arrays;
+
+import com.vbolide.string.CharSequenceView;
+
+/**
+ * Reusable parser that splits a url into its components in one pass, a lightweight replacement of {@linkplain java.net.URL}
+ * for reading urls.
+ * <p>
+ * {@linkplain #parse(CharSequence)} only records where each component starts and ends, {@linkplain #get(Component)} creates
+ * the {@linkplain String} of a component on first use and {@linkplain #view(Component)} reads it in place. Urls are split
+ * with the rules of {@linkplain java.net.URL#URL(String)}: surrounding whitespace and a leading {@code url:} are skipped,
+ * the fragment follows the first {@code '#'}, {@code mailto} and {@code jar} urls are a path and a query after the last
+ * {@code '?'}, other urls have an optional {@code //}authority and a query after the first {@code '?'}. A url is malformed
+ * where that constructor throws, except that any valid scheme is parsed with the generic rules, see
+ * {@linkplain #isBuiltinScheme()}, and a {@code jar} url must start with {@code jar:}. Malformed urls make
+ * {@linkplain #parse(CharSequence)} return <b>false</b>, no exception is created.
+ * <p>
+ * Instances are not thread-safe; one instance parses any number of urls on a thread without allocating.
+ *
+ * @author Vamshi Byagari
+ */
+public final class URLParser {
+
+	/**
+	 * Components of a parsed url.
+	 * <ul>
+	 * <li>{@linkplain #SCHEME}<br></li>
+	 * <li>{@linkplain #USER_INFO}<br></li>
+	 * <li>{@linkplain #HOST}<br></li>
+	 * <li>{@linkplain #PORT}<br></li>
+	 * <li>{@linkplain #PATH}<br></li>
+	 * <li>{@linkplain #QUERY}<br></li>
+	 * <li>{@linkplain #FRAGMENT}<br></li>
+	 * </ul>
+	 * @author Vamshi Byagari
+	 */
+	public enum Component{
+		/**
+		 * text before the first {@code ':'}, as written.
+		 */
+		SCHEME,
+
+		/**
+		 * text of the authority before its {@code '@'}.
+		 */
+		USER_INFO,
+
+		/**
+		 * host of the authority, IPv6 addresses with their brackets; empty for {@code file:///}, absent for authorities with
+		 * more than one {@code '@'}.
+		 */
+		HOST,
+
+		/**
+		 * digits after the host, absent when there are none, see {@linkplain URLParser#getPort()}.
+		 */
+		PORT,
+
+		/**
+		 * path as returned by {@linkplain java.net.URL#getPath()}, absent where that is empty for lack of a path.
+		 */
+		PATH,
+
+		/**
+		 * text after the {@code '?'}.
+		 */
+		QUERY,
+
+		/**
+		 * text after the {@code '#'}.
+		 */
+		FRAGMENT
+	}
+
+	private static final Component[] COMPONENTS = Component.values();
+
+	/**
+	 * slot of the port value, after the start and end of every component.
+	 */
+	private static final int PORT_VALUE = COMPONENTS.length * 2;
+
+	/**
+	 * schemes with a protocol handler in the JDK, in lower-case.
+	 */
+	private static final String[] BUILTIN_SCHEMES = {"file", "ftp", "http", "https", "jar", "jmod", "jrt", "mailto"};
+
+	private static final int JAR = 4;
+	private static final int MAILTO = 7;
+
+	/**
+	 * sorted non ASCII characters that look like a delimiter and are not allowed in a host, besides controls and {@code '/'}.
+	 */
+	private static final char[] HOST_EXCLUDED = {
+			'\u2047', '\u2048', '\u2049', '\u2100', '\u2101', '\u2105', '\u2106', '\u2a74',
+			'\ufe55', '\ufe56', '\ufe5f', '\ufe6b', '\uff03', '\uff0f', '\uff1a', '\uff1f', '\uff20'
+	};
+
+	/**
+	 * start and end of every component, -1 when absent, followed by the port value.
+	 */
+	private final int[] offsets = new int[PORT_VALUE + 1];
+
+	/**
+	 * components created by {@linkplain #get(Component)}.
+	 */
+	private final String[] values = new String[COMPONENTS.length];
+
+	private CharSequence url;
+
+	URLParser() {
+		reset(null);
+	}
+
+	/**
+	 * @return new parser, holding no url.
+	 */
+	public static URLParser init() {
+		return new URLParser();
+	}
+
+
+	/**
+	 * parses the url, replacing the previous one.
+	 * @param url url to parse, kept until the next parse; it must not change while components are read.
+	 * @return <b>true</b> if the url is well formed, <b>false</b> if it is {@code null} or malformed, leaving every
+	 * component absent.
+	 */
+	public boolean parse(final CharSequence url) {
+		return parse(url, 0, url == null ? 0 : url.length());
+	}
+
+	/**
+	 * parses the characters from index {@code from} to {@code to} of the url, replacing the previous one.
+	 * @param url text holding the url, kept until the next parse; it must not change while components are read.
+	 * @param from index of the first character of the url.
+	 * @param to index after the last character of the url.
+	 * @return <b>true</b> if the url is well formed, <b>false</b> if it is {@code null}, malformed or the range is out of
+	 * bounds, leaving every component absent.
+	 */
+	public boolean parse(final CharSequence url, final int from, final int to) {
+		reset(url);
+		if(url == null || from < 0 || from > to || to > url.length() || !scan(url, from, to, offsets)) {
+			reset(null);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return <b>true</b> if the last parse found a well formed url.
+	 */
+	public boolean isValid() {
+		return url != null;
+	}
+
+	/**
+	 * @return <b>true</b> if the scheme has a protocol handler in the JDK ({@code file, ftp, http, https, jar, jmod, jrt,
+	 * mailto}, in any case), the urls {@linkplain java.net.URL} accepts without a custom handler.
+	 */
+	public boolean isBuiltinScheme() {
+		return url != null && builtinScheme(url, offsets[0], offsets[1]) >= 0;
+	}
+
+	/**
+	 * @param component component of the url.
+	 * @return <b>true</b> if the parsed url has the component.
+	 */
+	public boolean has(final Component component) {
+		return offsets[component.ordinal() * 2] >= 0;
+	}
+
+	/**
+	 * @param component component of the url.
+	 * @return index of the first character of the component in the parsed text, -1 if absent.
+	 */
+	public int start(final Component component) {
+		return offsets[component.ordinal() * 2];
+	}
+
+	/**
+	 * @param component component of the url.
+	 * @return index after the last character of the component in the parsed text, -1 if absent.
+	 */
+	public int end(final Component component) {
+		return offsets[component.ordinal() * 2 + 1];
+	}
+
+	/**
+	 * @param component component of the url.
+	 * @return the component, created on the first call after a parse, {@code null} if absent.
+	 */
+	public String get(final Component component) {
+		int index = component.ordinal();
+		String value = values[index];
+		if(value == null && offsets[index * 2] >= 0) {
+			value = url.subSequence(offsets[index * 2], offsets[index * 2 + 1]).toString();
+			values[index] = value;
+		}
+		return value;
+	}
+
+	/**
+	 * @param component component of the url.
+	 * @return view of the component over the parsed text, {@code null} if absent.
+	 */
+	public CharSequence view(final Component component) {
+		int index = component.ordinal() * 2;
+		return offsets[index] < 0 ? null : new CharSequenceView(url, offsets[index], offsets[index + 1]);
+	}
+
+	/**
+	 * @return port of the url, -1 if it has none.
+	 */
+	public int getPort() {
+		return offsets[PORT_VALUE];
+	}
+
+	@Override
+	public String toString() {
+		if(url == null) {
+			return "URLParser[malformed]";
+		}
+		StringBuilder builder = new StringBuilder("URLParser[");
+		for (Component component : COMPONENTS) {
+			if(has(component)) {
+				builder.append(component.name()).append('=').append(view(component)).append(", ");
+			}
+		}
+		builder.setLength(builder.length() - 2);
+		return builder.append(']').toString();
+	}
+
+
+	private void reset(final CharSequence url) {
+		this.url = url;
+		Arrays.fill(offsets, -1);
+		Arrays.fill(values, null);
+	}
+
+	/**
+	 * records the components of the url from index {@code from} to {@code to} in the offsets.
+	 * @return <b>false</b> if the url is malformed, the offsets are then partly filled.
+	 */
+	private static boolean scan(final CharSequence url, final int from, final int to, final int[] offsets) {
+		int limit = to;
+		while (limit > from && url.charAt(limit - 1) <= ' ') {
+			limit--;
+		}
+		int start = from;
+		while (start < limit && url.charAt(start) <= ' ') {
+			start++;
+		}
+		if(regionMatches(url, start, to, "url:")) {
+			start += 4;
+		}
+
+		// scheme: letter, then letters, digits, '.', '+' or '-', ended by the first ':' before any '/'
+		int i = start;
+		while (i < limit && url.charAt(i) != '/' && url.charAt(i) != ':') {
+			i++;
+		}
+		if(i == limit || url.charAt(i) != ':' || !isScheme(url, start, i)) {
+			return false;
+		}
+		set(offsets, Component.SCHEME, start, i);
+		int scheme = builtinScheme(url, start, i);
+		start = i + 1;
+
+		int hash = indexOf(url, '#', start, limit);
+		if(hash >= 0) {
+			set(offsets, Component.FRAGMENT, hash + 1, limit);
+			limit = hash;
+		}
+
+		if(scheme == JAR || scheme == MAILTO) {
+			if(scheme == JAR ? !isJar(url, from, start, limit) : isBlank(url, start, limit)) {
+				return false;
+			}
+			int query = lastIndexOf(url, '?', start, limit);
+			if(query >= 0) {
+				set(offsets, Component.QUERY, query + 1, limit);
+				limit = query;
+			}
+			set(offsets, Component.PATH, start, limit);
+			return true;
+		}
+
+		int query = indexOf(url, '?', start, limit);
+		if(query >= 0) {
+			set(offsets, Component.QUERY, query + 1, limit);
+			limit = query;
+		}
+		boolean unc = start + 4 <= limit && url.charAt(start) == '/' && url.charAt(start + 1) == '/' && url.charAt(start + 2) == '/' && url.charAt(start + 3) == '/';
+		if(!unc && start + 2 <= limit && url.charAt(start) == '/' && url.charAt(start + 1) == '/') {
+			int authority = start + 2;
+			int end = indexOf(url, '/', authority, limit);
+			if(end < 0) {
+				end = limit;
+			}
+			if(!authority(url, authority, end, offsets)) {
+				return false;
+			}
+			start = end;
+			if(end > authority) {
+				set(offsets, Component.PATH, end, end);
+			}
+		}
+		if(start < limit) {
+			set(offsets, Component.PATH, start, limit);
+		}
+		return true;
+	}
+
+	/**
+	 * records the user info, host and port of the authority.
+	 * @return <b>false</b> if the host or port is malformed.
+	 */
+	private static boolean authority(final CharSequence url, final int from, final int to, final int[] offsets) {
+		int at = indexOf(url, '@', from, to);
+		if(at >= 0 && indexOf(url, '@', at + 1, to) >= 0) {
+			// java.net.URL drops user info, host and port of such authorities
+			return true;
+		}
+		int host = from;
+		if(at >= 0) {
+			set(offsets, Component.USER_INFO, from, at);
+			host = at + 1;
+		}
+		int hostEnd;
+		int port;
+		if(host < to && url.charAt(host) == '[') {
+			int close = indexOf(url, ']', host, to);
+			if(close - host <= 2 || !isIPv6(url, host + 1, close)) {
+				return false;
+			}
+			hostEnd = close + 1;
+			if(hostEnd < to && url.charAt(hostEnd) != ':') {
+				return false;
+			}
+			port = hostEnd + 1 < to ? hostEnd + 1 : -1;
+		}else {
+			int colon = indexOf(url, ':', host, to);
+			hostEnd = colon < 0 ? to : colon;
+			port = colon >= 0 && colon + 1 < to ? colon + 1 : -1;
+		}
+		for (int i = host; i < hostEnd; i++) {
+			char c = url.charAt(i);
+			if(c < ' ' || c == '\u007f' || c == '/' || (c >= HOST_EXCLUDED[0] && Arrays.binarySearch(HOST_EXCLUDED, c) >= 0)) {
+				return false;
+			}
+		}
+		set(offsets, Component.HOST, host, hostEnd);
+		if(port >= 0) {
+			int value = port(url, port, to);
+			if(value < -1) {
+				return false;
+			}
+			set(offsets, Component.PORT, port, to);
+			offsets[PORT_VALUE] = value;
+		}
+		return true;
+	}
+
+	/**
+	 * reads a port like {@linkplain Integer#parseInt(String)}: an optional sign and decimal digits of any script.
+	 * @return the port, or less than -1 if it is not a number or is negative, other than -1 and -0.
+	 */
+	private static int port(final CharSequence url, final int from, final int to) {
+		boolean negative = url.charAt(from) == '-';
+		int i = negative || url.charAt(from) == '+' ? from + 1 : from;
+		if(i == to) {
+			return -2;
+		}
+		long value = 0;
+		for (; i < to; i++) {
+			int digit = Character.digit(url.charAt(i), 10);
+			if(digit < 0) {
+				return -2;
+			}
+			value = value * 10 + digit;
+			if(value > Integer.MAX_VALUE) {
+				return -2;
+			}
+		}
+		return negative ? (value > 1 ? -2 : (int) -value) : (int) value;
+	}
+
+	/**
+	 * checks the text between the brackets of an IPv6 host like {@code sun.net.util.IPAddressUtil}: eight groups of at most
+	 * four significant hex digits, one {@code ::} for zero groups, optionally ending with an IPv4 address and a
+	 * {@code %}scope.
+	 */
+	private static boolean isIPv6(final CharSequence url, final int from, final int to) {
+		if(to - from < 2) {
+			return false;
+		}
+		int scope = indexOf(url, '%', from, to);
+		if(scope == to - 1) {
+			return false;
+		}
+		int end = scope < 0 ? to : scope;
+		int i = from;
+		if(url.charAt(i) == ':' && url.charAt(++i) != ':') {
+			return false;
+		}
+		// bytes counts the address bytes of the groups read, gap is where "::" stands for zero groups
+		int token = i;
+		int bytes = 0;
+		int gap = -1;
+		boolean digits = false;
+		int value = 0;
+		while (i < end) {
+			char c = url.charAt(i++);
+			int digit = c <= 'f' ? Character.digit(c, 16) : -1;
+			if(digit >= 0) {
+				value = value << 4 | digit;
+				if(value > 0xffff) {
+					return false;
+				}
+				digits = true;
+				continue;
+			}
+			if(c == ':') {
+				token = i;
+				if(!digits) {
+					if(gap >= 0) {
+						return false;
+					}
+					gap = bytes;
+					continue;
+				}
+				if(i == end || bytes + 2 > 16) {
+					return false;
+				}
+				bytes += 2;
+				digits = false;
+				value = 0;
+				continue;
+			}
+			if(c == '.' && bytes + 4 <= 16) {
+				if(!isIPv4(url, token, end)) {
+					return false;
+				}
+				bytes += 4;
+				digits = false;
+				break;
+			}
+			return false;
+		}
+		if(digits) {
+			if(bytes + 2 > 16) {
+				return false;
+			}
+			bytes += 2;
+		}
+		if(gap >= 0) {
+			return bytes != 16;
+		}
+		return bytes == 16;
+	}
+
+	/**
+	 * @return <b>true</b> for four dot separated decimal numbers up to 255, at most 15 characters.
+	 */
+	private static boolean isIPv4(final CharSequence url, final int from, final int to) {
+		if(to - from > 15) {
+			return false;
+		}
+		int dots = 0;
+		int value = -1;
+		for (int i = from; i < to; i++) {
+			char c = url.charAt(i);
+			if(c == '.') {
+				if(value < 0 || ++dots > 3) {
+					return false;
+				}
+				value = -1;
+			}else if(c >= '0' && c <= '9') {
+				value = (value < 0 ? 0 : value * 10) + c - '0';
+				if(value > 0xff) {
+					return false;
+				}
+			}else {
+				return false;
+			}
+		}
+		return dots == 3 && value >= 0;
+	}
+
+	/**
+	 * checks a {@code jar:}<i>url</i>{@code !/}<i>entry</i> url: it starts with {@code jar:}, does not nest another one
+	 * and the url before the last {@code !/} is well formed with a
+	 * builtin scheme.
+	 */
+	private static boolean isJar(final CharSequence url, final int from, final int start, final int limit) {
+		if(!regionMatches(url, from, limit, "jar:") || regionMatches(url, start, limit, "jar:")) {
+			return false;
+		}
+		int bang = limit - 2;
+		while (bang >= start && (url.charAt(bang) != '!' || url.charAt(bang + 1) != '/')) {
+			bang--;
+		}
+		if(bang < start) {
+			return false;
+		}
+		int[] inner = new int[PORT_VALUE + 1];
+		return scan(url, start, bang, inner) && builtinScheme(url, inner[0], inner[1]) >= 0;
+	}
+
+	/**
+	 * @return <b>true</b> if the range is empty or only has {@linkplain Character#isWhitespace(char)} characters.
+	 */
+	private static boolean isBlank(final CharSequence url, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if(!Character.isWhitespace(url.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isScheme(final CharSequence url, final int from, final int to) {
+		if(from == to || !Character.isLetter(url.charAt(from))) {
+			return false;
+		}
+		for (int i = from + 1; i < to; i++) {
+			char c = url.charAt(i);
+			if(!Character.isLetterOrDigit(c) && c != '.' && c != '+' && c != '-') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return index of the scheme in {@linkplain #BUILTIN_SCHEMES}, -1 if it is not one of them.
+	 */
+	private static int builtinScheme(final CharSequence url, final int from, final int to) {
+		for (int i = 0; i < BUILTIN_SCHEMES.length; i++) {
+			if(BUILTIN_SCHEMES[i].length() == to - from && regionMatches(url, from, to, BUILTIN_SCHEMES[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return <b>true</b> if the range starts with the lower-case ASCII text, ignoring case.
+	 */
+	private static boolean regionMatches(final CharSequence url, final int from, final int to, final String lowerCase) {
+		if(to - from < lowerCase.length()) {
+			return false;
+		}
+		for (int i = 0; i < lowerCase.length(); i++) {
+			char c = url.charAt(from + i);
+			if(c != lowerCase.charAt(i) && (c < 'A' || c > 'Z' || (c | 0x20) != lowerCase.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int indexOf(final CharSequence url, final char c, final int from, final int to) {
+		for (int i = from; i < to; i++) {
+			if(url.charAt(i) == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int lastIndexOf(final CharSequence url, final char c, final int from, final int to) {
+		for (int i = to - 1; i >= from; i--) {
+			if(url.charAt(i) == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static void set(final int[] offsets, final Component component, final int start, final int end) {
+		offsets[component.ordinal() * 2] = start;
+		offsets[component.ordinal() * 2 + 1] = end;
+	}
+
+}
@@ -6,10 +6,9 @@ import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import com.vbolide.exception.InvalidParameterException;
+import com.vbolide.result.Result;
 import com.vbolide.validation.ValidationUtil;
 
 /**
@@ -20,10 +19,14 @@ import com.vbolide.validation.ValidationUtil;
 public class URLUtil {
 
 	/**
-	 * regex that remove Protocol and WWW if exists
+	 * regex that remove Protocol and WWW if exists, matched case-insensitively by {@linkplain HostScanner} without a regex engine.
 	 */
 	public static final String DOMAIN_REGEX = "^(?:https?:\\/\\/)?(?:[^@\\/\\n]+@)?(?:m\\.)?(?:www[0-9]*?\\.)?([^:\\/\\n]+)";
 
+	/**
+	 * parser of {@linkplain #domainWithURI(String)}, reused per thread.
+	 */
+	private static final ThreadLocal<URLParser> PARSER = ThreadLocal.withInitial(URLParser::new);
 
 	private URLUtil() {}
 
@@ -35,7 +38,7 @@ public class URLUtil {
 	 * @throws UnsupportedEncodingException if the encoding is not supported.
 	 */
 	public static String encodeURL(final String url) throws InvalidParameterException, UnsupportedEncodingException{
-		if(!ValidationUtil.isValidString(url)) {
+		if(!ValidationUtil.hasText(url)) {
 			throw new InvalidParameterException("input parameter url is invalid");
 		}
 		return URLEncoder.encode(url, StandardCharsets.UTF_8);
@@ -50,7 +53,7 @@ public class URLUtil {
 	 * @throws UnsupportedEncodingException if the encoding is not supported.
 	 */
 	public static String encodeURL(final String url, final Charset charset) throws InvalidParameterException, UnsupportedEncodingException{
-		if(!ValidationUtil.isValidString(url)) {
+		if(!ValidationUtil.hasText(url)) {
 			throw new InvalidParameterException("input parameter url is invalid");
 		}
 		if(charset == null) {
@@ -67,7 +70,7 @@ public class URLUtil {
 	 * @throws UnsupportedEncodingException if the decoding is not supported.
 	 */
 	public static String decodeURL(final String url) throws InvalidParameterException, UnsupportedEncodingException{
-		if(!ValidationUtil.isValidString(url)) {
+		if(!ValidationUtil.hasText(url)) {
 			throw new InvalidParameterException("input parameter url is invalid");
 		}
 		return URLDecoder.decode(url, StandardCharsets.UTF_8);
@@ -82,7 +85,7 @@ public class URLUtil {
 	 * @throws UnsupportedEncodingException if the decoding is not supported.
 	 */
 	public static String decodeURL(final String url, final Charset charset) throws InvalidParameterException, UnsupportedEncodingException{
-		if(!ValidationUtil.isValidString(url)) {
+		if(!ValidationUtil.hasText(url)) {
 			throw new InvalidParameterException("input parameter url is invalid");
 		}
 		if(charset == null) {
@@ -98,16 +101,10 @@ public class URLUtil {
 	 * @throws InvalidParameterException input parameter invalid
 	 */
 	public static String getFullDomain(final String url) throws InvalidParameterException{
-		if(!ValidationUtil.isValidString(url)) {
+		if(!ValidationUtil.hasText(url)) {
 			throw new InvalidParameterException("input parameter url is invalid");
 		}
-		Pattern pattern = Pattern.compile(DOMAIN_REGEX, Pattern.CASE_INSENSITIVE);
-		Matcher matcher = pattern.matcher(url);
-		if (matcher.find()) {
-			return matcher.group(0);
-		}else {
-			return null;
-		}
+		return domain(url, 0);
 	}
 
 
@@ -118,16 +115,10 @@ public class URLUtil {
 	 * @throws InvalidParameterException input parameter invalid
 	 */
 	public static String getDomainAndSubDomain(final String url) throws InvalidParameterException{
-		if(!ValidationUtil.isValidString(url)) {
+		if(!ValidationUtil.hasText(url)) {
 			throw new InvalidParameterException("input parameter url is invalid");
 		}
-		Pattern pattern = Pattern.compile(DOMAIN_REGEX, Pattern.CASE_INSENSITIVE);
-		Matcher matcher = pattern.matcher(url);
-		if (matcher.find()) {
-			return matcher.group(1);
-		}else {
-			return null;
-		}
+		return domain(url, 1);
 	}
 
 
@@ -138,14 +129,101 @@ public class URLUtil {
 	 * @throws InvalidParameterException input parameter invalid
 	 */
 	public static String getDomainAndSubDomainWithURI(final String url) throws InvalidParameterException{
-		if(!ValidationUtil.isValidString(url)) {
+		if(!ValidationUtil.hasText(url)) {
 			throw new InvalidParameterException("input parameter url is invalid");
 		}
-		String path = "";
+		return domainWithURI(url);
+	}
+
+	/**
+	 * {@linkplain #encodeURL(String, Charset)} that returns an error instead of throwing.
+	 * @param url url to be encoded
+	 * @param charset any sub class of {@linkplain Charset}
+	 * @return encoded url, or the error of invalid input parameters.
+	 */
+	public static Result<String> tryEncodeURL(final String url, final Charset charset) {
+		if(!ValidationUtil.hasText(url) || charset == null) {
+			return Result.error("input parameter url and/or Charset invalid");
+		}
+		return Result.ok(URLEncoder.encode(url, charset));
+	}
+
+	/**
+	 * {@linkplain #decodeURL(String, Charset)} that returns an error instead of throwing, also for malformed escapes.
+	 * @param url url to be decoded
+	 * @param charset any sub class of {@linkplain Charset}
+	 * @return decoded url, or the error of invalid input parameters.
+	 */
+	public static Result<String> tryDecodeURL(final String url, final Charset charset) {
+		if(!ValidationUtil.hasText(url) || charset == null) {
+			return Result.error("input parameter url and/or Charset invalid");
+		}
 		try {
-			path = new URL(url.endsWith("/") ? url.substring(0, url.length()-1) : url).getPath();
-		} catch (Exception e) {}
-		return getDomainAndSubDomain(url)+path;
+			return Result.ok(URLDecoder.decode(url, charset));
+		}catch (IllegalArgumentException e) {
+			return Result.error("input parameter url has malformed escapes");
+		}
+	}
+
+	/**
+	 * {@linkplain #getFullDomain(String)} that returns an error instead of throwing.
+	 * @param url url to be processed.
+	 * @return {@linkplain URL} by excluding {@linkplain java.net.URI}, or an error if the url is invalid or has no domain.
+	 */
+	public static Result<String> tryGetFullDomain(final String url) {
+		return ok(ValidationUtil.hasText(url) ? domain(url, 0) : null);
+	}
+
+	/**
+	 * {@linkplain #getDomainAndSubDomain(String)} that returns an error instead of throwing.
+	 * @param url url to be processed.
+	 * @return {@linkplain URL} by excluding ({@linkplain java.net.URI}, protocol, and WWW if exists), or an error if the url is invalid or has no domain.
+	 */
+	public static Result<String> tryGetDomainAndSubDomain(final String url) {
+		return ok(ValidationUtil.hasText(url) ? domain(url, 1) : null);
+	}
+
+	/**
+	 * {@linkplain #getDomainAndSubDomainWithURI(String)} that returns an error instead of throwing.
+	 * @param url url to be processed.
+	 * @return {@linkplain URL} by excluding (Protocol, and WWW if exists), or an error if the url is invalid or has no domain.
+	 */
+	public static Result<String> tryGetDomainAndSubDomainWithURI(final String url) {
+		return ok(ValidationUtil.hasText(url) ? domainWithURI(url) : null);
+	}
+
+
+	private static Result<String> ok(final String value) {
+		return value != null ? Result.ok(value) : Result.error("input parameter url is invalid");
+	}
+
+	/**
+	 * @return group 0 (full domain) or 1 (domain and sub domain) of {@linkplain #DOMAIN_REGEX}, null if it does not match.
+	 * @see HostScanner
+	 */
+	private static String domain(final String url, final int group) {
+		long span = HostScanner.scan(url);
+		if(span == HostScanner.NOT_FOUND) {
+			return null;
+		}
+		return url.substring(group == 0 ? 0 : HostScanner.start(span), HostScanner.end(span));
+	}
+
+	/**
+	 * @return group 1 of {@linkplain #DOMAIN_REGEX} followed by the path of the url without its trailing {@code '/'}, the path
+	 * of {@linkplain URL#getPath()}, empty if the url is malformed or its scheme has no protocol handler in the JDK; null if
+	 * the url has no domain.
+	 * @see URLParser
+	 */
+	private static String domainWithURI(final String url) {
+		String domain = domain(url, 1);
+		if(domain == null) {
+			return null;
+		}
+		URLParser parser = PARSER.get();
+		boolean parsed = parser.parse(url, 0, url.endsWith("/") ? url.length() - 1 : url.length());
+		String path = parsed && parser.isBuiltinScheme() ? parser.get(URLParser.Component.PATH) : null;
+		return path == null ? domain : domain + path;
 	}
 
 
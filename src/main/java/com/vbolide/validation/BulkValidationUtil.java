@@ -0,0 +1,286 @@
+package com.vbolide.validation;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.vbolide.array.ParallelArrayUtil;
+import com.vbolide.exception.InvalidParameterException;
+import com.vbolide.validation.RegexValidationUtil.Regex;
+
+/**
+ * Utility class for validating whole columns and batches of values against one rule.
+ * <p>
+ * A rule is a {@linkplain Regex} or any thread-safe {@linkplain Predicate} of {@linkplain CharSequence}, a value fails when
+ * the rule does not hold for it. Batches of at least {@linkplain ParallelArrayUtil#PARALLEL_THRESHOLD} values are validated
+ * on all cores, see {@linkplain ParallelArrayUtil#strategy(long)}; lists without {@linkplain RandomAccess} and streams are
+ * copied to an array first.
+ *
+ * @author Vamshi Byagari
+ */
+public class BulkValidationUtil {
+
+	/**
+	 * rule of {@linkplain ValidationUtil#hasText(CharSequence)} for one value: non null and not blank.
+	 */
+	public static final Predicate<CharSequence> VALID_STRING = ValidationUtil::hasText;
+
+	private BulkValidationUtil() {}
+
+
+	/**
+	 * validates every input.
+	 * @param inputs values to validate, {@code null} values fail.
+	 * @param regex any one value from {@linkplain Regex}
+	 * @return indexes of the inputs that do not match.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BitSet failures(final String[] inputs, final Regex regex) throws InvalidParameterException{
+		return failures(inputs, predicate(regex));
+	}
+
+	/**
+	 * validates every input.
+	 * @param inputs values to validate.
+	 * @param rule thread-safe test of one value.
+	 * @return indexes of the inputs for which the rule does not hold.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BitSet failures(final String[] inputs, final Predicate<? super CharSequence> rule) throws InvalidParameterException{
+		if(inputs == null || rule == null) {
+			throw new InvalidParameterException("parameter inputs and/or rule invalid");
+		}
+		return failures(inputs.length, i -> inputs[i], rule);
+	}
+
+	/**
+	 * validates every input.
+	 * @param inputs values to validate, {@code null} values fail.
+	 * @param regex any one value from {@linkplain Regex}
+	 * @return indexes of the inputs that do not match.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BitSet failures(final List<? extends CharSequence> inputs, final Regex regex) throws InvalidParameterException{
+		return failures(inputs, predicate(regex));
+	}
+
+	/**
+	 * validates every input.
+	 * @param inputs values to validate.
+	 * @param rule thread-safe test of one value.
+	 * @return indexes of the inputs for which the rule does not hold.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BitSet failures(final List<? extends CharSequence> inputs, final Predicate<? super CharSequence> rule) throws InvalidParameterException{
+		if(inputs == null || rule == null) {
+			throw new InvalidParameterException("parameter inputs and/or rule invalid");
+		}
+		IntFunction<? extends CharSequence> values = values(inputs);
+		return failures(inputs.size(), values, rule);
+	}
+
+	/**
+	 * validates every input of the stream, consuming it.
+	 * @param inputs values to validate, in encounter order.
+	 * @param regex any one value from {@linkplain Regex}
+	 * @return indexes of the inputs that do not match.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BitSet failures(final Stream<? extends CharSequence> inputs, final Regex regex) throws InvalidParameterException{
+		return failures(inputs, predicate(regex));
+	}
+
+	/**
+	 * validates every input of the stream, consuming it.
+	 * @param inputs values to validate, in encounter order.
+	 * @param rule thread-safe test of one value.
+	 * @return indexes of the inputs for which the rule does not hold.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static BitSet failures(final Stream<? extends CharSequence> inputs, final Predicate<? super CharSequence> rule) throws InvalidParameterException{
+		if(inputs == null || rule == null) {
+			throw new InvalidParameterException("parameter inputs and/or rule invalid");
+		}
+		CharSequence[] values = inputs.toArray(CharSequence[]::new);
+		return failures(values.length, i -> values[i], rule);
+	}
+
+	/**
+	 * finds the first input that fails, inputs after it are not validated.
+	 * @param inputs values to validate, {@code null} values fail.
+	 * @param regex any one value from {@linkplain Regex}
+	 * @return index of the first input that does not match, -1 if all match.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static int firstFailure(final String[] inputs, final Regex regex) throws InvalidParameterException{
+		return firstFailure(inputs, predicate(regex));
+	}
+
+	/**
+	 * finds the first input that fails, inputs after it are not validated.
+	 * @param inputs values to validate.
+	 * @param rule thread-safe test of one value.
+	 * @return index of the first input for which the rule does not hold, -1 if it holds for all.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static int firstFailure(final String[] inputs, final Predicate<? super CharSequence> rule) throws InvalidParameterException{
+		if(inputs == null || rule == null) {
+			throw new InvalidParameterException("parameter inputs and/or rule invalid");
+		}
+		return ParallelArrayUtil.indexOf(inputs.length, i -> !rule.test(inputs[i]));
+	}
+
+	/**
+	 * finds the first input that fails, inputs after it are not validated.
+	 * @param inputs values to validate, {@code null} values fail.
+	 * @param regex any one value from {@linkplain Regex}
+	 * @return index of the first input that does not match, -1 if all match.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static int firstFailure(final List<? extends CharSequence> inputs, final Regex regex) throws InvalidParameterException{
+		return firstFailure(inputs, predicate(regex));
+	}
+
+	/**
+	 * finds the first input that fails, inputs after it are not validated.
+	 * @param inputs values to validate.
+	 * @param rule thread-safe test of one value.
+	 * @return index of the first input for which the rule does not hold, -1 if it holds for all.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static int firstFailure(final List<? extends CharSequence> inputs, final Predicate<? super CharSequence> rule) throws InvalidParameterException{
+		if(inputs == null || rule == null) {
+			throw new InvalidParameterException("parameter inputs and/or rule invalid");
+		}
+		IntFunction<? extends CharSequence> values = values(inputs);
+		return ParallelArrayUtil.indexOf(inputs.size(), i -> !rule.test(values.apply(i)));
+	}
+
+	/**
+	 * finds the first input of the stream that fails, consuming the stream up to it.
+	 * @param inputs values to validate, in encounter order.
+	 * @param regex any one value from {@linkplain Regex}
+	 * @return index of the first input that does not match, -1 if all match.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static long firstFailure(final Stream<? extends CharSequence> inputs, final Regex regex) throws InvalidParameterException{
+		return firstFailure(inputs, predicate(regex));
+	}
+
+	/**
+	 * finds the first input of the stream that fails, consuming the stream up to it. The stream is validated sequentially,
+	 * without buffering its values.
+	 * @param inputs values to validate, in encounter order.
+	 * @param rule test of one value.
+	 * @return index of the first input for which the rule does not hold, -1 if it holds for all.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static long firstFailure(final Stream<? extends CharSequence> inputs, final Predicate<? super CharSequence> rule) throws InvalidParameterException{
+		if(inputs == null || rule == null) {
+			throw new InvalidParameterException("parameter inputs and/or rule invalid");
+		}
+		long[] index = {0};
+		boolean failed = inputs.sequential().anyMatch(input -> {
+			if(!rule.test(input)) {
+				return true;
+			}
+			index[0]++;
+			return false;
+		});
+		return failed ? index[0] : -1;
+	}
+
+	/**
+	 * counts the inputs that fail.
+	 * @param inputs values to validate, {@code null} values fail.
+	 * @param regex any one value from {@linkplain Regex}
+	 * @return number of inputs that do not match.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static int countFailures(final String[] inputs, final Regex regex) throws InvalidParameterException{
+		return countFailures(inputs, predicate(regex));
+	}
+
+	/**
+	 * counts the inputs that fail.
+	 * @param inputs values to validate.
+	 * @param rule thread-safe test of one value.
+	 * @return number of inputs for which the rule does not hold.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static int countFailures(final String[] inputs, final Predicate<? super CharSequence> rule) throws InvalidParameterException{
+		if(inputs == null || rule == null) {
+			throw new InvalidParameterException("parameter inputs and/or rule invalid");
+		}
+		return ParallelArrayUtil.count(inputs.length, i -> !rule.test(inputs[i]));
+	}
+
+	/**
+	 * checks whether every input is valid, stopping at the first failure.
+	 * @param inputs values to validate, {@code null} values fail.
+	 * @param regex any one value from {@linkplain Regex}
+	 * @return <b>true</b> if all inputs match, <b>false</b> otherwise.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static boolean isValid(final String[] inputs, final Regex regex) throws InvalidParameterException{
+		return firstFailure(inputs, regex) < 0;
+	}
+
+	/**
+	 * checks whether every input is valid, stopping at the first failure.
+	 * @param inputs values to validate.
+	 * @param rule thread-safe test of one value.
+	 * @return <b>true</b> if the rule holds for all inputs, <b>false</b> otherwise.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static boolean isValid(final String[] inputs, final Predicate<? super CharSequence> rule) throws InvalidParameterException{
+		return firstFailure(inputs, rule) < 0;
+	}
+
+
+	private static Predicate<CharSequence> predicate(final Regex regex) throws InvalidParameterException{
+		if(regex == null) {
+			throw new InvalidParameterException("invalid input parameter");
+		}
+		return regex.asPredicate();
+	}
+
+	/**
+	 * @return indexed access to the list, through a copy when it has no {@linkplain RandomAccess}.
+	 */
+	private static IntFunction<? extends CharSequence> values(final List<? extends CharSequence> inputs) {
+		if(inputs instanceof RandomAccess) {
+			return inputs::get;
+		}
+		CharSequence[] values = inputs.toArray(new CharSequence[0]);
+		return i -> values[i];
+	}
+
+	/**
+	 * fills the failure bits one 64 bit word per step, words are independent so large batches fill them in parallel.
+	 */
+	private static BitSet failures(final int length, final IntFunction<? extends CharSequence> values, final Predicate<? super CharSequence> rule) {
+		long[] words = new long[(length + Long.SIZE - 1) / Long.SIZE];
+		IntStream indexes = IntStream.range(0, words.length);
+		if(ParallelArrayUtil.strategy(length) == ParallelArrayUtil.Strategy.PARALLEL) {
+			indexes = indexes.parallel();
+		}
+		indexes.forEach(w -> {
+			int from = w * Long.SIZE;
+			int to = Math.min(from + Long.SIZE, length);
+			long word = 0;
+			for (int i = from; i < to; i++) {
+				if(!rule.test(values.apply(i))) {
+					word |= 1L << i;
+				}
+			}
+			words[w] = word;
+		});
+		return BitSet.valueOf(words);
+	}
+
+}
@@ -0,0 +1,222 @@
+package com.vbolide.validation;
+
+import com.vbolide.validation.RegexValidationUtil.Regex;
+
+/**
+ * Utility class for URL and email validation in a single pass over the input, without a regular expression engine.
+ * <p>
+ * The validators accept the same inputs as {@linkplain ValidationUtil#VALID_URL_REGEX} and {@linkplain Regex#EMAIL_REGEX}
+ * up to a maximum length, but decide them deterministically: every character is looked at a bounded number of times, so
+ * crafted inputs cannot trigger the exponential backtracking of the nested quantifiers in those patterns.
+ *
+ * @author Vamshi Byagari
+ */
+public class LinearValidationUtil {
+
+	/**
+	 * longer inputs are rejected by {@linkplain #isValidURL(CharSequence)}.
+	 */
+	public static final int MAX_URL_LENGTH = 2048;
+
+	/**
+	 * longer inputs are rejected by {@linkplain #isValidEmail(CharSequence)}, the limit of a forward path address (RFC 5321).
+	 */
+	public static final int MAX_EMAIL_LENGTH = 254;
+
+	private static final int MAX_PORT_DIGITS = 5;
+	private static final int MIN_TLD_LENGTH = 2;
+	private static final int MAX_URL_TLD_LENGTH = 5;
+
+	private LinearValidationUtil() {}
+
+
+	/**
+	 * validates the url against the language of {@linkplain ValidationUtil#VALID_URL_REGEX}: {@code http://} or {@code https://},
+	 * an optional {@code www} followed by any one character, a lower-case host of labels joined by single {@code '.'} or
+	 * {@code '-'} ending in a {@code '.'} and a 2 to 5 letter top level domain, an optional port of 1 to 5 digits and an
+	 * optional path starting with {@code '/'} without line terminators.
+	 * @param input url to validate.
+	 * @return <b>true</b> if valid and at most {@linkplain #MAX_URL_LENGTH} characters long, <b>false</b> otherwise.
+	 */
+	public static boolean isValidURL(final CharSequence input) {
+		if(input == null || input.length() > MAX_URL_LENGTH) {
+			return false;
+		}
+		int start = scheme(input);
+		if(start < 0) {
+			return false;
+		}
+		if(isHostAndRest(input, start)) {
+			return true;
+		}
+		// (www.)? where the '.' is any character (code point) except a line terminator
+		int length = input.length();
+		if(length - start > 3 && input.charAt(start) == 'w' && input.charAt(start + 1) == 'w' && input.charAt(start + 2) == 'w') {
+			int any = start + 3;
+			char c = input.charAt(any);
+			if(isLineTerminator(c)) {
+				return false;
+			}
+			int next = Character.isHighSurrogate(c) && any + 1 < length && Character.isLowSurrogate(input.charAt(any + 1)) ? any + 2 : any + 1;
+			return isHostAndRest(input, next);
+		}
+		return false;
+	}
+
+	/**
+	 * validates the email against the language of {@linkplain Regex#EMAIL_REGEX}: a local part of non empty segments joined by
+	 * single {@code '.'}, made of {@code [_A-Za-z0-9-]} and also {@code '+'} in the first segment, one {@code '@'}, and a domain
+	 * of a {@code [A-Za-z0-9-]} label, optional {@code [A-Za-z0-9]} labels and a top level domain of at least two letters.
+	 * @param input email to validate.
+	 * @return <b>true</b> if valid and at most {@linkplain #MAX_EMAIL_LENGTH} characters long, <b>false</b> otherwise.
+	 */
+	public static boolean isValidEmail(final CharSequence input) {
+		if(input == null) {
+			return false;
+		}
+		int length = input.length();
+		if(length > MAX_EMAIL_LENGTH) {
+			return false;
+		}
+		int i = 0;
+		int segment = 0;
+		boolean first = true;
+		for (; i < length; i++) {
+			char c = input.charAt(i);
+			if(c == '@') {
+				break;
+			}
+			if(c == '.') {
+				if(segment == 0) {
+					return false;
+				}
+				segment = 0;
+				first = false;
+			}else if(isWordCharacter(c) || c == '-' || (first && c == '+')) {
+				segment++;
+			}else {
+				return false;
+			}
+		}
+		if(i == length || segment == 0) {
+			return false;
+		}
+		// domain: first label may hold '-', middle labels are alphanumeric, the last one has two or more letters only
+		int labels = 0;
+		segment = 0;
+		boolean letters = true;
+		boolean hyphen = false;
+		for (i++; i < length; i++) {
+			char c = input.charAt(i);
+			if(c == '.') {
+				if(segment == 0 || (hyphen && labels > 0)) {
+					return false;
+				}
+				labels++;
+				segment = 0;
+				letters = true;
+				hyphen = false;
+			}else if(isLetter(c)) {
+				segment++;
+			}else if((c >= '0' && c <= '9') || c == '-') {
+				segment++;
+				letters = false;
+				hyphen |= c == '-';
+			}else {
+				return false;
+			}
+		}
+		return labels > 0 && segment >= MIN_TLD_LENGTH && letters;
+	}
+
+
+	/**
+	 * @return index after {@code http://} or {@code https://}, -1 if the input starts with neither.
+	 */
+	private static int scheme(final CharSequence input) {
+		int length = input.length();
+		if(length < 7 || input.charAt(0) != 'h' || input.charAt(1) != 't' || input.charAt(2) != 't' || input.charAt(3) != 'p') {
+			return -1;
+		}
+		int i = input.charAt(4) == 's' ? 5 : 4;
+		if(i + 3 > length || input.charAt(i) != ':' || input.charAt(i + 1) != '/' || input.charAt(i + 2) != '/') {
+			return -1;
+		}
+		return i + 3;
+	}
+
+	/**
+	 * matches {@code [a-z0-9]+([\-\.]{1}[a-z0-9]+)*\.[a-z]{2,5}(:[0-9]{1,5})?(\/.*)?} against the input from start to its end.
+	 * The host is the maximal run of {@code [a-z0-9.-]}, as neither {@code ':'} nor {@code '/'} can continue it.
+	 */
+	private static boolean isHostAndRest(final CharSequence input, final int start) {
+		int length = input.length();
+		int i = start;
+		int segment = 0;
+		int segments = 0;
+		boolean letters = true;
+		char separator = 0;
+		for (; i < length; i++) {
+			char c = input.charAt(i);
+			if(c == '.' || c == '-') {
+				if(segment == 0) {
+					return false;
+				}
+				segments++;
+				segment = 0;
+				letters = true;
+				separator = c;
+			}else if(c >= 'a' && c <= 'z') {
+				segment++;
+			}else if(c >= '0' && c <= '9') {
+				segment++;
+				letters = false;
+			}else {
+				break;
+			}
+		}
+		if(segments == 0 || separator != '.' || !letters || segment < MIN_TLD_LENGTH || segment > MAX_URL_TLD_LENGTH) {
+			return false;
+		}
+		if(i < length && input.charAt(i) == ':') {
+			int digits = 0;
+			for (i++; i < length && input.charAt(i) >= '0' && input.charAt(i) <= '9'; i++) {
+				digits++;
+			}
+			if(digits == 0 || digits > MAX_PORT_DIGITS) {
+				return false;
+			}
+		}
+		if(i == length) {
+			return true;
+		}
+		if(input.charAt(i) != '/') {
+			return false;
+		}
+		for (i++; i < length; i++) {
+			if(isLineTerminator(input.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return <b>true</b> for the characters {@code '.'} does not match without {@linkplain java.util.regex.Pattern#DOTALL}.
+	 */
+	private static boolean isLineTerminator(final char c) {
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+
+	private static boolean isLetter(final char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	/**
+	 * @return <b>true</b> for {@code [_A-Za-z0-9]}.
+	 */
+	private static boolean isWordCharacter(final char c) {
+		return isLetter(c) || (c >= '0' && c <= '9') || c == '_';
+	}
+
+}
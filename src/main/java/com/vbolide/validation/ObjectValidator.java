@@ -0,0 +1,606 @@
+package com.vbolide.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.vbolide.array.ArrayKind;
+import com.vbolide.exception.InvalidParameterException;
+import com.vbolide.validation.RegexValidationUtil.Regex;
+
+/**
+ * Validator of the fields of objects of one class, compiled once from annotations or a {@linkplain Builder}.
+ * <p>
+ * {@linkplain #of(Class)} reads the {@linkplain NotBlank}, {@linkplain NotEmpty}, {@linkplain MatchesRegex} and
+ * {@linkplain ValidURL} annotations of the fields and no argument methods of the class and its super classes the first time
+ * the class is seen, and caches the validator per {@linkplain Class} through a {@linkplain ClassValue}. Members are read
+ * by {@linkplain LambdaMetafactory} functions for public methods and {@linkplain MethodHandle} getters otherwise, so
+ * validating an object uses no reflection. Rules of one member stop at its first failure, {@linkplain #isValid(Object)}
+ * stops at the first failure of the object, and {@linkplain #validate(Object)} collects every failure as a
+ * {@linkplain Violation} without creating exceptions.
+ * <pre>
+ * class User {
+ *     &#64;NotBlank &#64;MatchesRegex(Regex.EMAIL_REGEX) String email;
+ *     &#64;ValidURL String homePage;
+ *     &#64;NotEmpty List&lt;String&gt; roles;
+ * }
+ * ValidationResult result = ObjectValidator.of(User.class).validate(user);
+ * </pre>
+ *
+ * @author Vamshi Byagari
+ * @param <T> type of the validated objects.
+ */
+public final class ObjectValidator<T> {
+
+	/**
+	 * the {@linkplain CharSequence} member is non null and not blank, see {@linkplain ValidationUtil#isValidString(String...)}.
+	 */
+	@Documented
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.FIELD, ElementType.METHOD})
+	public @interface NotBlank {}
+
+	/**
+	 * the {@linkplain CharSequence}, {@linkplain Collection}, {@linkplain Map} or array member is non null and not empty.
+	 */
+	@Documented
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.FIELD, ElementType.METHOD})
+	public @interface NotEmpty {}
+
+	/**
+	 * the {@linkplain CharSequence} member is non null and matches the {@linkplain Regex}, see {@linkplain Regex#matches(CharSequence)}.
+	 */
+	@Documented
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.FIELD, ElementType.METHOD})
+	public @interface MatchesRegex {
+		Regex value();
+	}
+
+	/**
+	 * the {@linkplain CharSequence} member is a valid url, see {@linkplain ValidationUtil#isValidURL(String)}.
+	 */
+	@Documented
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ElementType.FIELD, ElementType.METHOD})
+	public @interface ValidURL {}
+
+	/**
+	 * Rule a {@linkplain Violation} failed.
+     * <ul>
+     * <li>{@linkplain #NOT_BLANK}<br></li>
+     * <li>{@linkplain #NOT_EMPTY}<br></li>
+     * <li>{@linkplain #MATCHES_REGEX}<br></li>
+     * <li>{@linkplain #VALID_URL}<br></li>
+     * <li>{@linkplain #CUSTOM}<br></li>
+     * </ul>
+	 * @author Vamshi Byagari
+	 */
+	public enum Rule{
+		/**
+		 * {@linkplain NotBlank}
+		 */
+		NOT_BLANK("NotBlank"),
+
+		/**
+		 * {@linkplain NotEmpty}
+		 */
+		NOT_EMPTY("NotEmpty"),
+
+		/**
+		 * {@linkplain MatchesRegex}
+		 */
+		MATCHES_REGEX("MatchesRegex"),
+
+		/**
+		 * {@linkplain ValidURL}
+		 */
+		VALID_URL("ValidURL"),
+
+		/**
+		 * predicate of {@linkplain Builder#rule(String, Predicate)}
+		 */
+		CUSTOM("Custom");
+
+		public final String label;
+
+		private Rule(String label) {
+			this.label = label;
+		}
+	}
+
+	/**
+	 * failure of one rule of one member.
+	 */
+	public static final class Violation {
+
+		private final String member;
+		private final Rule rule;
+		private final Regex regex;
+
+		Violation(final String member, final Rule rule, final Regex regex) {
+			this.member = member;
+			this.rule = rule;
+			this.regex = regex;
+		}
+
+		/**
+		 * @return name of the field, method or builder rule.
+		 */
+		public String getMember() {
+			return member;
+		}
+
+		public Rule getRule() {
+			return rule;
+		}
+
+		/**
+		 * @return regex of a {@linkplain Rule#MATCHES_REGEX} violation, {@code null} otherwise.
+		 */
+		public Regex getRegex() {
+			return regex;
+		}
+
+		@Override
+		public String toString() {
+			return regex == null ? member + ": " + rule.label : member + ": " + rule.label + "(" + regex.name() + ")";
+		}
+	}
+
+	/**
+	 * violations of one validated object, in the order of the rules.
+	 */
+	public static final class ValidationResult {
+
+		private static final ValidationResult VALID = new ValidationResult(Collections.<Violation>emptyList());
+
+		private final List<Violation> violations;
+
+		private ValidationResult(final List<Violation> violations) {
+			this.violations = violations;
+		}
+
+		/**
+		 * @return <b>true</b> if no rule failed.
+		 */
+		public boolean isValid() {
+			return violations.isEmpty();
+		}
+
+		/**
+		 * @return unmodifiable list of the violations.
+		 */
+		public List<Violation> getViolations() {
+			return violations;
+		}
+
+		@Override
+		public String toString() {
+			return violations.toString();
+		}
+	}
+
+	/**
+	 * Fluent definition of the rules of an {@linkplain ObjectValidator}, an alternative to the annotations. Rules of the same
+	 * member name run together in the order they were added, each through its own getter, and stop at the first failure;
+	 * {@linkplain #rule(String, Predicate)} rules test the whole object and never join a member.
+	 *
+	 * @author Vamshi Byagari
+	 * @param <T> type of the validated objects.
+	 */
+	public static final class Builder<T> {
+
+		private final Class<T> type;
+		/**
+		 * checks per member name, every custom rule under a key of its own.
+		 */
+		private final Map<Object, List<Check>> checks = new LinkedHashMap<>();
+
+		private Builder(final Class<T> type) {
+			this.type = type;
+		}
+
+		/**
+		 * @param name member name reported by violations.
+		 * @param getter reads the member.
+		 * @return this builder.
+		 * @throws InvalidParameterException input parameters are invalid
+		 */
+		public Builder<T> notBlank(final String name, final Function<? super T, ? extends CharSequence> getter) throws InvalidParameterException{
+			return add(name, getter, Rule.NOT_BLANK, null, BulkValidationUtil.VALID_STRING);
+		}
+
+		/**
+		 * @param name member name reported by violations.
+		 * @param getter reads the member, a {@linkplain CharSequence}, {@linkplain Collection}, {@linkplain Map} or array.
+		 * @return this builder.
+		 * @throws InvalidParameterException input parameters are invalid
+		 */
+		public Builder<T> notEmpty(final String name, final Function<? super T, ?> getter) throws InvalidParameterException{
+			return add(name, getter, Rule.NOT_EMPTY, null, ObjectValidator::isNotEmpty);
+		}
+
+		/**
+		 * @param name member name reported by violations.
+		 * @param getter reads the member.
+		 * @param regex any one value from {@linkplain Regex}
+		 * @return this builder.
+		 * @throws InvalidParameterException input parameters are invalid
+		 */
+		public Builder<T> matches(final String name, final Function<? super T, ? extends CharSequence> getter, final Regex regex) throws InvalidParameterException{
+			if(regex == null) {
+				throw new InvalidParameterException("input parameter regex invalid");
+			}
+			return add(name, getter, Rule.MATCHES_REGEX, regex, regex.asPredicate());
+		}
+
+		/**
+		 * @param name member name reported by violations.
+		 * @param getter reads the member.
+		 * @return this builder.
+		 * @throws InvalidParameterException input parameters are invalid
+		 */
+		public Builder<T> validURL(final String name, final Function<? super T, ? extends CharSequence> getter) throws InvalidParameterException{
+			return add(name, getter, Rule.VALID_URL, null, ObjectValidator::isValidURL);
+		}
+
+		/**
+		 * @param name member name reported by violations.
+		 * @param rule thread-safe test of the whole object.
+		 * @return this builder.
+		 * @throws InvalidParameterException input parameters are invalid
+		 */
+		public Builder<T> rule(final String name, final Predicate<? super T> rule) throws InvalidParameterException{
+			if(rule == null) {
+				throw new InvalidParameterException("input parameter rule invalid");
+			}
+			return add(new Object(), name, Function.identity(), Rule.CUSTOM, null, rule);
+		}
+
+		/**
+		 * @return validator of the rules added so far.
+		 */
+		public ObjectValidator<T> build() {
+			List<Check> ordered = new ArrayList<>();
+			int group = 0;
+			for (List<Check> member : checks.values()) {
+				for (Check check : member) {
+					ordered.add(new Check(group, check.member, check.getter, check.rule, check.regex, check.test));
+				}
+				group++;
+			}
+			return new ObjectValidator<>(type, ordered.toArray(new Check[0]));
+		}
+
+		private Builder<T> add(final String name, final Function<? super T, ?> getter, final Rule rule, final Regex regex, final Predicate<?> test) throws InvalidParameterException{
+			return add(name, name, getter, rule, regex, test);
+		}
+
+		@SuppressWarnings("unchecked")
+		private Builder<T> add(final Object key, final String name, final Function<? super T, ?> getter, final Rule rule, final Regex regex, final Predicate<?> test) throws InvalidParameterException{
+			if(name == null || getter == null) {
+				throw new InvalidParameterException("input parameter name and/or getter invalid");
+			}
+			checks.computeIfAbsent(key, k -> new ArrayList<>()).add(new Check(0, name, (Function<Object, ?>) getter, rule, regex, (Predicate<Object>) test));
+			return this;
+		}
+	}
+
+	/**
+	 * one rule of one member, consecutive checks of the same group and getter share one read of the member.
+	 */
+	private static final class Check {
+
+		final int group;
+		final String member;
+		final Function<Object, ?> getter;
+		final Rule rule;
+		final Regex regex;
+		final Predicate<Object> test;
+
+		Check(final int group, final String member, final Function<Object, ?> getter, final Rule rule, final Regex regex, final Predicate<Object> test) {
+			this.group = group;
+			this.member = member;
+			this.getter = getter;
+			this.rule = rule;
+			this.regex = regex;
+			this.test = test;
+		}
+	}
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	/**
+	 * compiled validator, or the message of the annotation error, per class.
+	 */
+	private static final ClassValue<Object> VALIDATORS = new ClassValue<Object>() {
+		@Override
+		protected Object computeValue(final Class<?> type) {
+			try {
+				return compile(type);
+			}catch (InvalidParameterException e) {
+				return e.getMessage();
+			}
+		}
+	};
+
+	private final Class<T> type;
+	private final Check[] checks;
+
+	private ObjectValidator(final Class<T> type, final Check[] checks) {
+		this.type = type;
+		this.checks = checks;
+	}
+
+	/**
+	 * the validator of the annotated members of the class, compiled on first use.
+	 * @param <T> type of the validated objects.
+	 * @param type class of the validated objects.
+	 * @return thread-safe validator shared by all callers.
+	 * @throws InvalidParameterException input parameter is null, or an annotation is on a member of a type it does not support
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ObjectValidator<T> of(final Class<T> type) throws InvalidParameterException{
+		if(type == null) {
+			throw new InvalidParameterException("input parameter type invalid");
+		}
+		Object validator = VALIDATORS.get(type);
+		if(validator instanceof String) {
+			throw new InvalidParameterException((String) validator);
+		}
+		return (ObjectValidator<T>) validator;
+	}
+
+	/**
+	 * @param <T> type of the validated objects.
+	 * @param type class of the validated objects.
+	 * @return empty builder.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public static <T> Builder<T> builder(final Class<T> type) throws InvalidParameterException{
+		if(type == null) {
+			throw new InvalidParameterException("input parameter type invalid");
+		}
+		return new Builder<>(type);
+	}
+
+
+	public Class<T> getType() {
+		return type;
+	}
+
+	/**
+	 * validates the object, stopping at the first failed rule.
+	 * @param object object to validate.
+	 * @return <b>true</b> if every rule holds, <b>false</b> otherwise or if the object is {@code null}.
+	 */
+	public boolean isValid(final T object) {
+		if(object == null) {
+			return false;
+		}
+		int group = -1;
+		Function<Object, ?> getter = null;
+		Object value = null;
+		for (Check check : checks) {
+			if(check.group != group || check.getter != getter) {
+				group = check.group;
+				getter = check.getter;
+				value = getter.apply(object);
+			}
+			if(!check.test.test(value)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * validates the object, collecting the first failed rule of every member.
+	 * @param object object to validate.
+	 * @return violations of the object, none if it is valid.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public ValidationResult validate(final T object) throws InvalidParameterException{
+		if(object == null) {
+			throw new InvalidParameterException("input parameter object invalid");
+		}
+		List<Violation> violations = null;
+		int group = -1;
+		int failed = -1;
+		Function<Object, ?> getter = null;
+		Object value = null;
+		for (Check check : checks) {
+			if(check.group == failed) {
+				continue;
+			}
+			if(check.group != group || check.getter != getter) {
+				group = check.group;
+				getter = check.getter;
+				value = getter.apply(object);
+			}
+			if(!check.test.test(value)) {
+				if(violations == null) {
+					violations = new ArrayList<>();
+				}
+				violations.add(new Violation(check.member, check.rule, check.regex));
+				failed = check.group;
+			}
+		}
+		return violations == null ? ValidationResult.VALID : new ValidationResult(Collections.unmodifiableList(violations));
+	}
+
+
+	private static ObjectValidator<?> compile(final Class<?> type) throws InvalidParameterException{
+		List<Class<?>> hierarchy = new ArrayList<>();
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			hierarchy.add(0, current);
+		}
+		List<Check> checks = new ArrayList<>();
+		for (Class<?> current : hierarchy) {
+			for (Field field : current.getDeclaredFields()) {
+				if(!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+					compile(field, field.getType(), checks);
+				}
+			}
+			for (Method method : current.getDeclaredMethods()) {
+				if(!Modifier.isStatic(method.getModifiers()) && !method.isSynthetic() && !method.isBridge()) {
+					compile(method, method.getReturnType(), checks);
+				}
+			}
+		}
+		return new ObjectValidator<>(type, checks.toArray(new Check[0]));
+	}
+
+	private static <M extends AccessibleObject & Member> void compile(final M member, final Class<?> valueType, final List<Check> checks) throws InvalidParameterException{
+		NotBlank notBlank = member.getAnnotation(NotBlank.class);
+		NotEmpty notEmpty = member.getAnnotation(NotEmpty.class);
+		MatchesRegex matchesRegex = member.getAnnotation(MatchesRegex.class);
+		ValidURL validURL = member.getAnnotation(ValidURL.class);
+		if(notBlank == null && notEmpty == null && matchesRegex == null && validURL == null) {
+			return;
+		}
+		String name = member.getName();
+		if(member instanceof Method && (((Method) member).getParameterCount() != 0 || valueType == void.class)) {
+			throw new InvalidParameterException("annotated method " + name + " invalid, it must take no parameters and return a value");
+		}
+		boolean text = CharSequence.class.isAssignableFrom(valueType);
+		int group = checks.isEmpty() ? 0 : checks.get(checks.size() - 1).group + 1;
+		Function<Object, ?> getter = accessor(member);
+		if(notBlank != null) {
+			requireText(text, NotBlank.class, name);
+			checks.add(new Check(group, name, getter, Rule.NOT_BLANK, null, text(BulkValidationUtil.VALID_STRING)));
+		}
+		if(notEmpty != null) {
+			checks.add(new Check(group, name, getter, Rule.NOT_EMPTY, null, emptiness(valueType, name)));
+		}
+		if(matchesRegex != null) {
+			requireText(text, MatchesRegex.class, name);
+			checks.add(new Check(group, name, getter, Rule.MATCHES_REGEX, matchesRegex.value(), text(matchesRegex.value().asPredicate())));
+		}
+		if(validURL != null) {
+			requireText(text, ValidURL.class, name);
+			checks.add(new Check(group, name, getter, Rule.VALID_URL, null, ObjectValidator::isValidURL));
+		}
+	}
+
+	private static void requireText(final boolean text, final Class<?> annotation, final String name) throws InvalidParameterException{
+		if(!text) {
+			throw new InvalidParameterException("annotation " + annotation.getSimpleName() + " invalid on " + name + ", it requires a CharSequence");
+		}
+	}
+
+	private static Predicate<Object> text(final Predicate<? super CharSequence> test) {
+		return value -> test.test((CharSequence) value);
+	}
+
+	/**
+	 * @return emptiness test chosen by the declared type of the member, without type checks per object.
+	 */
+	private static Predicate<Object> emptiness(final Class<?> valueType, final String name) throws InvalidParameterException{
+		if(CharSequence.class.isAssignableFrom(valueType)) {
+			return value -> value != null && ((CharSequence) value).length() > 0;
+		}
+		if(Collection.class.isAssignableFrom(valueType)) {
+			return value -> value != null && !((Collection<?>) value).isEmpty();
+		}
+		if(Map.class.isAssignableFrom(valueType)) {
+			return value -> value != null && !((Map<?, ?>) value).isEmpty();
+		}
+		if(valueType.isArray()) {
+			ArrayKind kind = ArrayKind.of(valueType);
+			return value -> value != null && kind.length(value) > 0;
+		}
+		if(valueType == Object.class) {
+			return ObjectValidator::isNotEmpty;
+		}
+		throw new InvalidParameterException("annotation NotEmpty invalid on " + name + ", it requires a CharSequence, Collection, Map or array");
+	}
+
+	/**
+	 * @return emptiness test of a value of any type, other types than the supported ones are not empty when non null.
+	 */
+	private static boolean isNotEmpty(final Object value) {
+		if(value == null) {
+			return false;
+		}
+		if(value instanceof CharSequence) {
+			return ((CharSequence) value).length() > 0;
+		}
+		if(value instanceof Collection) {
+			return !((Collection<?>) value).isEmpty();
+		}
+		if(value instanceof Map) {
+			return !((Map<?, ?>) value).isEmpty();
+		}
+		ArrayKind kind = ArrayKind.of(value);
+		return kind == ArrayKind.NONE || kind.length(value) > 0;
+	}
+
+	private static boolean isValidURL(final Object value) {
+		return value != null && ValidationUtil.isValidURL(value.toString());
+	}
+
+	/**
+	 * @return getter of the member: a {@linkplain LambdaMetafactory} function for public methods of public classes, a
+	 * {@linkplain MethodHandle} otherwise.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Function<Object, ?> accessor(final Member member) throws InvalidParameterException{
+		try {
+			if(member instanceof Method) {
+				Method method = (Method) member;
+				if(Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+					try {
+						MethodHandle handle = LOOKUP.unreflect(method);
+						return (Function<Object, ?>) LambdaMetafactory.metafactory(LOOKUP, "apply", MethodType.methodType(Function.class),
+								MethodType.methodType(Object.class, Object.class), handle, handle.type().wrap()).getTarget().invoke();
+					}catch (Throwable e) {
+						// not linkable from this class loader or module, fall back to a method handle
+					}
+				}
+				method.setAccessible(true);
+				return function(LOOKUP.unreflect(method));
+			}
+			Field field = (Field) member;
+			field.setAccessible(true);
+			return function(LOOKUP.unreflectGetter(field));
+		}catch (IllegalAccessException | RuntimeException e) {
+			throw new InvalidParameterException("member " + member.getName() + " of " + member.getDeclaringClass().getName() + " invalid, it is not accessible");
+		}
+	}
+
+	private static Function<Object, ?> function(final MethodHandle getter) {
+		MethodHandle handle = getter.asType(MethodType.methodType(Object.class, Object.class));
+		return object -> {
+			try {
+				return (Object) handle.invokeExact(object);
+			}catch (RuntimeException | Error e) {
+				throw e;
+			}catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		};
+	}
+
+}
@@ -0,0 +1,462 @@
+package com.vbolide.validation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.vbolide.exception.InvalidParameterException;
+
+/**
+ * Bounded, concurrent cache of compiled user-defined regular expressions with a guard against catastrophic backtracking.
+ * <p>
+ * {@linkplain #register(String)} compiles a pattern once, later calls return the cached {@linkplain CompiledRegex}. When the
+ * cache is full a registration evicts the first pattern not used since the last sweep (second chance). Every pattern is
+ * checked at registration for nested unbounded quantifiers such as {@code (a+)+} or {@code (\w*\s?)*}, the usual cause of
+ * exponential backtracking; the check is conservative and also flags some safe patterns, so flagged patterns are rejected
+ * only by a registry created with {@code rejectBacktrackingProne}. Matches read the input through a {@linkplain CharSequence}
+ * wrapper that counts the characters the engine reads and gives up once the step budget is spent, the deadline passes or the
+ * thread is interrupted, so a bad pattern cannot stall the calling thread.
+ *
+ * @author Vamshi Byagari
+ */
+public class RegexRegistry {
+
+	/**
+	 * default number of cached patterns of {@linkplain #init()}.
+	 */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	/**
+	 * default number of characters a match of {@linkplain #init()} may read, about a millisecond of matching.
+	 */
+	public static final long DEFAULT_MAX_STEPS = 1_000_000L;
+
+	/**
+	 * steps between two checks of the deadline and the interrupt flag.
+	 */
+	private static final int CHECK_INTERVAL = 1 << 12;
+
+	private static final RegexRegistry SHARED = new RegexRegistry(DEFAULT_CAPACITY, DEFAULT_MAX_STEPS, 0, false);
+
+	/**
+	 * Result of {@linkplain CompiledRegex#match(CharSequence)}.
+     * <ul>
+     * <li>{@linkplain #MATCH}<br></li>
+     * <li>{@linkplain #NO_MATCH}<br></li>
+     * <li>{@linkplain #ABORTED}<br></li>
+     * </ul>
+	 * @author Vamshi Byagari
+	 */
+	public enum Outcome{
+		/**
+		 * the whole input matches.
+		 */
+		MATCH,
+
+		/**
+		 * the input does not match.
+		 */
+		NO_MATCH,
+
+		/**
+		 * the match ran out of steps or time, or the thread was interrupted.
+		 */
+		ABORTED
+	}
+
+	/**
+	 * Thread-safe compiled pattern of a {@linkplain RegexRegistry}, matched within the budget of the registry.
+	 *
+	 * @author Vamshi Byagari
+	 */
+	public static final class CompiledRegex {
+
+		private final Pattern pattern;
+		private final boolean backtrackingProne;
+		private final long maxSteps;
+		private final long timeoutNanos;
+
+		/**
+		 * set when used, cleared by eviction sweeps.
+		 */
+		private volatile boolean used = true;
+
+		CompiledRegex(final Pattern pattern, final boolean backtrackingProne, final long maxSteps, final long timeoutNanos) {
+			this.pattern = pattern;
+			this.backtrackingProne = backtrackingProne;
+			this.maxSteps = maxSteps;
+			this.timeoutNanos = timeoutNanos;
+		}
+
+		public Pattern getPattern() {
+			return pattern;
+		}
+
+		/**
+		 * @return <b>true</b> if the pattern has nested unbounded quantifiers.
+		 */
+		public boolean isBacktrackingProne() {
+			return backtrackingProne;
+		}
+
+		/**
+		 * matches the whole input within the budget.
+		 * @param input characters to match.
+		 * @return outcome of the match, {@linkplain Outcome#NO_MATCH} for a {@code null} input.
+		 */
+		public Outcome match(final CharSequence input) {
+			if(input == null) {
+				return Outcome.NO_MATCH;
+			}
+			used = true;
+			try {
+				return pattern.matcher(new BudgetedCharSequence(input, maxSteps, timeoutNanos)).matches() ? Outcome.MATCH : Outcome.NO_MATCH;
+			}catch (BudgetExceededException | StackOverflowError e) {
+				return Outcome.ABORTED;
+			}
+		}
+
+		/**
+		 * @param input characters to match.
+		 * @return <b>true</b> if the whole input matches within the budget, <b>false</b> otherwise.
+		 */
+		public boolean matches(final CharSequence input) {
+			return match(input) == Outcome.MATCH;
+		}
+
+		/**
+		 * @return thread-safe predicate of {@linkplain #matches(CharSequence)}.
+		 */
+		public Predicate<CharSequence> asPredicate() {
+			return this::matches;
+		}
+
+		@Override
+		public String toString() {
+			return pattern.pattern();
+		}
+	}
+
+	private final Map<String, CompiledRegex> patterns = new ConcurrentHashMap<>();
+	private final int capacity;
+	private final long maxSteps;
+	private final long timeoutNanos;
+	private final boolean rejectBacktrackingProne;
+
+	RegexRegistry(final int capacity, final long maxSteps, final long timeoutNanos, final boolean rejectBacktrackingProne) {
+		this.capacity = capacity;
+		this.maxSteps = maxSteps;
+		this.timeoutNanos = timeoutNanos;
+		this.rejectBacktrackingProne = rejectBacktrackingProne;
+	}
+
+	/**
+	 * creates an instance of {@linkplain RegexRegistry} of {@linkplain #DEFAULT_CAPACITY} patterns matched within
+	 * {@linkplain #DEFAULT_MAX_STEPS} steps, that accepts backtracking prone patterns.
+	 * @return {@linkplain RegexRegistry} instance.
+	 */
+	public static RegexRegistry init() {
+		return new RegexRegistry(DEFAULT_CAPACITY, DEFAULT_MAX_STEPS, 0, false);
+	}
+
+	/**
+	 * creates an instance of {@linkplain RegexRegistry}.
+	 * @param capacity maximum number of cached patterns.
+	 * @param maxSteps maximum number of characters a match may read.
+	 * @param timeoutNanos maximum duration of a match, 0 for none.
+	 * @param rejectBacktrackingProne <b>true</b> to refuse patterns with nested unbounded quantifiers.
+	 * @return {@linkplain RegexRegistry} instance.
+	 * @throws InvalidParameterException input parameters are invalid
+	 */
+	public static RegexRegistry init(final int capacity, final long maxSteps, final long timeoutNanos, final boolean rejectBacktrackingProne) throws InvalidParameterException{
+		if(capacity <= 0 || maxSteps <= 0 || timeoutNanos < 0) {
+			throw new InvalidParameterException("input parameter capacity, maxSteps and/or timeoutNanos invalid");
+		}
+		return new RegexRegistry(capacity, maxSteps, timeoutNanos, rejectBacktrackingProne);
+	}
+
+	/**
+	 * @return registry of {@linkplain RegexValidationUtil#isValid(String, String)}, configured like {@linkplain #init()}.
+	 */
+	public static RegexRegistry shared() {
+		return SHARED;
+	}
+
+
+	/**
+	 * compiles the pattern, or returns it from the cache.
+	 * @param regex regular expression.
+	 * @return thread-safe compiled pattern.
+	 * @throws InvalidParameterException regex is null, not a valid pattern, or backtracking prone in a registry that rejects them
+	 */
+	public CompiledRegex register(final String regex) throws InvalidParameterException{
+		if(regex == null) {
+			throw new InvalidParameterException("input parameter regex invalid");
+		}
+		CompiledRegex compiled = patterns.get(regex);
+		if(compiled != null) {
+			return compiled;
+		}
+		Pattern pattern;
+		try {
+			pattern = Pattern.compile(regex);
+		}catch (PatternSyntaxException e) {
+			throw new InvalidParameterException("input parameter regex invalid, " + e.getDescription());
+		}
+		boolean backtrackingProne = isBacktrackingProne(regex);
+		if(backtrackingProne && rejectBacktrackingProne) {
+			throw new InvalidParameterException("input parameter regex invalid, nested quantifiers may backtrack catastrophically");
+		}
+		if(patterns.size() >= capacity) {
+			evict();
+		}
+		compiled = new CompiledRegex(pattern, backtrackingProne, maxSteps, timeoutNanos);
+		CompiledRegex previous = patterns.putIfAbsent(regex, compiled);
+		return previous != null ? previous : compiled;
+	}
+
+	/**
+	 * @param input characters to match.
+	 * @param regex regular expression, registered on first use.
+	 * @return <b>true</b> if the whole input matches within the budget, <b>false</b> otherwise or if the input is {@code null}.
+	 * @throws InvalidParameterException see {@linkplain #register(String)}
+	 */
+	public boolean matches(final CharSequence input, final String regex) throws InvalidParameterException{
+		return register(regex).matches(input);
+	}
+
+	/**
+	 * @return number of cached patterns.
+	 */
+	public int size() {
+		return patterns.size();
+	}
+
+	public void clear() {
+		patterns.clear();
+	}
+
+	/**
+	 * removes the first pattern not used since the last sweep, clearing the used flags it passes.
+	 */
+	private void evict() {
+		for (int sweep = 0; sweep < 2; sweep++) {
+			Iterator<CompiledRegex> iterator = patterns.values().iterator();
+			while (iterator.hasNext()) {
+				CompiledRegex compiled = iterator.next();
+				if(!compiled.used) {
+					iterator.remove();
+					return;
+				}
+				compiled.used = false;
+			}
+		}
+	}
+
+	/**
+	 * finds groups repeated by {@code *}, {@code +} or {@code {n,m}} that contain such a quantifier themselves.
+	 * @param regex syntactically valid regular expression.
+	 * @return <b>true</b> if the pattern has nested unbounded quantifiers.
+	 */
+	static boolean isBacktrackingProne(final String regex) {
+		// per open group: whether its content holds a repeating quantifier
+		Deque<boolean[]> groups = new ArrayDeque<>();
+		boolean[] current = {false};
+		int length = regex.length();
+		int i = 0;
+		while (i < length) {
+			char c = regex.charAt(i);
+			if(c == '\\') {
+				char next = i + 1 < length ? regex.charAt(i + 1) : 0;
+				if(next == 'Q') {
+					int end = regex.indexOf("\\E", i + 2);
+					i = end < 0 ? length : end + 2;
+				}else if((next == 'p' || next == 'P') && i + 2 < length && regex.charAt(i + 2) == '{') {
+					i = regex.indexOf('}', i) + 1;
+				}else {
+					i += 2;
+				}
+			}else if(c == '[') {
+				i = skipClass(regex, i);
+			}else if(c == '(') {
+				groups.push(current);
+				current = new boolean[] {false};
+				i++;
+				continue;
+			}else if(c == ')') {
+				boolean inner = current[0];
+				current = groups.isEmpty() ? new boolean[] {false} : groups.pop();
+				i++;
+				int after = skipQuantifier(regex, i);
+				if(after > i && repeats(regex, i)) {
+					if(inner) {
+						return true;
+					}
+					current[0] = true;
+				}
+				current[0] |= inner;
+				i = after;
+				continue;
+			}else {
+				i++;
+			}
+			// quantifier of the atom just passed
+			int after = skipQuantifier(regex, i);
+			if(after > i && repeats(regex, i)) {
+				current[0] = true;
+			}
+			i = after;
+		}
+		return false;
+	}
+
+	/**
+	 * @return index after the character class starting at start.
+	 */
+	private static int skipClass(final String regex, final int start) {
+		int depth = 0;
+		int i = start;
+		int length = regex.length();
+		while (i < length) {
+			char c = regex.charAt(i);
+			if(c == '\\') {
+				i += 2;
+				continue;
+			}
+			if(c == '[') {
+				depth++;
+				// a ']' right after '[' or '[^' is a literal
+				if(i + 1 < length && regex.charAt(i + 1) == '^') {
+					i++;
+				}
+				if(i + 1 < length && regex.charAt(i + 1) == ']') {
+					i++;
+				}
+			}else if(c == ']' && --depth == 0) {
+				return i + 1;
+			}
+			i++;
+		}
+		return length;
+	}
+
+	/**
+	 * @return index after the quantifier at start, with its lazy or possessive suffix, start if there is none.
+	 */
+	private static int skipQuantifier(final String regex, final int start) {
+		int length = regex.length();
+		if(start >= length) {
+			return start;
+		}
+		char c = regex.charAt(start);
+		int i;
+		if(c == '*' || c == '+' || c == '?') {
+			i = start + 1;
+		}else if(c == '{') {
+			int end = regex.indexOf('}', start);
+			if(end < 0) {
+				return start;
+			}
+			i = end + 1;
+		}else {
+			return start;
+		}
+		if(i < length && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * @return <b>true</b> if the quantifier at start may repeat its atom more than once.
+	 */
+	private static boolean repeats(final String regex, final int start) {
+		char c = regex.charAt(start);
+		if(c == '*' || c == '+') {
+			return true;
+		}
+		if(c != '{') {
+			return false;
+		}
+		int end = regex.indexOf('}', start);
+		int comma = regex.indexOf(',', start);
+		if(comma < 0 || comma > end) {
+			return false;
+		}
+		if(comma + 1 == end) {
+			return true;
+		}
+		try {
+			return Integer.parseInt(regex.substring(comma + 1, end).trim()) > 1;
+		}catch (NumberFormatException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * thrown by {@linkplain BudgetedCharSequence} to abort a match, without a stack trace.
+	 */
+	private static final class BudgetExceededException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		BudgetExceededException() {
+			super(null, null, false, false);
+		}
+	}
+
+	/**
+	 * view of the input that aborts the match reading it once the budget is spent.
+	 */
+	private static final class BudgetedCharSequence implements CharSequence {
+
+		private final CharSequence source;
+		private final long deadline;
+		private final boolean timed;
+		private long steps;
+		private int check;
+
+		BudgetedCharSequence(final CharSequence source, final long maxSteps, final long timeoutNanos) {
+			this.source = source;
+			this.steps = maxSteps;
+			this.timed = timeoutNanos > 0;
+			this.deadline = timed ? System.nanoTime() + timeoutNanos : 0;
+			this.check = CHECK_INTERVAL;
+		}
+
+		@Override
+		public char charAt(final int index) {
+			if(--steps < 0) {
+				throw new BudgetExceededException();
+			}
+			if(--check == 0) {
+				check = CHECK_INTERVAL;
+				if(Thread.currentThread().isInterrupted() || (timed && System.nanoTime() - deadline > 0)) {
+					throw new BudgetExceededException();
+				}
+			}
+			return source.charAt(index);
+		}
+
+		@Override
+		public int length() {
+			return source.length();
+		}
+
+		@Override
+		public CharSequence subSequence(final int start, final int end) {
+			return source.subSequence(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return source.toString();
+		}
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.vbolide.validation;
 
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 import com.vbolide.exception.InvalidParameterException;
@@ -13,6 +14,12 @@ public class RegexValidationUtil {
 
 	/**
 	 * contains most commonly used regular expressions.
+	 * <p>
+	 * Every constant carries a thread-safe matcher built once: rules that are a single character class are checked by a
+	 * scanner over the characters that allocates nothing, {@linkplain #EMAIL_REGEX} by the single pass
+	 * {@linkplain LinearValidationUtil#isValidEmail(CharSequence)}. The matchers accept exactly the inputs for which
+	 * {@code Pattern.compile(label).matcher(input).matches()} is <b>true</b>, emails only up to
+	 * {@linkplain LinearValidationUtil#MAX_EMAIL_LENGTH} characters.
 	 * 
      * <ul>
      * <li>{@linkplain Regex#EMAIL_REGEX}<br></li>
@@ -32,70 +39,91 @@ public class RegexValidationUtil {
 	public enum Regex{
 
 		/**
-		 * {@linkplain RegexValidationUtil#isValid(String, Regex)} uses email validation regular expression pattern
+		 * {@linkplain RegexValidationUtil#isValid(String, Regex)} uses email validation, in linear time, of the regular expression pattern
 		 * {@code ^[_A-Za-z0-9-\\+]+(\\.[_A-Za-z0-9-]+)*@[A-Za-z0-9-]+(\\.[A-Za-z0-9]+)*(\\.[A-Za-z]{2,})$}
 		 */
-		EMAIL_REGEX("^[_A-Za-z0-9-\\+]+(\\.[_A-Za-z0-9-]+)*@[A-Za-z0-9-]+(\\.[A-Za-z0-9]+)*(\\.[A-Za-z]{2,})$"),
+		EMAIL_REGEX("^[_A-Za-z0-9-\\+]+(\\.[_A-Za-z0-9-]+)*@[A-Za-z0-9-]+(\\.[A-Za-z0-9]+)*(\\.[A-Za-z]{2,})$", LinearValidationUtil::isValidEmail),
 		
 		/**
 		 * {@linkplain RegexValidationUtil#isValid(String, Regex)} uses white space validation regular expression pattern
 		 * {@code \\s}
 		 */
-		WHITE_SPACE_REGEX("\\s"),
+		WHITE_SPACE_REGEX("\\s", Matchers.characters(" \t\n\u000B\f\r", 1, 1)),
 		
 		/**
 		 * {@linkplain RegexValidationUtil#isValid(String, Regex)} uses white space, tab, new line, carriage return and form feed validation regular expression pattern
 		 * {@code [ \t\n\r\f]+}
 		 */
-		WHITE_SPACE_AND_OTHER_REGEX("[ \t\n\r\f]+"),
+		WHITE_SPACE_AND_OTHER_REGEX("[ \t\n\r\f]+", Matchers.characters(" \t\n\r\f", 1, Integer.MAX_VALUE)),
 		
 		/**
 		 * {@linkplain RegexValidationUtil#isValid(String, Regex)} uses lower-case characters validation regular expression pattern
 		 * {@code ^[a-z]*$}
 		 */
-		LOWERCASE_REGEX("^[a-z]*$"),
+		LOWERCASE_REGEX("^[a-z]*$", Matchers.characters("a-z", 0, Integer.MAX_VALUE)),
 		
 		/**
 		 * {@linkplain RegexValidationUtil#isValid(String, Regex)} uses upper-case characters validation regular expression pattern
 		 * {@code ^[A-Z]*$}
 		 */
-		UPPERCASE_REGEX("^[A-Z]*$"),
+		UPPERCASE_REGEX("^[A-Z]*$", Matchers.characters("A-Z", 0, Integer.MAX_VALUE)),
 		
 		/**
 		 * {@linkplain RegexValidationUtil#isValid(String, Regex)} uses numeric and lower-case characters validation regular expression pattern
 		 * {@code ^[a-z0-9]*$}
 		 */
-		NUMERIC_LOWECASE_REGEX("^[a-z0-9]*$"),
+		NUMERIC_LOWECASE_REGEX("^[a-z0-9]*$", Matchers.characters("a-z0-9", 0, Integer.MAX_VALUE)),
 		
 		/**
 		 * {@linkplain RegexValidationUtil#isValid(String, Regex)} uses numeric and upper-case characters validation regular expression pattern
 		 * {@code ^[A-Z0-9]*$}
 		 */
-		NUMERIC_UPPERCASE_REGEX("^[A-Z0-9]*$"),
+		NUMERIC_UPPERCASE_REGEX("^[A-Z0-9]*$", Matchers.characters("A-Z0-9", 0, Integer.MAX_VALUE)),
 		
 		/**
 		 * {@linkplain RegexValidationUtil#isValid(String, Regex)} uses alpha numeric validation regular expression pattern
 		 * {@code ^[a-zA-Z0-9]*$}
 		 */
-		APLHA_NUMERIC_REGEX("^[a-zA-Z0-9]*$"),
+		APLHA_NUMERIC_REGEX("^[a-zA-Z0-9]*$", Matchers.characters("a-zA-Z0-9", 0, Integer.MAX_VALUE)),
 
 		/**
 		 * {@linkplain RegexValidationUtil#isValid(String, Regex)} uses indian mobile number validation regular expression pattern
 		 * {@code [6789]{1}[0-9]{9}}
 		 */
-		INDIAN_MOBILE_REGEX("[6789]{1}[0-9]{9}"),
+		INDIAN_MOBILE_REGEX("[6789]{1}[0-9]{9}", Matchers.indianMobile()),
 
 		/**
 		 * {@linkplain RegexValidationUtil#isValid(String, Regex)} uses number validation regular expression pattern
 		 * {@code ^[0-9]*$}
 		 */
-		NUMERIC_REGEX("^[0-9]*$");
+		NUMERIC_REGEX("^[0-9]*$", Matchers.characters("0-9", 0, Integer.MAX_VALUE));
 
 
 		public final String label;
 
-		private Regex(String label) {
+		private final Predicate<CharSequence> matcher;
+
+		/**
+		 * @param matcher hand-written matcher of the label language, {@code null} to use the compiled label.
+		 */
+		private Regex(String label, Predicate<CharSequence> matcher) {
 			this.label = label;
+			this.matcher = matcher != null ? matcher : Matchers.compiled(label);
+		}
+
+		/**
+		 * @param input characters to validate.
+		 * @return <b>true</b> if the whole input matches the rule, <b>false</b> otherwise or if the input is {@code null}.
+		 */
+		public boolean matches(final CharSequence input) {
+			return input != null && matcher.test(input);
+		}
+
+		/**
+		 * @return thread-safe predicate of {@linkplain #matches(CharSequence)}.
+		 */
+		public Predicate<CharSequence> asPredicate() {
+			return this::matches;
 		}
 	}
 
@@ -103,14 +131,104 @@ public class RegexValidationUtil {
 	 * validates the input {@linkplain String} with respect to {@linkplain Regex}.
 	 * @param input instance of {@linkplain String} that should be validated.
 	 * @param regex any one value from {@linkplain Regex}
-	 * @return the validation results either <b>true</b> or <b>false</b>.
+	 * @return the validation results either <b>true</b> or <b>false</b>, <b>false</b> for a {@code null} input.
 	 * @throws InvalidParameterException input parameters are invalid
+	 * @see Regex#matches(CharSequence)
+	 * @see ValidationCache#of(Regex)
 	 */
 	public static boolean isValid(final String input, final Regex regex) throws InvalidParameterException{
 		if(regex == null) {
 			throw new InvalidParameterException("invalid input parameter");
 		}
-		return Pattern.compile(regex.label).matcher(input).matches();
+		return input != null && ValidationCache.cache(regex).isValid(input);
+	}
+
+
+	/**
+	 * validates the input {@linkplain String} with respect to a user-defined regular expression, compiled once and cached by
+	 * {@linkplain RegexRegistry#shared()}. The match is aborted, and the input invalid, once it has read
+	 * {@linkplain RegexRegistry#DEFAULT_MAX_STEPS} characters.
+	 * @param input instance of {@linkplain String} that should be validated.
+	 * @param regex regular expression the whole input should match.
+	 * @return the validation results either <b>true</b> or <b>false</b>, <b>false</b> for a {@code null} input.
+	 * @throws InvalidParameterException regex is null or not a valid pattern
+	 * @see RegexRegistry#register(String)
+	 */
+	public static boolean isValid(final String input, final String regex) throws InvalidParameterException{
+		return RegexRegistry.shared().matches(input, regex);
+	}
+
+	/**
+	 * factories of the {@linkplain Regex} matchers.
+	 */
+	private static final class Matchers {
+
+		private Matchers() {}
+
+		/**
+		 * @return matcher of a precompiled pattern, {@linkplain Pattern} is thread-safe and only the {@linkplain java.util.regex.Matcher} is per call.
+		 */
+		static Predicate<CharSequence> compiled(final String regex) {
+			Pattern pattern = Pattern.compile(regex);
+			return input -> pattern.matcher(input).matches();
+		}
+
+		/**
+		 * @param characters ASCII characters and ranges like {@code a-z} of the class.
+		 * @param minLength least number of characters.
+		 * @param maxLength largest number of characters.
+		 * @return matcher of inputs made of minLength to maxLength characters of the class.
+		 */
+		static Predicate<CharSequence> characters(final String characters, final int minLength, final int maxLength) {
+			boolean[] table = table(characters);
+			return input -> {
+				int length = input.length();
+				if(length < minLength || length > maxLength) {
+					return false;
+				}
+				for (int i = 0; i < length; i++) {
+					char c = input.charAt(i);
+					if(c >= table.length || !table[c]) {
+						return false;
+					}
+				}
+				return true;
+			};
+		}
+
+		/**
+		 * @return matcher of {@code [6789]{1}[0-9]{9}}.
+		 */
+		static Predicate<CharSequence> indianMobile() {
+			return input -> {
+				if(input.length() != 10 || input.charAt(0) < '6' || input.charAt(0) > '9') {
+					return false;
+				}
+				for (int i = 1; i < 10; i++) {
+					char c = input.charAt(i);
+					if(c < '0' || c > '9') {
+						return false;
+					}
+				}
+				return true;
+			};
+		}
+
+		private static boolean[] table(final String characters) {
+			boolean[] table = new boolean[128];
+			for (int i = 0; i < characters.length(); i++) {
+				char first = characters.charAt(i);
+				char last = first;
+				if(i + 2 < characters.length() && characters.charAt(i + 1) == '-') {
+					last = characters.charAt(i + 2);
+					i += 2;
+				}
+				for (char c = first; c <= last; c++) {
+					table[c] = true;
+				}
+			}
+			return table;
+		}
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,207 @@
+package com.vbolide.validation;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import com.vbolide.exception.InvalidParameterException;
+import com.vbolide.validation.RegexValidationUtil.Regex;
+
+/**
+ * Optional memo cache of the results of one validation rule, consulted by {@linkplain RegexValidationUtil#isValid(String, Regex)}
+ * (one cache per {@linkplain Regex}) and {@linkplain ValidationUtil#isValidURL(String)}.
+ * <p>
+ * Every cache starts disabled, so validations run the rule directly. {@linkplain #enable(int)} gives the rule a
+ * 2-way set associative table of immutable entries: a lookup hashes the input and compares it with the two entries of
+ * its set, a miss validates the input and stores it in an empty way or in place of one of the entries. Writes of
+ * concurrent misses race harmlessly, the last one wins. Inputs longer than {@linkplain #MAX_INPUT_LENGTH} characters
+ * are validated without caching, which bounds the memory of a cache to its capacity times that length.
+ *
+ * @author Vamshi Byagari
+ */
+public final class ValidationCache {
+
+	/**
+	 * longer inputs are never cached.
+	 */
+	public static final int MAX_INPUT_LENGTH = 256;
+
+	private static final ValidationCache[] REGEX_CACHES = new ValidationCache[Regex.values().length];
+
+	static {
+		for (Regex regex : Regex.values()) {
+			REGEX_CACHES[regex.ordinal()] = new ValidationCache(regex.name(), regex.asPredicate());
+		}
+	}
+
+	private static final ValidationCache URL_CACHE = new ValidationCache("URL", LinearValidationUtil::isValidURL);
+
+	/**
+	 * cached result of one input.
+	 */
+	private static final class Entry {
+
+		final String input;
+		final boolean valid;
+
+		Entry(final String input, final boolean valid) {
+			this.input = input;
+			this.valid = valid;
+		}
+	}
+
+	private final String name;
+	private final Predicate<CharSequence> rule;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * slots of the enabled cache, {@code null} while disabled.
+	 */
+	private volatile AtomicReferenceArray<Entry> slots;
+
+	private ValidationCache(final String name, final Predicate<CharSequence> rule) {
+		this.name = name;
+		this.rule = rule;
+	}
+
+	/**
+	 * @param regex any one value from {@linkplain Regex}
+	 * @return cache of the regex rule.
+	 * @throws InvalidParameterException input parameter is null
+	 */
+	public static ValidationCache of(final Regex regex) throws InvalidParameterException{
+		if(regex == null) {
+			throw new InvalidParameterException("input parameter regex invalid");
+		}
+		return REGEX_CACHES[regex.ordinal()];
+	}
+
+	/**
+	 * @return cache of {@linkplain ValidationUtil#isValidURL(String)}.
+	 */
+	public static ValidationCache url() {
+		return URL_CACHE;
+	}
+
+	/**
+	 * cache of the regex rule, for callers that already checked the regex.
+	 */
+	static ValidationCache cache(final Regex regex) {
+		return REGEX_CACHES[regex.ordinal()];
+	}
+
+
+	/**
+	 * @return name of the rule, the {@linkplain Regex} constant name or {@code URL}.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * enables the cache with empty slots and reset statistics, replacing the slots of an enabled cache.
+	 * @param capacity number of slots, at least 2, rounded up to a power of two.
+	 * @throws InvalidParameterException input parameter invalid
+	 */
+	public void enable(final int capacity) throws InvalidParameterException{
+		if(capacity < 2 || capacity > (1 << 24)) {
+			throw new InvalidParameterException("input parameter capacity invalid");
+		}
+		hits.reset();
+		misses.reset();
+		int size = Integer.highestOneBit(capacity);
+		slots = new AtomicReferenceArray<>(size < capacity ? size << 1 : size);
+	}
+
+	/**
+	 * disables the cache and releases its slots, later validations run the rule directly.
+	 */
+	public void disable() {
+		slots = null;
+	}
+
+	public boolean isEnabled() {
+		return slots != null;
+	}
+
+	/**
+	 * @return number of slots, 0 while disabled.
+	 */
+	public int getCapacity() {
+		AtomicReferenceArray<Entry> current = slots;
+		return current == null ? 0 : current.length();
+	}
+
+	/**
+	 * empties the slots of an enabled cache, keeping its statistics.
+	 */
+	public void clear() {
+		AtomicReferenceArray<Entry> current = slots;
+		if(current != null) {
+			for (int i = 0; i < current.length(); i++) {
+				current.set(i, null);
+			}
+		}
+	}
+
+	/**
+	 * @return validations answered from the cache since it was enabled.
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return validations of cacheable inputs that ran the rule since the cache was enabled.
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return hits divided by lookups, 0 before the first lookup.
+	 */
+	public double getHitRate() {
+		long hit = hits.sum();
+		long lookups = hit + misses.sum();
+		return lookups == 0 ? 0 : (double) hit / lookups;
+	}
+
+	/**
+	 * validates the input with the rule, through the cache when it is enabled.
+	 * @param input non null input.
+	 * @return result of the rule.
+	 */
+	boolean isValid(final String input) {
+		AtomicReferenceArray<Entry> current = slots;
+		if(current == null || input.length() > MAX_INPUT_LENGTH) {
+			return rule.test(input);
+		}
+		// the top 24 bits of the mixed hash pick the set (bits 41 and up) and the way to replace (bit 40)
+		int hash = (int) ((input.hashCode() * 0x9E3779B97F4A7C15L) >>> 40);
+		int index = hash & (current.length() - 2);
+		Entry first = current.get(index);
+		if(first != null && first.input.equals(input)) {
+			hits.increment();
+			return first.valid;
+		}
+		Entry second = current.get(index + 1);
+		if(second != null && second.input.equals(input)) {
+			hits.increment();
+			return second.valid;
+		}
+		misses.increment();
+		boolean valid = rule.test(input);
+		// fill an empty way, otherwise replace the way chosen by a hash bit
+		int way = first == null ? 0 : second == null ? 1 : hash & 1;
+		current.lazySet(index + way, new Entry(input, valid));
+		return valid;
+	}
+
+	@Override
+	public String toString() {
+		return name + (isEnabled() ? "[capacity=" + getCapacity() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + "]" : "[disabled]");
+	}
+
+}
@@ -16,7 +16,38 @@ public class ValidationUtil {
 	 */
 	public static final String VALID_URL_REGEX = "^(https?:\\/\\/)(www.)?[a-z0-9]+([\\-\\.]{1}[a-z0-9]+)*\\.[a-z]{2,5}(:[0-9]{1,5})?(\\/.*)?$";
 
-	private static final String EMPTY_STRING = "";
+	/**
+	 * Checks the {@linkplain String}s validity, without allocating.
+	 * @param first {@linkplain String} to check.
+	 * @param second {@linkplain String} to check.
+	 * @return true if all the strings are non null and not blank otherwise false.
+	 */
+	public static boolean isValidString(final String first, final String second) {
+		return hasText(first) && hasText(second);
+	}
+
+	/**
+	 * Checks the {@linkplain String}s validity, without allocating.
+	 * @param first {@linkplain String} to check.
+	 * @param second {@linkplain String} to check.
+	 * @param third {@linkplain String} to check.
+	 * @return true if all the strings are non null and not blank otherwise false.
+	 */
+	public static boolean isValidString(final String first, final String second, final String third) {
+		return hasText(first) && hasText(second) && hasText(third);
+	}
+
+	/**
+	 * Checks the {@linkplain String}s validity, without allocating.
+	 * @param first {@linkplain String} to check.
+	 * @param second {@linkplain String} to check.
+	 * @param third {@linkplain String} to check.
+	 * @param fourth {@linkplain String} to check.
+	 * @return true if all the strings are non null and not blank otherwise false.
+	 */
+	public static boolean isValidString(final String first, final String second, final String third, final String fourth) {
+		return hasText(first) && hasText(second) && hasText(third) && hasText(fourth);
+	}
 
 	/**
 	 * Checks the {@linkplain String}(s) validity.
@@ -31,16 +62,74 @@ public class ValidationUtil {
      *     true if all the strings are non null and not empty otherwise false.
      * </li>
      * </ul>
+     * false for a {@code null} array.
+	 * @see #hasText(CharSequence) the same check for one {@linkplain String}, without the varargs array.
 	 */
 	public static boolean isValidString(final String... strings) {
+		if(strings == null) {
+			return false;
+		}
 		for (String string : strings) {
-			if(string == null || string.isEmpty() || EMPTY_STRING.equals(string.trim())) {
+			if(!hasText(string)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the characters are blank like {@code string.trim().isEmpty()}, by a scan that does not allocate.
+	 * @param input characters to check.
+	 * @return true if null, empty or only made of characters up to {@code ' '} otherwise false.
+	 */
+	public static boolean isBlank(final CharSequence input) {
+		if(input == null) {
+			return true;
+		}
+		int length = input.length();
+		for (int i = 0; i < length; i++) {
+			if(input.charAt(i) > ' ') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the characters are blank, by a scan that does not allocate.
+	 * @param input characters to check.
+	 * @param unicode true to also treat Unicode white space as blank, see {@linkplain Character#isWhitespace(int)} and
+	 * {@linkplain Character#isSpaceChar(int)} (no-break spaces included).
+	 * @return true if null, empty or only made of blank characters otherwise false.
+	 */
+	public static boolean isBlank(final CharSequence input, final boolean unicode) {
+		if(!unicode || input == null) {
+			return isBlank(input);
+		}
+		int length = input.length();
+		for (int i = 0; i < length;) {
+			int codePoint = Character.codePointAt(input, i);
+			if(codePoint > ' ' && !isUnicodeBlank(codePoint)) {
 				return false;
 			}
+			i += Character.charCount(codePoint);
 		}
 		return true;
 	}
 
+	/**
+	 * Checks whether the characters hold text, the negation of {@linkplain #isBlank(CharSequence)}.
+	 * @param input characters to check.
+	 * @return true if non null and not blank otherwise false.
+	 */
+	public static boolean hasText(final CharSequence input) {
+		return !isBlank(input);
+	}
+
+	private static boolean isUnicodeBlank(final int codePoint) {
+		return Character.isWhitespace(codePoint) || Character.isSpaceChar(codePoint);
+	}
+
 	/**
 	 * Checks the {@linkplain List}(s) validity.
 	 * @param lists variable arguments of {@linkplain List}
@@ -326,12 +415,13 @@ public class ValidationUtil {
 
 
 	/**
-	 * Checks the validity of the url.
+	 * Checks the validity of the url against {@linkplain #VALID_URL_REGEX} in a single pass, see {@linkplain LinearValidationUtil#isValidURL(CharSequence)}.
 	 * @param input string url.
-	 * @return <b>true</b> if valid <b>flase</b> otherwise.
+	 * @return <b>true</b> if valid <b>flase</b> otherwise, urls longer than {@linkplain LinearValidationUtil#MAX_URL_LENGTH} are invalid.
+	 * @see ValidationCache#url()
 	 */
 	public static boolean isValidURL(final String input) {
-		return isValidString(input) && input.matches(VALID_URL_REGEX);
+		return isValidString(input) && ValidationCache.url().isValid(input);
 	}
 	
 }
\ No newline at end of file